@@ -1,11 +1,25 @@
 package edu.jhu.algos;
 
+import edu.jhu.algos.algorithms.MatrixMultiplier;
+import edu.jhu.algos.algorithms.MortonStrassenMultiplication;
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.OutOfCoreMultiplication;
+import edu.jhu.algos.algorithms.RecursiveMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.algorithms.WinogradStrassenMultiplication;
 import edu.jhu.algos.compare.ComparisonDriver;
 import edu.jhu.algos.compare.ComparisonDriver.ComparisonResult;
-import edu.jhu.algos.utils.DebugConfig;
+import edu.jhu.algos.operations.ArrayKernels;
+import edu.jhu.algos.tuning.CrossoverTuner;
+import edu.jhu.algos.tuning.TuningProfile;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.Tracer;
 import edu.jhu.algos.visualization.GraphGenerator;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Main entry point for running matrix multiplication performance analysis.
@@ -16,12 +30,30 @@ import java.io.File;
  *   - `java -jar MatrixMultiplication.jar input.txt --plot` → Runs with default plot filename.
  *   - `java -jar MatrixMultiplication.jar input.txt --plot-output my_graph.png` → Custom plot file.
  *   - `java -jar MatrixMultiplication.jar input.txt --debug --plot` → Runs everything with debug and plot.
+ *   - `java -jar MatrixMultiplication.jar input.txt --trace 1000` → Debug output plus every 1000th kernel loop event.
+ *   - `java -jar MatrixMultiplication.jar input.txt --cutoff 64` → Strassen switches to the iterative kernel at 64x64.
+ *   - `java -jar MatrixMultiplication.jar input.txt --tune` → Finds this host's Strassen cutoff and saves it.
+ *   - `java -jar MatrixMultiplication.jar input.txt --phases` → Adds Strassen's split / add-subtract / recursion /
+ *     combine / merge time breakdown to the performance table (sequential Strassen only).
+ *   - `java -jar MatrixMultiplication.jar input.txt --counting analytic` → Kernels count nothing; each algorithm
+ *     reports its closed-form multiplication count (`sampled`, the default, counts per block; `off` counts nothing).
+ *   - `java -jar MatrixMultiplication.jar input.txt --parallel-depth 2` → Forks Strassen's 7 sub-products on the top 2 levels.
+ *   - `java -jar MatrixMultiplication.jar input.txt --algorithm winograd` → Compares Naive against Winograd-Strassen.
+ *   - `java -jar MatrixMultiplication.jar input.txt --algorithm morton --cutoff 32` → Compares Naive against
+ *     Strassen on Morton (Z-order) storage with leaf blocks of at most 32.
+ *   - `java -jar MatrixMultiplication.jar input.txt --baseline recursive` → Compares Strassen against the
+ *     cache-oblivious recursive O(n³) kernel instead of Naive.
+ *   - `java -jar MatrixMultiplication.jar input.txt --algorithm out-of-core --tile 256` → Compares Naive against
+ *     Strassen run tile by tile over memory-mapped tile files.
+ * <p>
+ * Without `--cutoff`, the cutoff saved by a previous `--tune` run (see {@link TuningProfile#defaultPath()})
+ * is used when it was measured on a matching host.
  */
 public class Main {
 
     public static void main(String[] args) {
         if (args.length < 1) {
-            System.err.println("Usage: java -jar MatrixMultiplication.jar <input.txt> [--output <file>] [--plot] [--plot-output <file>] [--debug]");
+            System.err.println("Usage: java -jar MatrixMultiplication.jar <input.txt> [--output <file>] [--plot] [--plot-output <file>] [--debug] [--trace <n>] [--cutoff <n>] [--tune] [--phases] [--counting analytic|sampled|off] [--parallel-depth <d>] [--algorithm strassen|winograd|morton|out-of-core] [--tile <n>] [--baseline naive|recursive]");
             System.exit(1);
         }
 
@@ -29,7 +61,16 @@ public class Main {
         String outputFile = null;
         String plotFile = null;
         boolean enableDebug = false;
+        int traceSample = 0; // 0 => no per-iteration tracing, n => trace every nth kernel event
         boolean generatePlot = false;
+        Integer strassenCutoff = null; // null => use the tuned profile or the default
+        boolean runTuner = false;
+        int parallelDepth = 0; // 0 => sequential Strassen
+        boolean phaseTiming = false; // Break Strassen's time down by phase
+        PerformanceMetrics.CountingMode countingMode = PerformanceMetrics.CountingMode.SAMPLED;
+        String algorithm = "strassen"; // Algorithm compared against Naive
+        int tileSize = OutOfCoreMultiplication.DEFAULT_TILE; // Tile edge of the out-of-core files
+        String baseline = "naive"; // Classical algorithm the selected one is compared against
 
         // Process optional flags
         for (int i = 1; i < args.length; i++) {
@@ -56,6 +97,82 @@ public class Main {
                         System.exit(1);
                     }
                     break;
+                case "--tune":
+                    runTuner = true;
+                    break;
+                case "--cutoff":
+                    if (i + 1 < args.length) {
+                        strassenCutoff = parsePositiveInt(args[++i], "--cutoff");
+                    } else {
+                        System.err.println("Error: --cutoff requires a block size.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--parallel-depth":
+                    if (i + 1 < args.length) {
+                        parallelDepth = parseNonNegativeInt(args[++i], "--parallel-depth");
+                    } else {
+                        System.err.println("Error: --parallel-depth requires a recursion depth.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--algorithm":
+                    if (i + 1 < args.length) {
+                        algorithm = args[++i].toLowerCase();
+                        if (!algorithm.equals("strassen") && !algorithm.equals("winograd")
+                                && !algorithm.equals("morton") && !algorithm.equals("out-of-core")) {
+                            System.err.println("Error: --algorithm must be 'strassen', 'winograd', 'morton' or 'out-of-core'.");
+                            System.exit(1);
+                        }
+                    } else {
+                        System.err.println("Error: --algorithm requires a name.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--baseline":
+                    if (i + 1 < args.length) {
+                        baseline = args[++i].toLowerCase();
+                        if (!baseline.equals("naive") && !baseline.equals("recursive")) {
+                            System.err.println("Error: --baseline must be 'naive' or 'recursive'.");
+                            System.exit(1);
+                        }
+                    } else {
+                        System.err.println("Error: --baseline requires a name.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--phases":
+                    phaseTiming = true;
+                    break;
+                case "--counting":
+                    if (i + 1 < args.length) {
+                        String mode = args[++i].toLowerCase();
+                        if (!mode.equals("analytic") && !mode.equals("sampled") && !mode.equals("off")) {
+                            System.err.println("Error: --counting must be 'analytic', 'sampled' or 'off'.");
+                            System.exit(1);
+                        }
+                        countingMode = PerformanceMetrics.CountingMode.valueOf(mode.toUpperCase());
+                    } else {
+                        System.err.println("Error: --counting requires a mode.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--trace":
+                    if (i + 1 < args.length) {
+                        traceSample = parsePositiveInt(args[++i], "--trace");
+                    } else {
+                        System.err.println("Error: --trace requires a sampling interval.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--tile":
+                    if (i + 1 < args.length) {
+                        tileSize = parsePositiveInt(args[++i], "--tile");
+                    } else {
+                        System.err.println("Error: --tile requires a tile size.");
+                        System.exit(1);
+                    }
+                    break;
                 default:
                     System.err.println("Unknown argument: " + args[i]);
                     System.exit(1);
@@ -83,23 +200,149 @@ public class Main {
             }
         }
 
-        // Enable debugging if specified
-        if (enableDebug) {
-            DebugConfig.enableDebug();
-            DebugConfig.log("Debug mode enabled.");
+        // Enable debugging (or sampled per-iteration tracing) if specified
+        if (traceSample > 0) {
+            Tracer.setLevel(Tracer.Level.TRACE);
+            Tracer.setSampleInterval(traceSample);
+        } else if (enableDebug) {
+            Tracer.setLevel(Tracer.Level.DEBUG);
+        }
+        Tracer.debug(() -> "Debug mode enabled.");
+
+        Tracer.debug(() -> "Row kernels: " + ArrayKernels.describe());
+
+        PerformanceMetrics.setCountingMode(countingMode);
+
+        // Decide the Strassen cutoff: explicit flag > fresh tuning > saved profile > default
+        if (strassenCutoff == null) {
+            strassenCutoff = runTuner ? tuneAndSave() : loadTunedCutoff();
+        } else if (runTuner) {
+            tuneAndSave(); // Still refresh the saved profile, but honor the explicit cutoff
         }
 
         // Run the comparison driver
-        DebugConfig.log("Running ComparisonDriver with input: " + inputFile);
-        ComparisonResult result = ComparisonDriver.runComparison(inputFile, outputFile);
+        Tracer.debug(() -> "Running ComparisonDriver with input: " + inputFile);
+        MatrixMultiplier fast;
+        String methodName;
+        if (algorithm.equals("winograd")) {
+            fast = new WinogradStrassenMultiplication(strassenCutoff);
+            methodName = "Winograd";
+        } else if (algorithm.equals("morton")) {
+            fast = new MortonStrassenMultiplication(strassenCutoff);
+            methodName = "Morton";
+        } else if (algorithm.equals("out-of-core")) {
+            fast = new OutOfCoreMultiplication(new StrassenMultiplication(strassenCutoff, parallelDepth), tileSize);
+            methodName = "Out-of-Core";
+        } else {
+            StrassenMultiplication strassen = new StrassenMultiplication(strassenCutoff, parallelDepth);
+            strassen.setPhaseTiming(phaseTiming);
+            fast = strassen;
+            methodName = "Strassen";
+        }
+        if (phaseTiming && (!algorithm.equals("strassen") || parallelDepth > 0)) {
+            System.err.println("Warning: --phases only applies to sequential Strassen; no breakdown will be shown.");
+        }
+        if (parallelDepth > 0 && (algorithm.equals("winograd") || algorithm.equals("morton"))) {
+            System.err.println("Warning: --parallel-depth only applies to Strassen and its out-of-core tiles; "
+                    + methodName + " will run sequentially.");
+        }
+        ComparisonResult result = baseline.equals("recursive")
+                ? ComparisonDriver.runComparison(inputFile, outputFile, new RecursiveMultiplication(), "Recursive", fast, methodName)
+                : ComparisonDriver.runComparison(inputFile, outputFile, new NaiveMultiplication(), "Naive", fast, methodName);
 
         // Generate performance plot if requested
         if (generatePlot) {
-            DebugConfig.log("Generating performance plot...");
+            Tracer.debug(() -> "Generating performance plot...");
             GraphGenerator.generateGraph(result.records, inputFile, plotFile);
             System.out.println("Performance plot saved to: " + plotFile);
         }
 
+        Tracer.flush(); // Print any buffered debug output before the summary line
         System.out.println("Execution complete. Results saved to: " + outputFile);
     }
+
+    /**
+     * Benchmarks this host, saves the resulting profile, and returns the tuned cutoff.
+     *
+     * @return The tuned Strassen cutoff.
+     */
+    private static int tuneAndSave() {
+        System.out.println("Tuning Strassen cutoff for this host...");
+        TuningProfile profile = new CrossoverTuner().tune();
+        Path profilePath = TuningProfile.defaultPath();
+        try {
+            profile.save(profilePath);
+            System.out.println("Tuning profile saved to: " + profilePath);
+        } catch (IOException e) {
+            System.err.println("Warning: Unable to save tuning profile: " + e.getMessage());
+        }
+        System.out.println(profile);
+        return profile.getStrassenCutoff();
+    }
+
+    /**
+     * Loads the cutoff from the saved tuning profile, falling back to the default
+     * when there is no profile or it was measured on a different host.
+     *
+     * @return The Strassen cutoff to use.
+     */
+    private static int loadTunedCutoff() {
+        Path profilePath = TuningProfile.defaultPath();
+        if (!Files.isRegularFile(profilePath)) {
+            return StrassenMultiplication.DEFAULT_CUTOFF;
+        }
+        try {
+            TuningProfile profile = TuningProfile.load(profilePath);
+            if (profile.matchesCurrentHost()) {
+                Tracer.debug(() -> "Loaded tuning profile: " + profile);
+                return profile.getStrassenCutoff();
+            }
+            System.err.println("Warning: Tuning profile was measured on a different host; run with --tune to refresh it.");
+        } catch (IOException e) {
+            System.err.println("Warning: Unable to read tuning profile: " + e.getMessage());
+        }
+        return StrassenMultiplication.DEFAULT_CUTOFF;
+    }
+
+    /**
+     * Parses a strictly positive integer command-line value, exiting with an error otherwise.
+     *
+     * @param value The raw argument.
+     * @param flag  The flag the value belongs to (for the error message).
+     * @return The parsed value.
+     */
+    private static int parsePositiveInt(String value, String flag) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        System.err.println("Error: " + flag + " requires a positive integer, got '" + value + "'.");
+        System.exit(1);
+        return -1; // Unreachable
+    }
+
+    /**
+     * Parses a non-negative integer command-line value, exiting with an error otherwise.
+     *
+     * @param value The raw argument.
+     * @param flag  The flag the value belongs to (for the error message).
+     * @return The parsed value.
+     */
+    private static int parseNonNegativeInt(String value, String flag) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        System.err.println("Error: " + flag + " requires a non-negative integer, got '" + value + "'.");
+        System.exit(1);
+        return -1; // Unreachable
+    }
 }
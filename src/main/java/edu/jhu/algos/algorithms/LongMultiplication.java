@@ -0,0 +1,392 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.LongMatrix;
+import edu.jhu.algos.operations.ArrayKernels;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+import java.util.Arrays;
+
+/**
+ * Multiplies {@link LongMatrix} operands with kernels specialized for long values.
+ * <p>
+ * The int multipliers accumulate in 32 bits, so large entries silently wrap around.
+ * This class runs the same algorithms on 64-bit long[] storage:
+ * 1) {@link MultiplicationKernel#NAIVE}: the i-k-j loop of NaiveMultiplication,
+ * 2) {@link MultiplicationKernel#BLOCKED}: the L2/L1 tiling of BlockedMultiplication,
+ * 3) {@link MultiplicationKernel#STRASSEN}: Strassen's recursion with the single workspace
+ *    and odd-edge peeling of StrassenMultiplication.
+ * Every kernel is a plain loop over long[] whose row updates go through the long overloads of
+ * {@link ArrayKernels}, so there is no boxing or generic dispatch in the hot loops.
+ * Arithmetic is exact as long as every partial sum fits in a long.
+ * Multiplication counts are identical to the int multipliers for the same shape and cutoff.
+ * </p>
+ */
+public class LongMultiplication {
+
+    private final PerformanceMetrics metrics;    // Tracks execution time and multiplication count
+    private final MultiplicationKernel kernel;   // Algorithm used by multiply()
+    private final int cutoff;                    // Strassen blocks this small (in any dimension) use the naive kernel
+
+    /**
+     * Default constructor uses the naive kernel.
+     */
+    public LongMultiplication() {
+        this(MultiplicationKernel.NAIVE);
+    }
+
+    /**
+     * Constructs a multiplier with the given kernel and {@link StrassenMultiplication#DEFAULT_CUTOFF}.
+     *
+     * @param kernel The algorithm to run.
+     * @throws IllegalArgumentException if kernel is null.
+     */
+    public LongMultiplication(MultiplicationKernel kernel) {
+        this(kernel, StrassenMultiplication.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Constructs a multiplier with the given kernel and Strassen cutoff.
+     *
+     * @param kernel The algorithm to run.
+     * @param cutoff Largest block size multiplied directly when the kernel is Strassen (must be >= 1).
+     * @throws IllegalArgumentException if kernel is null or cutoff is less than 1.
+     */
+    public LongMultiplication(MultiplicationKernel kernel, int cutoff) {
+        if (kernel == null) {
+            throw new IllegalArgumentException("Multiplication kernel cannot be null.");
+        }
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Strassen cutoff must be at least 1.");
+        }
+        this.metrics = new PerformanceMetrics("Long");
+        this.kernel = kernel;
+        this.cutoff = cutoff;
+    }
+
+    public MultiplicationKernel getKernel() {
+        return kernel;
+    }
+
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Multiplies an m x k matrix A by a k x n matrix B with the configured kernel.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    public LongMatrix multiply(LongMatrix A, LongMatrix B) {
+        if (A.getCols() != B.getRows()) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for long multiplication.");
+        }
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        LongMatrix result = new LongMatrix(m, n);
+
+        metrics.resetAll();
+        metrics.startTimer(m, inner, n);
+
+        Block a = new Block(A.getRawData(), 0, A.getStride(), m, inner);
+        Block b = new Block(B.getRawData(), 0, B.getStride(), inner, n);
+        Block c = new Block(result.getRawData(), 0, result.getStride(), m, n);
+
+        long multiplications;
+        switch (kernel) {
+            case BLOCKED:
+                multiplications = blocked(a, b, c);
+                break;
+            case STRASSEN:
+                long[] workspace = new long[StrassenMultiplication.workspaceSize(m, inner, n, cutoff)];
+                multiplications = strassen(a, b, c, workspace, 0);
+                break;
+            default:
+                multiplications = naive(a, b, c);
+                break;
+        }
+        metrics.addSampledMultiplications(multiplications);
+        metrics.addAnalyticMultiplications(() -> kernel == MultiplicationKernel.STRASSEN
+                ? StrassenMultiplication.countMultiplications(m, inner, n, cutoff)
+                : (long) m * inner * n);
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Long (" + kernel + ") Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+        return result;
+    }
+
+    /**
+     * Overwrites C with A x B using the i-k-j loop (also the Strassen base case).
+     *
+     * @return The number of scalar multiplications performed (m * k * n).
+     */
+    private static long naive(Block A, Block B, Block C) {
+        for (int i = 0; i < A.rows; i++) {
+            int aRow = A.row(i);
+            int cRow = C.row(i);
+            Arrays.fill(C.data, cRow, cRow + C.cols, 0L);  // C is overwritten, not accumulated into
+            for (int k = 0; k < A.cols; k++) {
+                ArrayKernels.axpy(A.data[aRow + k], B.data, B.row(k), C.data, cRow, C.cols);
+            }
+        }
+        return (long) A.rows * A.cols * C.cols;
+    }
+
+    /**
+     * Overwrites C with A x B tile by tile, with the tile sizes of BlockedMultiplication.
+     *
+     * @return The number of scalar multiplications performed (m * k * n).
+     */
+    private static long blocked(Block A, Block B, Block C) {
+        int m = A.rows, inner = A.cols, n = C.cols;
+        int l1 = BlockedMultiplication.DEFAULT_L1_TILE;
+        int l2 = BlockedMultiplication.DEFAULT_L2_TILE;
+        for (int i = 0; i < m; i++) {
+            Arrays.fill(C.data, C.row(i), C.row(i) + n, 0L);
+        }
+
+        for (int ii = 0; ii < m; ii += l2) {
+            int iBlockEnd = Math.min(ii + l2, m);
+            for (int kk = 0; kk < inner; kk += l2) {
+                int kBlockEnd = Math.min(kk + l2, inner);
+                for (int jj = 0; jj < n; jj += l2) {
+                    int jBlockEnd = Math.min(jj + l2, n);
+
+                    // Inner L1 tiles within the current L2 block, each in i-k-j order
+                    for (int i0 = ii; i0 < iBlockEnd; i0 += l1) {
+                        int iEnd = Math.min(i0 + l1, iBlockEnd);
+                        for (int k0 = kk; k0 < kBlockEnd; k0 += l1) {
+                            int kEnd = Math.min(k0 + l1, kBlockEnd);
+                            for (int j0 = jj; j0 < jBlockEnd; j0 += l1) {
+                                int width = Math.min(j0 + l1, jBlockEnd) - j0;
+                                for (int i = i0; i < iEnd; i++) {
+                                    int aRow = A.row(i);
+                                    int cRow = C.row(i) + j0;
+                                    for (int k = k0; k < kEnd; k++) {
+                                        ArrayKernels.axpy(A.data[aRow + k], B.data, B.row(k) + j0, C.data, cRow, width);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return (long) m * inner * n;
+    }
+
+    /**
+     * Overwrites C with A x B using Strassen's Algorithm, following the schedule of
+     * StrassenMultiplication: S, T and P are carved out of the workspace at 'wsOffset'
+     * and each product is accumulated into the C quadrants as soon as it is computed.
+     *
+     * @return The number of scalar multiplications performed.
+     */
+    private long strassen(Block A, Block B, Block C, long[] workspace, int wsOffset) {
+        int m = A.rows, inner = A.cols, n = C.cols;
+        if (Math.min(m, Math.min(inner, n)) <= cutoff) {
+            return naive(A, B, C);
+        }
+
+        // Odd dimension: the even core goes through this same level, the leftover edges are peeled
+        if (((m | inner | n) & 1) != 0) {
+            int mEven = m & ~1, kEven = inner & ~1, nEven = n & ~1;
+            long multiplications = strassen(A.sub(0, 0, mEven, kEven), B.sub(0, 0, kEven, nEven),
+                    C.sub(0, 0, mEven, nEven), workspace, wsOffset);
+            return multiplications + oddEdges(A, B, C);
+        }
+
+        Block A11 = A.quadrant(0), A12 = A.quadrant(1), A21 = A.quadrant(2), A22 = A.quadrant(3);
+        Block B11 = B.quadrant(0), B12 = B.quadrant(1), B21 = B.quadrant(2), B22 = B.quadrant(3);
+        Block C11 = C.quadrant(0), C12 = C.quadrant(1), C21 = C.quadrant(2), C22 = C.quadrant(3);
+
+        int mHalf = m / 2, kHalf = inner / 2, nHalf = n / 2;
+        int tOffset = wsOffset + mHalf * kHalf;
+        int pOffset = tOffset + kHalf * nHalf;
+        Block S = new Block(workspace, wsOffset, kHalf, mHalf, kHalf);
+        Block T = new Block(workspace, tOffset, nHalf, kHalf, nHalf);
+        Block P = new Block(workspace, pOffset, nHalf, mHalf, nHalf);
+        int childOffset = pOffset + mHalf * nHalf;
+
+        // M1 = (A11 + A22)(B11 + B22) -> C11 and C22
+        add(A11, A22, S);
+        add(B11, B22, T);
+        long multiplications = strassen(S, T, C11, workspace, childOffset);
+        copy(C11, C22);
+
+        // M2 = (A21 + A22)B11 -> C21, subtracted from C22
+        add(A21, A22, S);
+        multiplications += strassen(S, B11, C21, workspace, childOffset);
+        subtract(C22, C21, C22);
+
+        // M3 = A11(B12 - B22) -> C12, added to C22
+        subtract(B12, B22, T);
+        multiplications += strassen(A11, T, C12, workspace, childOffset);
+        add(C22, C12, C22);
+
+        // M4 = A22(B21 - B11) -> added to C11 and C21
+        subtract(B21, B11, T);
+        multiplications += strassen(A22, T, P, workspace, childOffset);
+        add(C11, P, C11);
+        add(C21, P, C21);
+
+        // M5 = (A11 + A12)B22 -> subtracted from C11, added to C12
+        add(A11, A12, S);
+        multiplications += strassen(S, B22, P, workspace, childOffset);
+        subtract(C11, P, C11);
+        add(C12, P, C12);
+
+        // M6 = (A21 - A11)(B11 + B12) -> added to C22
+        subtract(A21, A11, S);
+        add(B11, B12, T);
+        multiplications += strassen(S, T, P, workspace, childOffset);
+        add(C22, P, C22);
+
+        // M7 = (A12 - A22)(B21 + B22) -> added to C11
+        subtract(A12, A22, S);
+        add(B21, B22, T);
+        multiplications += strassen(S, T, P, workspace, childOffset);
+        add(C11, P, C11);
+
+        return multiplications;
+    }
+
+    /**
+     * Adds the rank-1 term, last column and last row that the even core of an odd-sized
+     * product misses (see StrassenMultiplication#multiplyOddEdges).
+     *
+     * @return The number of scalar multiplications performed by the fix-up.
+     */
+    private static long oddEdges(Block A, Block B, Block C) {
+        int m = A.rows, inner = A.cols, n = C.cols;
+        int mEven = m & ~1, kEven = inner & ~1, nEven = n & ~1;
+        long multiplications = 0;
+
+        if (kEven < inner) {
+            // C[0:m', 0:n'] += A[0:m', k-1] x B[k-1, 0:n']
+            for (int i = 0; i < mEven; i++) {
+                ArrayKernels.axpy(A.data[A.row(i) + inner - 1], B.data, B.row(inner - 1), C.data, C.row(i), nEven);
+            }
+            multiplications += (long) mEven * nEven;
+        }
+        if (nEven < n) {
+            // C[:, n-1] = A x B[:, n-1]
+            for (int i = 0; i < m; i++) {
+                long sum = 0L;
+                for (int k = 0; k < inner; k++) {
+                    sum += A.data[A.row(i) + k] * B.data[B.row(k) + n - 1];
+                }
+                C.data[C.row(i) + n - 1] = sum;
+            }
+            multiplications += (long) m * inner;
+        }
+        if (mEven < m) {
+            // C[m-1, 0:n'] = A[m-1, :] x B[:, 0:n']
+            int cRow = C.row(m - 1);
+            Arrays.fill(C.data, cRow, cRow + nEven, 0L);
+            for (int k = 0; k < inner; k++) {
+                ArrayKernels.axpy(A.data[A.row(m - 1) + k], B.data, B.row(k), C.data, cRow, nEven);
+            }
+            multiplications += (long) inner * nEven;
+        }
+        return multiplications;
+    }
+
+    /**
+     * dest = x + y, row by row.
+     */
+    private static void add(Block x, Block y, Block dest) {
+        for (int i = 0; i < dest.rows; i++) {
+            ArrayKernels.add(x.data, x.row(i), y.data, y.row(i), dest.data, dest.row(i), dest.cols);
+        }
+    }
+
+    /**
+     * dest = x - y, row by row.
+     */
+    private static void subtract(Block x, Block y, Block dest) {
+        for (int i = 0; i < dest.rows; i++) {
+            ArrayKernels.subtract(x.data, x.row(i), y.data, y.row(i), dest.data, dest.row(i), dest.cols);
+        }
+    }
+
+    /**
+     * dest = src, row by row.
+     */
+    private static void copy(Block src, Block dest) {
+        for (int i = 0; i < dest.rows; i++) {
+            System.arraycopy(src.data, src.row(i), dest.data, dest.row(i), dest.cols);
+        }
+    }
+
+    /**
+     * A rectangular window onto a flat long[] (the long counterpart of MatrixView).
+     */
+    private static final class Block {
+        final long[] data;
+        final int offset;
+        final int stride;
+        final int rows;
+        final int cols;
+
+        Block(long[] data, int offset, int stride, int rows, int cols) {
+            this.data = data;
+            this.offset = offset;
+            this.stride = stride;
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        /** Index of the first element of row i in 'data'. */
+        int row(int i) {
+            return offset + i * stride;
+        }
+
+        Block sub(int row, int col, int subRows, int subCols) {
+            return new Block(data, row(row) + col, stride, subRows, subCols);
+        }
+
+        /** Quadrant 0 = 11, 1 = 12, 2 = 21, 3 = 22 (dimensions must be even). */
+        Block quadrant(int quadrant) {
+            int halfRows = rows / 2, halfCols = cols / 2;
+            return sub((quadrant / 2) * halfRows, (quadrant % 2) * halfCols, halfRows, halfCols);
+        }
+    }
+
+    /**
+     * Retrieves the number of scalar multiplications performed in the last multiply() call.
+     * @return The multiplication count.
+     */
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ms) for the last multiply() call.
+     * @return The time in milliseconds.
+     */
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
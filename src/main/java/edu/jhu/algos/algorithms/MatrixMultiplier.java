@@ -1,28 +1,51 @@
 package edu.jhu.algos.algorithms;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
 
 /**
- * Provides a contract for multiplying two square matrices of size 2^n x 2^n.
+ * Provides a contract for multiplying an m x k matrix by a k x n matrix
+ * (square or rectangular, any positive dimensions).
  * <p>
  * Implementations (e.g., NaiveMultiplication, StrassenMultiplication) must:
- * 1) Perform the multiplication in their preferred manner,
+ * 1) Perform the multiplication in their preferred manner, both into a new matrix
+ *    and (GEMM-style) into a caller-supplied one,
  * 2) Track the scalar multiplication count,
- * 3) Track the elapsed time of the multiply() call.
+ * 3) Track the elapsed time of the multiply() call (and, through PerformanceMetrics,
+ *    its heap allocation and garbage collections).
  * </p>
  */
 public interface MatrixMultiplier {
 
     /**
      * Multiplies two matrices A and B and returns the resulting matrix.
-     * @param A The first matrix (2^n x 2^n).
-     * @param B The second matrix (2^n x 2^n).
-     * @return The product matrix A x B.
-     * @throws IllegalArgumentException if the sizes of A and B don't match
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return The m x n product matrix A x B.
+     * @throws IllegalArgumentException if the inner dimensions of A and B don't match
      *         or if they are invalid for multiplication.
      */
     Matrix multiply(Matrix A, Matrix B);
 
+    /**
+     * Computes C = alpha * (A x B) + beta * C in place, with GEMM semantics.
+     * <p>
+     * The result is written into the caller-supplied matrix C, so repeated products of the
+     * same shape can reuse one output buffer. With beta = 0 the previous contents of C are
+     * ignored; with alpha = 1 and beta = 0 this is equivalent to {@link #multiply(Matrix, Matrix)}.
+     * The multiplication count covers the A x B product only (the scaling by alpha and beta
+     * is not counted).
+     * </p>
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta);
+
     /**
      * Retrieves the total number of scalar multiplications performed
      * during the most recent multiply() operation.
@@ -36,4 +59,31 @@ public interface MatrixMultiplier {
      * @return The elapsed time in ms from the last multiply() call.
      */
     long getElapsedTimeMs();
+
+    /**
+     * Retrieves the elapsed time (in nanoseconds) spent in the most recent multiply() operation.
+     * Implementations that keep nanosecond timings override the millisecond-based default.
+     * @return The elapsed time in ns from the last multiply() call.
+     */
+    default long getElapsedTimeNs() {
+        return getElapsedTimeMs() * 1_000_000L;
+    }
+
+    /**
+     * Retrieves the time the most recent multiply() operation spent in one phase.
+     * Only instrumented implementations (e.g., StrassenMultiplication with phase timing on) report phases.
+     * @param phase The phase to query.
+     * @return The time in ns, or 0 if this multiplier does not break its time down.
+     */
+    default long getPhaseTimeNs(PerformanceMetrics.Phase phase) {
+        return 0;
+    }
+
+    /**
+     * Retrieves the heap allocation and garbage collections of the most recent multiply() operation.
+     * @return The resource usage of the last multiply() call (all zero if this multiplier does not measure it).
+     */
+    default ResourceUsage getResourceUsage() {
+        return new ResourceUsage();
+    }
 }
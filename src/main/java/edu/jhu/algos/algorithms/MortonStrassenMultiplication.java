@@ -0,0 +1,411 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.models.MortonMatrix;
+import edu.jhu.algos.operations.ArrayKernels;
+import edu.jhu.algos.operations.MatrixOperations;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+/**
+ * Implements Strassen's Algorithm directly on {@link MortonMatrix} (Z-order) storage.
+ * <p>
+ * In Morton layout the four quadrants of a block of size s starting at index o are the contiguous
+ * ranges {@code o + q * (s/2)^2}, q = 0..3, so:
+ * 1) Splitting a block costs nothing (no views, no index arithmetic per row),
+ * 2) Every operand sum S = X + Y and every accumulation into C is one contiguous
+ *    {@link ArrayKernels} pass over (s/2)^2 elements,
+ * 3) Leaf blocks are row-major and go through the same base-case kernel as StrassenMultiplication.
+ * The recursion follows StrassenMultiplication's workspace schedule: each level carves S, T and P
+ * out of one preallocated array and accumulates the seven products straight into the C quadrants.
+ * Because each level only touches contiguous ranges, every level is cache-friendly without tuning.
+ * </p>
+ * <p>
+ * The {@link MatrixMultiplier} overloads never pad the product beyond its own shape. An m x k by k x n
+ * product is tiled into cubes whose edge is the smallest dimension s: every s x s block of A and B is
+ * converted to Morton layout once (padded only up to leafSize * 2^depth, see MortonMatrix), and each
+ * block of C sums its k/s cube products. The ragged edges left over by the tiling are thinner than s
+ * and go through the same method, so 2000 x 3 by 3 x 2000 is one classical pass of 12 million
+ * multiplications, not a 2000-cube. Products whose smallest dimension fits in one leaf use the
+ * classical i-k-j loop directly. The conversions are included in the timing.
+ * </p>
+ * <p>
+ * The Morton-to-Morton overload works on the padded squares of its operands' shared layout, and its
+ * count covers the padded product: 7^depth leaf products of leafSize^3 each.
+ * </p>
+ */
+public class MortonStrassenMultiplication implements MatrixMultiplier {
+
+    private final PerformanceMetrics metrics;  // Tracks execution time and multiplication count
+    private final int maxLeaf;                 // Largest leaf block, multiplied by the base-case kernel
+
+    /**
+     * Default constructor uses leaves of at most {@link MortonMatrix#DEFAULT_LEAF}.
+     */
+    public MortonStrassenMultiplication() {
+        this(MortonMatrix.DEFAULT_LEAF);
+    }
+
+    /**
+     * Constructs a Morton Strassen multiplier whose recursion stops at leaf blocks of at most maxLeaf.
+     *
+     * @param maxLeaf Largest leaf block edge (must be >= 1).
+     * @throws IllegalArgumentException if maxLeaf is less than 1.
+     */
+    public MortonStrassenMultiplication(int maxLeaf) {
+        if (maxLeaf < 1) {
+            throw new IllegalArgumentException("Leaf size must be at least 1.");
+        }
+        this.metrics = new PerformanceMetrics("MortonStrassen");
+        this.maxLeaf = maxLeaf;
+    }
+
+    /**
+     * Retrieves the largest leaf edge multiplied classically instead of split further.
+     * @return The maximum leaf size.
+     */
+    public int getMaxLeaf() {
+        return maxLeaf;
+    }
+
+    /**
+     * Multiplies two row-major matrices through Morton layout.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n Matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    @Override
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Morton multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols());
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A x B) + beta * C, converting cube-sized blocks of A and B to Morton layout
+     * and the products back (see {@link #multiplyAdd}).
+     *
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Morton multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+
+        MatrixOperations.scale(beta, C.view());  // C = beta * C
+        if (alpha != 0) {
+            metrics.addSampledMultiplications(multiplyAdd(alpha, A.view(), B.view(), C.view()));
+            metrics.addAnalyticMultiplications(() -> countMultiplications(A.getRows(), A.getCols(), B.getCols(), maxLeaf));
+        }
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Morton Strassen Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Multiplies two Morton matrices that share one layout, without any conversion.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n, same layout as A).
+     * @return A new m x n MortonMatrix (same layout) containing A x B.
+     * @throws IllegalArgumentException if the dimensions are incompatible or the layouts differ.
+     */
+    public MortonMatrix multiply(MortonMatrix A, MortonMatrix B) {
+        if (A.getCols() != B.getRows() || !A.hasSameLayout(B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Morton multiplication.");
+        }
+
+        MortonMatrix result = new MortonMatrix(A.getRows(), B.getCols(), A);
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+        int size = A.getPaddedSize();
+        // Each level needs three (size/2)^2 blocks: 3 * (1/4 + 1/16 + ...) < 1 times size^2
+        metrics.addSampledMultiplications(multiplyPadded(A, B, result, new int[size * size]));
+        metrics.addAnalyticMultiplications(() -> countMultiplications(A));
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Morton Strassen Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+        return result;
+    }
+
+    /**
+     * Accumulates alpha * A x B into C: the cube-tiled core in Morton layout, then the ragged edges.
+     * <p>
+     * With s the smallest dimension and m', k', n' each dimension rounded down to a multiple of s,
+     * A x B = A[:, 0:k'] B[0:k', :] + A[:, k':k] B[k':k, :]. The first term is the core on the
+     * m' x n' block of C, plus the n - n' columns of C beside it and the m - m' rows below it.
+     * Each edge has a dimension thinner than s, so the recursion ends at one-leaf-thin products.
+     * </p>
+     *
+     * @param alpha Scalar applied to the product.
+     * @param A     The first operand (m x k).
+     * @param B     The second operand (k x n).
+     * @param C     The m x n view accumulating the product.
+     * @return The number of scalar multiplications performed.
+     */
+    private long multiplyAdd(int alpha, MatrixView A, MatrixView B, MatrixView C) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        int cube = Math.min(m, Math.min(inner, n));
+        if (cube <= maxLeaf) {
+            return RecursiveMultiplication.baseCase(alpha, A, B, C);  // One leaf thin: no Strassen level to gain
+        }
+
+        int mCore = m - m % cube, kCore = inner - inner % cube, nCore = n - n % cube;
+        long multiplications = multiplyCubes(alpha, A, B, C, cube, mCore / cube, kCore / cube, nCore / cube);
+        if (kCore < inner) {
+            // C += A[:, k':k] x B[k':k, :]
+            multiplications += multiplyAdd(alpha, A.sub(0, kCore, m, inner - kCore),
+                    B.sub(kCore, 0, inner - kCore, n), C);
+        }
+        if (nCore < n) {
+            // C[0:m', n':n] += A[0:m', 0:k'] x B[0:k', n':n]
+            multiplications += multiplyAdd(alpha, A.sub(0, 0, mCore, kCore),
+                    B.sub(0, nCore, kCore, n - nCore), C.sub(0, nCore, mCore, n - nCore));
+        }
+        if (mCore < m) {
+            // C[m':m, :] += A[m':m, 0:k'] x B[0:k', :]
+            multiplications += multiplyAdd(alpha, A.sub(mCore, 0, m - mCore, kCore),
+                    B.sub(0, 0, kCore, n), C.sub(mCore, 0, m - mCore, n));
+        }
+        return multiplications;
+    }
+
+    /**
+     * Accumulates alpha * A x B into C over a grid of cube x cube blocks (the core of multiplyAdd).
+     * The blocks of A and B are converted to Morton layout once; each block of C sums its products in
+     * Morton layout and is added to C once.
+     *
+     * @return The number of scalar multiplications performed.
+     */
+    private long multiplyCubes(int alpha, MatrixView A, MatrixView B, MatrixView C,
+                               int cube, int mBlocks, int kBlocks, int nBlocks) {
+        MortonMatrix[] aBlocks = new MortonMatrix[mBlocks * kBlocks];
+        for (int i = 0; i < mBlocks; i++) {
+            for (int l = 0; l < kBlocks; l++) {
+                aBlocks[i * kBlocks + l] = MortonMatrix.fromView(A.sub(i * cube, l * cube, cube, cube), cube, maxLeaf);
+            }
+        }
+        MortonMatrix[] bBlocks = new MortonMatrix[kBlocks * nBlocks];
+        for (int l = 0; l < kBlocks; l++) {
+            for (int j = 0; j < nBlocks; j++) {
+                bBlocks[l * nBlocks + j] = MortonMatrix.fromView(B.sub(l * cube, j * cube, cube, cube), cube, maxLeaf);
+            }
+        }
+
+        // Reused for every block of C: the running sum, one cube product, the workspace and the row-major copy
+        MortonMatrix sum = new MortonMatrix(cube, cube, aBlocks[0]);
+        MortonMatrix product = new MortonMatrix(cube, cube, aBlocks[0]);
+        int size = sum.getPaddedSize();
+        int[] workspace = new int[size * size];
+        Matrix block = new Matrix(cube, cube);
+
+        long multiplications = 0;
+        for (int i = 0; i < mBlocks; i++) {
+            for (int j = 0; j < nBlocks; j++) {
+                multiplications += multiplyPadded(aBlocks[i * kBlocks], bBlocks[j], sum, workspace);
+                for (int l = 1; l < kBlocks; l++) {
+                    multiplications += multiplyPadded(aBlocks[i * kBlocks + l], bBlocks[l * nBlocks + j],
+                            product, workspace);
+                    ArrayKernels.add(sum.getRawData(), 0, product.getRawData(), 0, sum.getRawData(), 0, size * size);
+                }
+                sum.copyTo(block.view());
+                MatrixOperations.axpy(alpha, block.view(), C.sub(i * cube, j * cube, cube, cube));
+            }
+        }
+        return multiplications;
+    }
+
+    /**
+     * Closed-form count of multiplyAdd for an m x k by k x n product with leaves of at most maxLeaf.
+     *
+     * @param m       Rows of A.
+     * @param k       Columns of A (rows of B).
+     * @param n       Columns of B.
+     * @param maxLeaf Largest leaf block edge.
+     * @return The number of scalar multiplications the row-major overloads perform.
+     */
+    public static long countMultiplications(int m, int k, int n, int maxLeaf) {
+        int cube = Math.min(m, Math.min(k, n));
+        if (cube <= maxLeaf) {
+            return (long) m * k * n;
+        }
+        int mCore = m - m % cube, kCore = k - k % cube, nCore = n - n % cube;
+
+        // One cube: 7 products per halving, leafSize^3 per leaf
+        int blocksPerSide = MortonMatrix.blocksPerSide(cube, maxLeaf);
+        long leaf = (cube + blocksPerSide - 1) / blocksPerSide;
+        long perCube = leaf * leaf * leaf;
+        for (int blocks = blocksPerSide; blocks > 1; blocks /= 2) {
+            perCube *= 7;
+        }
+
+        long count = (long) (mCore / cube) * (kCore / cube) * (nCore / cube) * perCube;
+        if (kCore < k) {
+            count += countMultiplications(m, k - kCore, n, maxLeaf);
+        }
+        if (nCore < n) {
+            count += countMultiplications(mCore, kCore, n - nCore, maxLeaf);
+        }
+        if (mCore < m) {
+            count += countMultiplications(m - mCore, kCore, n, maxLeaf);
+        }
+        return count;
+    }
+
+    /**
+     * Runs the recursion over the full padded squares of A, B and C.
+     *
+     * @param workspace Scratch array of at least paddedSize^2 elements.
+     * @return The number of scalar multiplications performed.
+     */
+    private static long multiplyPadded(MortonMatrix A, MortonMatrix B, MortonMatrix C, int[] workspace) {
+        int size = A.getPaddedSize();
+        return strassen(A.getRawData(), 0, B.getRawData(), 0, C.getRawData(), 0, size, A.getLeafSize(), workspace, 0);
+    }
+
+    /**
+     * Closed-form count of multiplyPadded for a layout: 7^depth leaf products of leafSize^3 each.
+     */
+    private static long countMultiplications(MortonMatrix layout) {
+        long leaf = layout.getLeafSize();
+        long count = leaf * leaf * leaf;
+        for (int size = layout.getPaddedSize(); size > layout.getLeafSize(); size /= 2) {
+            count *= 7;
+        }
+        return count;
+    }
+
+    /**
+     * Overwrites the Morton block of C at 'co' with the product of the blocks of A and B at 'ao' and 'bo'.
+     *
+     * @param size     Edge length of the three blocks (leafSize * 2^d).
+     * @param leaf     Edge length of the row-major leaf blocks.
+     * @param wsOffset First free index of the workspace for this level.
+     * @return The number of scalar multiplications performed.
+     */
+    private static long strassen(int[] a, int ao, int[] b, int bo, int[] c, int co, int size, int leaf,
+                                 int[] workspace, int wsOffset) {
+        if (size == leaf) {
+            // Leaf blocks are contiguous row-major squares
+            return StrassenMultiplication.baseCaseMultiply(new MatrixView(a, ao, leaf, leaf),
+                    new MatrixView(b, bo, leaf, leaf), new MatrixView(c, co, leaf, leaf));
+        }
+
+        int half = size / 2;
+        int q = half * half;  // Length of one quadrant; quadrant i starts at offset + i * q
+        int a11 = ao, a12 = ao + q, a21 = ao + 2 * q, a22 = ao + 3 * q;
+        int b11 = bo, b12 = bo + q, b21 = bo + 2 * q, b22 = bo + 3 * q;
+        int c11 = co, c12 = co + q, c21 = co + 2 * q, c22 = co + 3 * q;
+        int s = wsOffset, t = wsOffset + q, p = wsOffset + 2 * q;
+        int child = wsOffset + 3 * q;
+        int[] w = workspace;
+
+        // M1 = (A11 + A22)(B11 + B22) -> C11 and C22
+        ArrayKernels.add(a, a11, a, a22, w, s, q);
+        ArrayKernels.add(b, b11, b, b22, w, t, q);
+        long multiplications = strassen(w, s, w, t, c, c11, half, leaf, w, child);
+        System.arraycopy(c, c11, c, c22, q);
+
+        // M2 = (A21 + A22)B11 -> C21, subtracted from C22
+        ArrayKernels.add(a, a21, a, a22, w, s, q);
+        multiplications += strassen(w, s, b, b11, c, c21, half, leaf, w, child);
+        ArrayKernels.subtract(c, c22, c, c21, c, c22, q);
+
+        // M3 = A11(B12 - B22) -> C12, added to C22
+        ArrayKernels.subtract(b, b12, b, b22, w, t, q);
+        multiplications += strassen(a, a11, w, t, c, c12, half, leaf, w, child);
+        ArrayKernels.add(c, c22, c, c12, c, c22, q);
+
+        // M4 = A22(B21 - B11) -> added to C11 and C21
+        ArrayKernels.subtract(b, b21, b, b11, w, t, q);
+        multiplications += strassen(a, a22, w, t, w, p, half, leaf, w, child);
+        ArrayKernels.add(c, c11, w, p, c, c11, q);
+        ArrayKernels.add(c, c21, w, p, c, c21, q);
+
+        // M5 = (A11 + A12)B22 -> subtracted from C11, added to C12
+        ArrayKernels.add(a, a11, a, a12, w, s, q);
+        multiplications += strassen(w, s, b, b22, w, p, half, leaf, w, child);
+        ArrayKernels.subtract(c, c11, w, p, c, c11, q);
+        ArrayKernels.add(c, c12, w, p, c, c12, q);
+
+        // M6 = (A21 - A11)(B11 + B12) -> added to C22
+        ArrayKernels.subtract(a, a21, a, a11, w, s, q);
+        ArrayKernels.add(b, b11, b, b12, w, t, q);
+        multiplications += strassen(w, s, w, t, w, p, half, leaf, w, child);
+        ArrayKernels.add(c, c22, w, p, c, c22, q);
+
+        // M7 = (A12 - A22)(B21 + B22) -> added to C11
+        ArrayKernels.subtract(a, a12, a, a22, w, s, q);
+        ArrayKernels.add(b, b21, b, b22, w, t, q);
+        multiplications += strassen(w, s, w, t, w, p, half, leaf, w, child);
+        ArrayKernels.add(c, c11, w, p, c, c11, q);
+
+        return multiplications;
+    }
+
+    /**
+     * Retrieves the number of scalar multiplications performed
+     * during the last multiply() call.
+     *
+     * @return The multiplication count from PerformanceMetrics.
+     */
+    @Override
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the time in milliseconds for the last multiply() call.
+     *
+     * @return The elapsed time in milliseconds from PerformanceMetrics.
+     */
+    @Override
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the time in nanoseconds for the last multiply() call.
+     *
+     * @return The elapsed time in nanoseconds from PerformanceMetrics.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and garbage collections of the last multiply() call.
+     *
+     * @return The resource usage from PerformanceMetrics.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
@@ -0,0 +1,21 @@
+package edu.jhu.algos.algorithms;
+
+/**
+ * Selects the algorithm used by the primitive-specialized multipliers
+ * ({@link LongMultiplication} and {@link DoubleMultiplication}).
+ * <p>
+ * Each constant mirrors one of the int multipliers: the same loop structure and the same
+ * multiplication count, specialized for the wider element type.
+ * </p>
+ */
+public enum MultiplicationKernel {
+
+    /** The i-k-j loop of {@link NaiveMultiplication}. */
+    NAIVE,
+
+    /** The L2/L1 tiling of {@link BlockedMultiplication}. */
+    BLOCKED,
+
+    /** The workspace recursion of {@link StrassenMultiplication}, including odd-edge peeling. */
+    STRASSEN
+}
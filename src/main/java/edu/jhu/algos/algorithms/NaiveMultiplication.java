@@ -1,12 +1,19 @@
 package edu.jhu.algos.algorithms;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.operations.ArrayKernels;
 import edu.jhu.algos.utils.PerformanceMetrics;
 import edu.jhu.algos.utils.MatrixValidator;
-import edu.jhu.algos.utils.DebugConfig; // Import DebugConfig
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.ResourceUsage;
 
 /**
- * Implements the O(n³) naive matrix multiplication algorithm.
+ * Implements the O(n³) naive matrix multiplication algorithm (O(m·k·n) for an m x k by k x n product).
+ * <p>
+ * The loops run in i-k-j order so the innermost loop is a unit-stride
+ * "row of C += A[i, k] * row of B" update, which {@link ArrayKernels#axpy}
+ * executes with SIMD instructions when the Vector API is available.
+ * </p>
  * <p>
  * This class uses PerformanceMetrics to track:
  * 1) The total number of scalar multiplications,
@@ -23,58 +30,94 @@ public class NaiveMultiplication implements MatrixMultiplier {
      */
     public NaiveMultiplication() {
         // Create a fresh PerformanceMetrics for each NaiveMultiplication instance
-        this.metrics = new PerformanceMetrics();
+        this.metrics = new PerformanceMetrics("Naive");
     }
 
     /**
      * Multiplies two matrices A and B using triple nested loops (O(n^3)).
-     * @param A The first matrix.
-     * @param B The second matrix.
-     * @return A new Matrix containing A x B.
-     * @throws IllegalArgumentException if A and B have different sizes.
+     * Every one of the m * k * n scalar multiplications is counted (n^3 for square inputs).
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n Matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
      */
     @Override
     public Matrix multiply(Matrix A, Matrix B) {
         // Validate input matrices
-        if (!MatrixValidator.isSameSize(A, B)) {
-            throw new IllegalArgumentException("Matrices must be the same size for naive multiplication.");
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for naive multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols()); // Prepare an empty m x n matrix
+        multiply(A, B, result, 1, 0);              // result = A x B
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A x B) + beta * C with the same i-k-j loops, without allocating.
+     * Each row of C is scaled by beta just before it accumulates its products, and alpha is
+     * folded into A[i, k], so the extra cost over a plain product is one pass over C.
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        // Validate input matrices
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for naive multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
         }
 
         // Reset all metrics: time and multiplication count
-        DebugConfig.log("Resetting metrics before multiplication...");
         metrics.resetAll();
-        DebugConfig.log("Multiplication count after reset: " + metrics.getMultiplicationCount());
+        boolean tracing = Tracer.isEnabled(Tracer.Level.TRACE); // Checked once, not per iteration
+        boolean sampling = PerformanceMetrics.isSampling();      // Skip the per-row tally when not sampling
+
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols()); // Start timing
 
-        metrics.startTimer(); // Start timing
+        int m = A.getRows();             // Rows of A and of the result
+        int inner = A.getCols();         // Columns of A = rows of B
+        int n = B.getCols();             // Columns of B and of the result
 
-        int n = A.getSize();             // The dimension of the matrices
-        Matrix result = new Matrix(n);   // Prepare an empty matrix of size n x n
+        // Work directly on the flat row-major arrays (row i of A starts at i * inner, of B and C at i * n)
+        int[] a = A.getRawData();
+        int[] b = B.getRawData();
+        int[] c = C.getRawData();
 
-        // Triple nested loop for naive O(n^3) multiplication
-        for (int i = 0; i < n; i++) {               // Rows of A
-            for (int j = 0; j < n; j++) {           // Columns of B
-                int sum = 0;                        // Accumulate A[i,k]*B[k,j]
-                for (int k = 0; k < n; k++) {       // Loop over 'k'
-                    int aVal = A.get(i, k);        // Cache A[i, k]
-                    int bVal = B.get(k, j);        // Cache B[k, j]
-                    sum += aVal * bVal;            // Multiply and sum
-                    metrics.incrementMultiplicationCount(); // Track scalar multiplication
+        // Triple nested loop for naive O(m*k*n) multiplication, in i-k-j order:
+        // row i of the result accumulates A[i, k] * (row k of B) for every k
+        for (int i = 0; i < m; i++) {               // Rows of A
+            int rowA = i * inner;                   // Start of row i in A
+            int rowC = i * n;                       // Start of row i in the result
+            ArrayKernels.scale(beta, c, rowC, n);   // C[i, j] = beta * C[i, j] (cleared when beta = 0)
+            for (int k = 0; k < inner; k++) {       // Loop over 'k'
+                int aVal = a[rowA + k];             // Cache A[i, k]
+                ArrayKernels.axpy(alpha * aVal, b, k * n, c, rowC, n); // C[i, j] += alpha * A[i, k] * B[k, j]
 
-                    // Debugging: Print after every multiplication
-                    DebugConfig.log("Multiplication (" + i + ", " + j + ", " + k + ") | A: " + aVal + " * B: " + bVal +
+                // Tracing: sampled row updates, skipped entirely when tracing is off
+                if (tracing) {
+                    int row = i, col = k;
+                    Tracer.trace(() -> "Row update (" + row + ", " + col + ") | A: " + aVal + " * row " + col + " of B" +
                             " | Total Count: " + metrics.getMultiplicationCount());
                 }
-                result.set(i, j, sum); // Store computed sum
+            }
+            if (sampling) {
+                metrics.addSampledMultiplications((long) inner * n); // n scalar multiplications for each k
             }
         }
+        metrics.addAnalyticMultiplications(() -> (long) m * inner * n);
 
         metrics.stopTimer(); // Stop timing
 
         // Debugging: Final multiplication count check
-        DebugConfig.log("Final Multiplication Count: " + metrics.getMultiplicationCount());
-        DebugConfig.log("Total Time: " + metrics.getElapsedTimeMs() + " ms");
-
-        return result;
+        Tracer.debug(() -> "Final Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
     }
 
     /**
@@ -84,9 +127,7 @@ public class NaiveMultiplication implements MatrixMultiplier {
      */
     @Override
     public long getMultiplicationCount() {
-        long count = metrics.getMultiplicationCount();
-        DebugConfig.log("Retrieving Multiplication Count: " + count);
-        return count;
+        return metrics.getMultiplicationCount();
     }
 
     /**
@@ -95,8 +136,24 @@ public class NaiveMultiplication implements MatrixMultiplier {
      */
     @Override
     public long getElapsedTimeMs() {
-        long time = metrics.getElapsedTimeMs();
-        DebugConfig.log("Retrieving Elapsed Time: " + time + " ms");
-        return time;
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
     }
 }
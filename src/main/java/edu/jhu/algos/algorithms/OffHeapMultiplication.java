@@ -0,0 +1,174 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.OffHeapMatrix;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+/**
+ * Multiplies {@link OffHeapMatrix} operands tile by tile with any {@link MatrixMultiplier}.
+ * <p>
+ * The product is computed in heap tiles of at most tileSize x tileSize:
+ * 1) For each tile (i0, j0) of C, the tiles A[i0, k0] and B[k0, j0] are copied onto the heap,
+ * 2) The delegate accumulates their product into the C tile with its GEMM overload
+ *    (beta = 0 for the first k0, beta = 1 afterwards),
+ * 3) The finished C tile is written back off-heap.
+ * Each operand keeps one heap tile per tile shape (12 MB for the three full-size tiles with the
+ * default tile), so very large products run without heap pressure, and the delegate's kernel
+ * (Strassen, packed, ...) is reused unchanged. The multiplication count is the sum of the delegate's counts per tile.
+ * </p>
+ */
+public class OffHeapMultiplication {
+
+    /** Default tile dimension copied onto the heap per operand. */
+    public static final int DEFAULT_TILE = 1024;
+
+    private final PerformanceMetrics metrics;  // Tracks execution time and multiplication count
+    private final MatrixMultiplier delegate;   // Multiplies the heap tiles
+    private final int tileSize;                // Largest tile dimension copied onto the heap
+
+    /**
+     * Default constructor multiplies {@link #DEFAULT_TILE} tiles with {@link PackedMultiplication}.
+     */
+    public OffHeapMultiplication() {
+        this(new PackedMultiplication(), DEFAULT_TILE);
+    }
+
+    /**
+     * Constructs an off-heap multiplier that hands each tile product to 'delegate'.
+     *
+     * @param delegate The multiplier used for the heap tiles.
+     * @param tileSize Largest tile dimension copied onto the heap (must be >= 1).
+     * @throws IllegalArgumentException if delegate is null or tileSize is less than 1.
+     */
+    public OffHeapMultiplication(MatrixMultiplier delegate, int tileSize) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate multiplier cannot be null.");
+        }
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be at least 1.");
+        }
+        this.metrics = new PerformanceMetrics("OffHeap");
+        this.delegate = delegate;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Retrieves the multiplier used for the heap tiles.
+     * @return The delegate multiplier.
+     */
+    public MatrixMultiplier getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Retrieves the largest tile dimension copied onto the heap.
+     * @return The tile size.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Multiplies an m x k off-heap matrix A by a k x n off-heap matrix B.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n OffHeapMatrix containing A x B (the caller must close it).
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    public OffHeapMatrix multiply(OffHeapMatrix A, OffHeapMatrix B) {
+        if (A.getCols() != B.getRows()) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for off-heap multiplication.");
+        }
+        OffHeapMatrix result = new OffHeapMatrix(A.getRows(), B.getCols());
+        try {
+            multiply(A, B, result);
+        } catch (RuntimeException e) {
+            result.close();  // Do not leak native memory when the product fails
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Overwrites C with A x B.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @param C The output matrix (m x n; must not be A or B).
+     * @throws IllegalArgumentException if the dimensions are incompatible or C is an operand.
+     */
+    public void multiply(OffHeapMatrix A, OffHeapMatrix B, OffHeapMatrix C) {
+        if (A.getCols() != B.getRows() || C.getRows() != A.getRows() || C.getCols() != B.getCols()) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for off-heap multiplication.");
+        }
+        if (C == A || C == B) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+
+        metrics.resetAll();
+        metrics.startTimer(m, inner, n);
+
+        // Heap buffers, one per tile shape, so ragged edges do not reallocate the full-size tiles
+        TileBuffers aTiles = new TileBuffers(), bTiles = new TileBuffers(), cTiles = new TileBuffers();
+        for (int i0 = 0; i0 < m; i0 += tileSize) {
+            int tm = Math.min(tileSize, m - i0);
+            for (int j0 = 0; j0 < n; j0 += tileSize) {
+                int tn = Math.min(tileSize, n - j0);
+                Matrix cTile = cTiles.get(tm, tn);
+                for (int k0 = 0; k0 < inner; k0 += tileSize) {
+                    int tk = Math.min(tileSize, inner - k0);
+                    Matrix aTile = aTiles.get(tm, tk);
+                    Matrix bTile = bTiles.get(tk, tn);
+                    A.readBlock(i0, k0, aTile);
+                    B.readBlock(k0, j0, bTile);
+
+                    // C tile = A tile x B tile for the first k0, then accumulated
+                    delegate.multiply(aTile, bTile, cTile, 1, k0 == 0 ? 0 : 1);
+                    metrics.addMultiplications(delegate.getMultiplicationCount());
+                }
+                C.writeBlock(i0, j0, cTile);
+            }
+        }
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Off-Heap Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Retrieves the number of scalar multiplications performed in the last multiply() call.
+     * @return The multiplication count.
+     */
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ms) for the last multiply() call.
+     * @return The time in milliseconds.
+     */
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
@@ -0,0 +1,289 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.io.TiledMatrixFile;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.operations.MatrixOperations;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Implements out-of-core matrix multiplication over memory-mapped {@link TiledMatrixFile}s.
+ * <p>
+ * A, B and C live on disk as square tiles, and the product streams through them in a blocked schedule:
+ * 1) For each tile (i, j) of C and each k, the tiles A[i, k] and B[k, j] are mapped and copied onto the heap,
+ * 2) The tile multiplier (packed by default, or e.g. Strassen) accumulates their product into a heap
+ *    C tile with its GEMM overload (beta = 0 for the first k, beta = 1 afterwards),
+ * 3) The finished C tile is written back to its mapped region.
+ * Each operand keeps one heap tile per tile shape (at most four, for the ragged edges), so operands
+ * far larger than RAM can be multiplied from files with
+ * {@link #multiply(TiledMatrixFile, TiledMatrixFile, TiledMatrixFile)}.
+ * The {@link MatrixMultiplier} overloads spill their heap operands to temporary tile files first,
+ * so the in-memory comparison includes the full I/O cost of the out-of-core path. The multiplication
+ * count is the sum of the tile multiplier's counts.
+ * </p>
+ */
+public class OutOfCoreMultiplication implements MatrixMultiplier {
+
+    /** Default edge length of the tiles stored on disk (1 MB per int tile). */
+    public static final int DEFAULT_TILE = 512;
+
+    private final PerformanceMetrics metrics;      // Tracks execution time and multiplication count
+    private final MatrixMultiplier tileMultiplier; // Multiplies the heap tiles
+    private final int tileSize;                    // Edge length of the tiles on disk
+    private final Path workDir;                    // Directory for spilled operands (null = system temp)
+
+    /**
+     * Default constructor multiplies {@link #DEFAULT_TILE} tiles with {@link PackedMultiplication}.
+     */
+    public OutOfCoreMultiplication() {
+        this(new PackedMultiplication(), DEFAULT_TILE);
+    }
+
+    /**
+     * Constructs an out-of-core multiplier that spills to the system temporary directory.
+     *
+     * @param tileMultiplier The multiplier used for the heap tiles.
+     * @param tileSize       Edge length of the tiles on disk (must be >= 1).
+     * @throws IllegalArgumentException if tileMultiplier is null or tileSize is less than 1.
+     */
+    public OutOfCoreMultiplication(MatrixMultiplier tileMultiplier, int tileSize) {
+        this(tileMultiplier, tileSize, null);
+    }
+
+    /**
+     * Constructs an out-of-core multiplier.
+     *
+     * @param tileMultiplier The multiplier used for the heap tiles.
+     * @param tileSize       Edge length of the tiles on disk (must be >= 1).
+     * @param workDir        Directory for the temporary tile files (null = system temporary directory).
+     * @throws IllegalArgumentException if tileMultiplier is null or tileSize is less than 1.
+     */
+    public OutOfCoreMultiplication(MatrixMultiplier tileMultiplier, int tileSize, Path workDir) {
+        if (tileMultiplier == null) {
+            throw new IllegalArgumentException("Tile multiplier cannot be null.");
+        }
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be at least 1.");
+        }
+        this.metrics = new PerformanceMetrics("OutOfCore");
+        this.tileMultiplier = tileMultiplier;
+        this.tileSize = tileSize;
+        this.workDir = workDir;
+    }
+
+    /**
+     * Retrieves the multiplier used for each pair of heap tiles.
+     * @return The tile multiplier.
+     */
+    public MatrixMultiplier getTileMultiplier() {
+        return tileMultiplier;
+    }
+
+    /**
+     * Retrieves the edge length of the square tiles streamed from disk.
+     * @return The tile size.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Multiplies two heap matrices through temporary tile files.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n Matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     * @throws UncheckedIOException if the temporary files cannot be written or read.
+     */
+    @Override
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for out-of-core multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols());
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A x B) + beta * C: A and B are spilled to tile files, the product is
+     * formed on disk, and each product tile is combined into C as it is read back.
+     *
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     * @throws UncheckedIOException if the temporary files cannot be written or read.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for out-of-core multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+
+        Path dir = null;
+        try {
+            dir = workDir == null ? Files.createTempDirectory("matrix-tiles") : Files.createTempDirectory(workDir, "matrix-tiles");
+            try (TiledMatrixFile a = TiledMatrixFile.write(dir.resolve("A.tiles"), A, tileSize);
+                 TiledMatrixFile b = TiledMatrixFile.write(dir.resolve("B.tiles"), B, tileSize);
+                 TiledMatrixFile c = TiledMatrixFile.create(dir.resolve("C.tiles"), C.getRows(), C.getCols(), tileSize)) {
+                metrics.addMultiplications(multiplyTiles(a, b, c));
+
+                // Read the product back one tile at a time and combine it into C
+                TileBuffers tiles = new TileBuffers();  // One heap buffer per tile shape
+                for (int ti = 0; ti < c.getTileRows(); ti++) {
+                    for (int tj = 0; tj < c.getTileCols(); tj++) {
+                        Matrix tile = tiles.get(c.tileHeight(ti), c.tileWidth(tj));
+                        c.readTile(ti, tj, tile);
+                        MatrixView target = C.view().sub(ti * tileSize, tj * tileSize, tile.getRows(), tile.getCols());
+                        if (alpha == 1 && beta == 0) {
+                            MatrixOperations.copy(tile.view(), target);
+                        } else {
+                            MatrixOperations.scale(beta, target);            // C = beta * C
+                            MatrixOperations.axpy(alpha, tile.view(), target); // C += alpha * (A x B)
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Out-of-core multiplication failed: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(dir);
+        }
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Out-of-Core Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Overwrites the tiled file C with A x B without loading any operand fully into memory.
+     *
+     * @param A The first operand (m x k).
+     * @param B The second operand (k x n).
+     * @param C The output file (m x n; opened writable).
+     * @throws IllegalArgumentException if the dimensions or tile sizes do not match.
+     * @throws IOException if a tile cannot be read or written.
+     */
+    public void multiply(TiledMatrixFile A, TiledMatrixFile B, TiledMatrixFile C) throws IOException {
+        if (A.getCols() != B.getRows() || C.getRows() != A.getRows() || C.getCols() != B.getCols()) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for out-of-core multiplication.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+        metrics.addMultiplications(multiplyTiles(A, B, C));
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Out-of-Core Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Streams the tiles of A and B through the tile multiplier and writes every tile of C once.
+     *
+     * @return The number of scalar multiplications performed.
+     */
+    private long multiplyTiles(TiledMatrixFile A, TiledMatrixFile B, TiledMatrixFile C) throws IOException {
+        if (A.getTileSize() != B.getTileSize() || A.getTileSize() != C.getTileSize()) {
+            throw new IllegalArgumentException("Tiled operands must share one tile size.");
+        }
+
+        long multiplications = 0;
+        // Heap buffers, one per tile shape, so ragged edges do not reallocate the full-size tiles
+        TileBuffers aTiles = new TileBuffers(), bTiles = new TileBuffers(), cTiles = new TileBuffers();
+        for (int ti = 0; ti < C.getTileRows(); ti++) {
+            for (int tj = 0; tj < C.getTileCols(); tj++) {
+                Matrix cTile = cTiles.get(C.tileHeight(ti), C.tileWidth(tj));
+                for (int tk = 0; tk < A.getTileCols(); tk++) {
+                    Matrix aTile = aTiles.get(A.tileHeight(ti), A.tileWidth(tk));
+                    Matrix bTile = bTiles.get(B.tileHeight(tk), B.tileWidth(tj));
+                    A.readTile(ti, tk, aTile);
+                    B.readTile(tk, tj, bTile);
+
+                    // C tile = A tile x B tile for the first k, then accumulated
+                    tileMultiplier.multiply(aTile, bTile, cTile, 1, tk == 0 ? 0 : 1);
+                    multiplications += tileMultiplier.getMultiplicationCount();
+                }
+                C.writeTile(ti, tj, cTile);
+            }
+        }
+        return multiplications;
+    }
+
+    /**
+     * Deletes the temporary tile files and their directory, ignoring failures.
+     */
+    private static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        for (String name : new String[]{"A.tiles", "B.tiles", "C.tiles"}) {
+            try {
+                Files.deleteIfExists(dir.resolve(name));
+            } catch (IOException e) {
+                Tracer.debug(() -> "Could not delete " + dir.resolve(name) + ": " + e.getMessage());
+            }
+        }
+        try {
+            Files.deleteIfExists(dir);
+        } catch (IOException e) {
+            Tracer.debug(() -> "Could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the number of scalar multiplications performed in the last multiply() call.
+     * @return The multiplication count.
+     */
+    @Override
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ms) for the last multiply() call.
+     * @return The time in milliseconds.
+     */
+    @Override
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
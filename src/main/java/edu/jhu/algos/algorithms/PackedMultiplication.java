@@ -0,0 +1,326 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.operations.ArrayKernels;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+import java.util.Arrays;
+
+/**
+ * Implements classical O(n³) (O(m·k·n) for rectangular operands) multiplication with operand packing and a register-blocked
+ * micro-kernel, following the GotoBLAS / BLIS loop structure.
+ * <p>
+ * The product is computed in three levels of blocking:
+ * 1) A KC x NC panel of B is packed into contiguous NR-wide micro-panels,
+ * 2) An MC x KC block of A is packed into contiguous MR-tall micro-panels,
+ * 3) An unrolled MR x NR micro-kernel keeps its 16 accumulators in registers while it
+ *    streams one micro-panel of A and one of B, then adds them into C once.
+ * Packing turns every access of the micro-kernel into a unit-stride read of a buffer
+ * that stays in L1/L2, independent of the operands' layout. Edge tiles are padded with
+ * zeros in the packed buffers; only the valid part is written back to C.
+ * </p>
+ * <p>
+ * The static {@link #multiplyInto(MatrixView, MatrixView, MatrixView)} entry point
+ * exposes the kernel on views so it can serve as the base case of Strassen's recursion.
+ * </p>
+ */
+public class PackedMultiplication implements MatrixMultiplier {
+
+    /** Rows of the register block (micro-tile height). */
+    public static final int MR = 4;
+
+    /** Columns of the register block (micro-tile width). */
+    public static final int NR = 4;
+
+    /** Depth of the packed panels (shared dimension per pass). */
+    static final int KC = 256;
+
+    /** Rows of A packed per block. */
+    static final int MC = 128;
+
+    /** Columns of B packed per panel. */
+    static final int NC = 2048;
+
+    // Per-thread packing buffers, grown on demand and reused across calls
+    private static final ThreadLocal<int[][]> PACK_BUFFERS = ThreadLocal.withInitial(() -> new int[2][0]);
+
+    private final PerformanceMetrics metrics; // Tracks execution time and multiplication count
+
+    /**
+     * Default constructor initializes a fresh PerformanceMetrics object.
+     */
+    public PackedMultiplication() {
+        this.metrics = new PerformanceMetrics("Packed");
+    }
+
+    /**
+     * Multiplies two matrices A and B with the packed register-blocked kernel.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n Matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    @Override
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for packed multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols());
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A x B) + beta * C with the packed kernel, without allocating
+     * (the packing buffers are reused). C is scaled by beta up front and alpha is applied
+     * while A is packed, so the micro-kernel itself is unchanged.
+     *
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for packed multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+
+        int m = A.getRows();
+        int inner = A.getCols();
+        int n = B.getCols();
+        ArrayKernels.scale(beta, C.getRawData(), 0, m * n);  // C = beta * C (cleared when beta = 0)
+        gemm(m, n, inner, alpha,
+                A.getRawData(), 0, A.getStride(),
+                B.getRawData(), 0, B.getStride(),
+                C.getRawData(), 0, C.getStride());
+        // The kernel performs exactly m*k*n scalar products, so the sampled tally and the closed form agree
+        metrics.addSampledMultiplications((long) m * inner * n);
+        metrics.addAnalyticMultiplications(() -> (long) m * inner * n);
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Packed Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Computes C = A x B on views with the packed kernel, overwriting C.
+     * <p>
+     * Performs exactly m * k * n scalar multiplications; callers are responsible for counting them.
+     * </p>
+     *
+     * @param A The first operand (m x k).
+     * @param B The second operand (k x n).
+     * @param C The m x n view receiving the product (must not overlap A or B).
+     * @throws IllegalArgumentException if the view dimensions are incompatible.
+     */
+    public static void multiplyInto(MatrixView A, MatrixView B, MatrixView C) {
+        int m = A.getRows();
+        int inner = A.getCols();
+        int n = B.getCols();
+        if (B.getRows() != inner || C.getRows() != m || C.getCols() != n) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for packed multiplication.");
+        }
+
+        // Clear C, then accumulate panel products into it
+        int[] c = C.getRawData();
+        for (int i = 0; i < m; i++) {
+            int row = C.getOffset() + i * C.getStride();
+            Arrays.fill(c, row, row + n, 0);
+        }
+        gemm(m, n, inner, 1,
+                A.getRawData(), A.getOffset(), A.getStride(),
+                B.getRawData(), B.getOffset(), B.getStride(),
+                c, C.getOffset(), C.getStride());
+    }
+
+    /**
+     * Accumulates C[m x n] += alpha * A[m x k] * B[k x n] on raw row-major storage.
+     */
+    static void gemm(int m, int n, int k, int alpha,
+                     int[] a, int aOff, int aStride,
+                     int[] b, int bOff, int bStride,
+                     int[] c, int cOff, int cStride) {
+        int[][] buffers = PACK_BUFFERS.get();
+        int kcMax = Math.min(KC, k);
+        int packedASize = roundUp(Math.min(MC, m), MR) * kcMax;
+        int packedBSize = roundUp(Math.min(NC, n), NR) * kcMax;
+        if (buffers[0].length < packedASize) {
+            buffers[0] = new int[packedASize];
+        }
+        if (buffers[1].length < packedBSize) {
+            buffers[1] = new int[packedBSize];
+        }
+        int[] packedA = buffers[0];
+        int[] packedB = buffers[1];
+
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(b, bOff + pc * bStride + jc, bStride, kc, nc, packedB);
+
+                for (int ic = 0; ic < m; ic += MC) {
+                    int mc = Math.min(MC, m - ic);
+                    packA(alpha, a, aOff + ic * aStride + pc, aStride, mc, kc, packedA);
+
+                    // Sweep the register-sized micro-tiles of this block
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            microKernel(kc, packedA, ir * kc, packedB, jr * kc,
+                                    c, cOff + (ic + ir) * cStride + jc + jr, cStride, mr, nr);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs an mc x kc block of alpha * A into MR-tall micro-panels.
+     * Within a micro-panel, the MR values of one column k are stored next to each other;
+     * rows past the edge of A are padded with zeros.
+     */
+    private static void packA(int alpha, int[] a, int aOff, int aStride, int mc, int kc, int[] packed) {
+        int dest = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++) {
+                int src = aOff + ir * aStride + p;
+                for (int r = 0; r < MR; r++) {
+                    packed[dest++] = r < mr ? alpha * a[src + r * aStride] : 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs a kc x nc panel of B into NR-wide micro-panels.
+     * Within a micro-panel, the NR values of one row k are stored next to each other;
+     * columns past the edge of B are padded with zeros.
+     */
+    private static void packB(int[] b, int bOff, int bStride, int kc, int nc, int[] packed) {
+        int dest = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++) {
+                int src = bOff + p * bStride + jr;
+                if (nr == NR) {
+                    System.arraycopy(b, src, packed, dest, NR);
+                    dest += NR;
+                } else {
+                    for (int col = 0; col < NR; col++) {
+                        packed[dest++] = col < nr ? b[src + col] : 0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The 4x4 register-blocked micro-kernel: C[mr x nr] += Apanel[MR x kc] * Bpanel[kc x NR].
+     * All 16 accumulators are locals so the JIT can keep them in registers.
+     */
+    private static void microKernel(int kc, int[] pa, int aIdx, int[] pb, int bIdx,
+                                    int[] c, int cIdx, int cStride, int mr, int nr) {
+        int c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        int c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        int c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        int c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int p = 0; p < kc; p++) {
+            int a0 = pa[aIdx], a1 = pa[aIdx + 1], a2 = pa[aIdx + 2], a3 = pa[aIdx + 3];
+            int b0 = pb[bIdx], b1 = pb[bIdx + 1], b2 = pb[bIdx + 2], b3 = pb[bIdx + 3];
+            aIdx += MR;
+            bIdx += NR;
+
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+        }
+
+        if (mr == MR && nr == NR) {
+            // Full tile: write the accumulators straight back
+            int r0 = cIdx, r1 = r0 + cStride, r2 = r1 + cStride, r3 = r2 + cStride;
+            c[r0] += c00; c[r0 + 1] += c01; c[r0 + 2] += c02; c[r0 + 3] += c03;
+            c[r1] += c10; c[r1 + 1] += c11; c[r1 + 2] += c12; c[r1 + 3] += c13;
+            c[r2] += c20; c[r2 + 1] += c21; c[r2 + 2] += c22; c[r2 + 3] += c23;
+            c[r3] += c30; c[r3 + 1] += c31; c[r3 + 2] += c32; c[r3 + 3] += c33;
+        } else {
+            // Edge tile: only the top-left mr x nr part lies inside C
+            int[] acc = {
+                    c00, c01, c02, c03,
+                    c10, c11, c12, c13,
+                    c20, c21, c22, c23,
+                    c30, c31, c32, c33
+            };
+            for (int r = 0; r < mr; r++) {
+                for (int col = 0; col < nr; col++) {
+                    c[cIdx + r * cStride + col] += acc[r * NR + col];
+                }
+            }
+        }
+    }
+
+    /**
+     * Rounds 'value' up to the next multiple of 'multiple'.
+     */
+    private static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Retrieves the total number of scalar multiplications performed
+     * in the last multiply() operation.
+     * @return The multiplication count.
+     */
+    @Override
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ms) for the last multiply() call.
+     * @return The time in milliseconds.
+     */
+    @Override
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
@@ -0,0 +1,236 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.operations.ArrayKernels;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implements the O(n³) naive matrix multiplication with the output rows split across a fork/join pool.
+ * <p>
+ * Row i of the result depends only on row i of A and all of B, so row bands can be computed
+ * independently without any synchronization on C:
+ * 1) The row range [0, m) is split in half recursively until a band has at most
+ *    {@code rowsPerTask} rows (by default enough bands for ~4 tasks per pool thread),
+ *    where m is the number of rows of A (and of the result),
+ * 2) Each band runs the same i-k-j loop as {@link NaiveMultiplication},
+ * 3) Each band counts its own scalar multiplications locally and adds them once to a shared
+ *    {@link LongAdder}, which is merged into the metrics at the end.
+ * Results and multiplication counts (m·k·n, so n^3 for square inputs) are identical to NaiveMultiplication.
+ * </p>
+ */
+public class ParallelNaiveMultiplication implements MatrixMultiplier {
+
+    /** Number of row bands created per pool thread when no band size is given. */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final PerformanceMetrics metrics; // Tracks execution time and multiplication count
+    private final int rowsPerTask;            // Largest band of rows computed by one task (0 = derive from n)
+    private ForkJoinPool pool;                // Pool the row bands are submitted to
+
+    /**
+     * Default constructor uses the common fork/join pool and derives the band size from n.
+     */
+    public ParallelNaiveMultiplication() {
+        this(0);
+    }
+
+    /**
+     * Constructs a parallel naive multiplier with a fixed band size.
+     *
+     * @param rowsPerTask Largest number of rows computed by one task (0 = derive from n and the pool size).
+     * @throws IllegalArgumentException if rowsPerTask is negative.
+     */
+    public ParallelNaiveMultiplication(int rowsPerTask) {
+        if (rowsPerTask < 0) {
+            throw new IllegalArgumentException("Rows per task cannot be negative.");
+        }
+        this.metrics = new PerformanceMetrics("ParallelNaive");
+        this.rowsPerTask = rowsPerTask;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Retrieves the configured band size.
+     *
+     * @return The largest number of rows per task (0 = derived from n).
+     */
+    public int getRowsPerTask() {
+        return rowsPerTask;
+    }
+
+    /**
+     * Sets the fork/join pool used to compute the row bands (the common pool by default).
+     *
+     * @param pool The pool to submit row bands to.
+     * @throws IllegalArgumentException if pool is null.
+     */
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork/join pool cannot be null.");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Multiplies two matrices A and B, computing bands of result rows in parallel.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n Matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    @Override
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for parallel naive multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols());
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A x B) + beta * C in place, each band scaling its own rows of C by beta.
+     *
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for parallel naive multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+
+        int m = A.getRows();
+        int grain = rowsPerTask > 0
+                ? rowsPerTask
+                : Math.max(1, m / (TASKS_PER_THREAD * pool.getParallelism()));
+
+        // Per-band counts are merged here; without sampling the bands count nothing
+        LongAdder multiplications = PerformanceMetrics.isSampling() ? new LongAdder() : null;
+        pool.invoke(new RowBandTask(A.getRawData(), B.getRawData(), C.getRawData(), A.getCols(), B.getCols(),
+                alpha, beta, 0, m, grain, multiplications));
+        if (multiplications != null) {
+            metrics.addSampledMultiplications(multiplications.sum());
+        }
+        metrics.addAnalyticMultiplications(() -> (long) m * A.getCols() * B.getCols());
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Parallel Naive Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Computes rows [rowStart, rowEnd) of the product, splitting the band while it is larger than the grain.
+     */
+    private static final class RowBandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int[] b;
+        private final int[] c;
+        private final int inner;  // Columns of A = rows of B
+        private final int n;      // Columns of B and of the result
+        private final int alpha;
+        private final int beta;
+        private final int rowStart;
+        private final int rowEnd;
+        private final int grain;
+        private final LongAdder multiplications;  // Null when not counting
+
+        RowBandTask(int[] a, int[] b, int[] c, int inner, int n, int alpha, int beta,
+                    int rowStart, int rowEnd, int grain, LongAdder multiplications) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.inner = inner;
+            this.n = n;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.grain = grain;
+            this.multiplications = multiplications;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowEnd - rowStart > grain) {
+                int mid = (rowStart + rowEnd) >>> 1;
+                invokeAll(new RowBandTask(a, b, c, inner, n, alpha, beta, rowStart, mid, grain, multiplications),
+                        new RowBandTask(a, b, c, inner, n, alpha, beta, mid, rowEnd, grain, multiplications));
+                return;
+            }
+
+            // Same i-k-j loop as NaiveMultiplication, restricted to this band of rows
+            for (int i = rowStart; i < rowEnd; i++) {
+                int rowA = i * inner;  // Start of row i in A
+                int rowC = i * n;      // Start of row i in the result
+                ArrayKernels.scale(beta, c, rowC, n);  // C[i, j] = beta * C[i, j]
+                for (int k = 0; k < inner; k++) {
+                    ArrayKernels.axpy(alpha * a[rowA + k], b, k * n, c, rowC, n);
+                }
+            }
+            if (multiplications != null) {
+                // The band's count (n per k per row), added once so contention stays negligible
+                multiplications.add((long) (rowEnd - rowStart) * inner * n);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the total number of scalar multiplications performed
+     * in the last multiply() operation.
+     * @return The multiplication count.
+     */
+    @Override
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ms) for the last multiply() call.
+     * @return The time in milliseconds.
+     */
+    @Override
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
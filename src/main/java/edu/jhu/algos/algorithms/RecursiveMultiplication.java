@@ -0,0 +1,212 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.operations.ArrayKernels;
+import edu.jhu.algos.operations.MatrixOperations;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+/**
+ * Implements the O(n³) classical matrix multiplication as a cache-oblivious divide-and-conquer.
+ * <p>
+ * The product C += A × B is split recursively, always halving the largest of m, k and n:
+ * 1) Splitting m (or n) gives two independent halves of C: [C1; C2] += [A1; A2] × B,
+ * 2) Splitting k gives two products accumulated into the same C: C += A1 × B1, then C += A2 × B2.
+ * For square operands three consecutive splits are exactly the 8 quadrant products
+ * (C11 += A11 × B11 + A12 × B21, ...), and uneven halves handle odd and rectangular shapes
+ * without padding or peeling. Every product accumulates in place into C, so no temporary matrices
+ * are allocated. Once the largest dimension is {@code <= baseSize}, an i-k-j loop multiplies the block.
+ * </p>
+ * <p>
+ * At some recursion depth the three blocks fit in each cache level, whatever its size, so the
+ * kernel gets close to optimal cache behavior at every size with no tuning. It performs exactly
+ * m·k·n scalar multiplications, like NaiveMultiplication, which makes it the fair classical
+ * baseline for Strassen.
+ * </p>
+ */
+public class RecursiveMultiplication implements MatrixMultiplier {
+
+    /** Default largest block dimension handled by the iterative base case. */
+    public static final int DEFAULT_BASE_SIZE = 32;
+
+    private final PerformanceMetrics metrics; // Tracks execution time and multiplication count
+    private final int baseSize;               // Blocks whose largest dimension is at most this use the i-k-j loop
+
+    /**
+     * Default constructor uses {@link #DEFAULT_BASE_SIZE}.
+     */
+    public RecursiveMultiplication() {
+        this(DEFAULT_BASE_SIZE);
+    }
+
+    /**
+     * Constructs a recursive multiplier with the given base-case size.
+     *
+     * @param baseSize Largest block dimension multiplied directly (must be >= 1).
+     * @throws IllegalArgumentException if baseSize is less than 1.
+     */
+    public RecursiveMultiplication(int baseSize) {
+        if (baseSize < 1) {
+            throw new IllegalArgumentException("Base case size must be at least 1.");
+        }
+        this.metrics = new PerformanceMetrics("Recursive");
+        this.baseSize = baseSize;
+    }
+
+    /**
+     * Retrieves the largest block dimension multiplied directly by the i-k-j loop.
+     * @return The base case size.
+     */
+    public int getBaseSize() {
+        return baseSize;
+    }
+
+    /**
+     * Multiplies two matrices A and B by recursive splitting.
+     *
+     * @param A The first matrix (m x k).
+     * @param B The second matrix (k x n).
+     * @return A new m x n Matrix containing A x B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    @Override
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for recursive multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols());
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A x B) + beta * C in place: C is scaled by beta once, then
+     * alpha * A x B is accumulated into it block by block.
+     *
+     * @param A     The first matrix (m x k).
+     * @param B     The second matrix (k x n).
+     * @param C     The output matrix (m x n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A x B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for recursive multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+
+        MatrixOperations.scale(beta, C.view());  // C = beta * C
+        if (alpha != 0) {
+            metrics.addSampledMultiplications(multiplyAdd(alpha, A.view(), B.view(), C.view()));
+            metrics.addAnalyticMultiplications(() -> (long) A.getRows() * A.getCols() * B.getCols());
+        }
+
+        metrics.stopTimer();
+
+        Tracer.debug(() -> "Recursive Multiplication Count: " + metrics.getMultiplicationCount());
+        Tracer.debug(() -> "Total Time: " + metrics.getElapsedTimeMs() + " ms");
+    }
+
+    /**
+     * Accumulates alpha * A x B into C, halving the largest dimension until the block is small.
+     *
+     * @param alpha Scalar applied to the product.
+     * @param A     The first operand (m x k).
+     * @param B     The second operand (k x n).
+     * @param C     The m x n view accumulating the product.
+     * @return The number of scalar multiplications performed (m * k * n).
+     */
+    private long multiplyAdd(int alpha, MatrixView A, MatrixView B, MatrixView C) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        int largest = Math.max(m, Math.max(inner, n));
+
+        if (largest <= baseSize) {
+            return baseCase(alpha, A, B, C);
+        }
+
+        if (largest == m) {
+            // [C1; C2] += [A1; A2] x B
+            int top = m / 2;
+            return multiplyAdd(alpha, A.sub(0, 0, top, inner), B, C.sub(0, 0, top, n))
+                    + multiplyAdd(alpha, A.sub(top, 0, m - top, inner), B, C.sub(top, 0, m - top, n));
+        }
+        if (largest == n) {
+            // [C1 C2] += A x [B1 B2]
+            int left = n / 2;
+            return multiplyAdd(alpha, A, B.sub(0, 0, inner, left), C.sub(0, 0, m, left))
+                    + multiplyAdd(alpha, A, B.sub(0, left, inner, n - left), C.sub(0, left, m, n - left));
+        }
+        // C += [A1 A2] x [B1; B2] = A1 x B1 + A2 x B2
+        int half = inner / 2;
+        return multiplyAdd(alpha, A.sub(0, 0, m, half), B.sub(0, 0, half, n), C)
+                + multiplyAdd(alpha, A.sub(0, half, m, inner - half), B.sub(half, 0, inner - half, n), C);
+    }
+
+    /**
+     * Accumulates alpha * A x B into a small block of C with the i-k-j loop.
+     * Also used by MortonStrassenMultiplication for its leaves.
+     *
+     * @return The number of scalar multiplications performed (m * k * n).
+     */
+    static long baseCase(int alpha, MatrixView A, MatrixView B, MatrixView C) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        int[] a = A.getRawData(), b = B.getRawData(), c = C.getRawData();
+
+        for (int i = 0; i < m; i++) {
+            int aRow = A.getOffset() + i * A.getStride();  // Row i of A
+            int cRow = C.getOffset() + i * C.getStride();  // Row i of C
+            for (int k = 0; k < inner; k++) {
+                ArrayKernels.axpy(alpha * a[aRow + k], b, B.getOffset() + k * B.getStride(), c, cRow, n);
+            }
+        }
+        return (long) m * inner * n;
+    }
+
+    /**
+     * Retrieves the total number of scalar multiplications performed
+     * in the last multiply() operation.
+     * @return The multiplication count.
+     */
+    @Override
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ms) for the last multiply() call.
+     * @return The time in milliseconds.
+     */
+    @Override
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the elapsed time (in ns) for the last multiply() call.
+     * @return The time in nanoseconds.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and GC activity of the last multiply() call.
+     * @return The resource usage.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
@@ -1,64 +1,286 @@
 package edu.jhu.algos.algorithms;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.operations.ArrayKernels;
 import edu.jhu.algos.operations.MatrixOperations;
+import edu.jhu.algos.profiling.StrassenLevelEvent;
 import edu.jhu.algos.utils.PerformanceMetrics;
 import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.ResourceUsage;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 /**
- * Implements Strassen's Algorithm for square matrix multiplication.
+ * Implements Strassen's Algorithm for square and rectangular matrix multiplication.
  * <p>
  * Strassen's Algorithm reduces the multiplication complexity from O(n^3) (Naive) to O(n^(log2(7))) ≈ O(n^2.81).
  * It recursively splits the matrices into submatrices, computes 7 intermediate matrices (M1..M7),
  * and then combines them to form the result.
  * <p>
+ * Submatrices are {@link MatrixView}s over the operands' storage, so splitting copies nothing,
+ * and the C quadrants are written directly into the result matrix (no merge step).
+ * <p>
  * **Key Properties:**
- * - Works only on square matrices of size 2^n × 2^n.
+ * - Works on any m × k by k × n product. A level with an odd dimension uses dynamic peeling:
+ *   the largest even core is multiplied recursively and the leftover row, column and rank-1
+ *   term are added with plain loops (see {@link #multiplyOddEdges}), so sizes such as 1025
+ *   need no padding to the next power of two.
  * - More efficient than the naive approach for large matrices, but introduces recursive overhead.
+ * - Blocks whose smallest dimension is {@code <= cutoff} are multiplied with a tight iterative kernel instead of
+ *   recursing further; the default cutoff of 1 recurses all the way down to scalars.
+ *   The base case is an i-k-j loop whose inner row update is vectorized when SIMD kernels are
+ *   available; without SIMD, blocks of at least {@link #PACKED_BASE_CASE_MIN} in every dimension use the packed
+ *   register-blocked kernel of {@link PackedMultiplication} instead, which is faster in scalar code.
+ * - With a parallel depth d > 0, the seven sub-products of the top d recursion levels are
+ *   submitted as {@link RecursiveTask}s to a {@link ForkJoinPool}; deeper levels run sequentially
+ *   inside the worker that owns them. Each task returns the number of scalar multiplications in
+ *   its subtree, so the count stays exact without any shared counter.
+ * - Sequential levels run in one preallocated workspace (fewer than n^2 ints for square inputs):
+ *   each level reuses three half-size buffers and accumulates the products straight into C, so no
+ *   temporaries are allocated during the recursion.
  * <p>
  * **Performance Tracking:**
  * - The number of scalar multiplications performed.
- * - The total execution time in milliseconds.
+ * - The total execution time (in nanoseconds).
+ * - With {@link #setPhaseTiming(boolean) phase timing} on, the exclusive time spent in each
+ *   {@link PerformanceMetrics.Phase}: quadrant splitting, operand sums, leaf products, combining
+ *   the products into C, and the final merge (odd-edge fix-ups, alpha/beta). Phase timing reads
+ *   the clock several times per recursion node, so it is off by default and only covers
+ *   sequential runs (parallel depth 0).
  */
 public class StrassenMultiplication implements MatrixMultiplier {
 
+    /** Cutoff used when none is given: recurse down to 1x1 blocks (classic Strassen). */
+    public static final int DEFAULT_CUTOFF = 1;
+
+    /** Smallest base-case block handed to the packed kernel (packing does not pay off below it). */
+    public static final int PACKED_BASE_CASE_MIN = 16;
+
     private final PerformanceMetrics metrics;  // Tracks execution time and multiplication count
+    private int cutoff;  // Blocks of this size or smaller use the iterative base-case kernel
+    private int parallelDepth;  // Recursion levels whose 7 sub-products run as fork/join tasks (0 = sequential)
+    private ForkJoinPool pool;  // Pool used in parallel mode
+    private boolean phaseTiming;   // Whether sequential runs break their time down by phase
+    private boolean timingPhases;  // Phase timing is active for the current multiply() call
+    private long phaseMark;        // Clock reading at the end of the last timed phase
+
+    // Reusable scratch arrays: the sequential recursion workspace and the product buffer used when beta != 0
+    private static final int SCRATCH_WORKSPACE = 0;
+    private static final int SCRATCH_PRODUCT = 1;
+    private final int[][] scratch = new int[2][0];
 
     /**
      * Default constructor initializes a fresh PerformanceMetrics object
-     * for each StrassenMultiplication instance.
+     * for each StrassenMultiplication instance and uses {@link #DEFAULT_CUTOFF}.
      */
     public StrassenMultiplication() {
-        this.metrics = new PerformanceMetrics();
+        this(DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Constructs a StrassenMultiplication that stops recursing at the given block size.
+     *
+     * @param cutoff Largest block size multiplied directly by the base-case kernel (must be >= 1).
+     * @throws IllegalArgumentException if cutoff is less than 1.
+     */
+    public StrassenMultiplication(int cutoff) {
+        this(cutoff, 0);
+    }
+
+    /**
+     * Constructs a StrassenMultiplication with a cutoff and a parallel depth, using the common fork/join pool.
+     *
+     * @param cutoff        Largest block size multiplied directly by the base-case kernel (must be >= 1).
+     * @param parallelDepth Number of top recursion levels that fork their 7 sub-products (0 = sequential).
+     * @throws IllegalArgumentException if cutoff is less than 1 or parallelDepth is negative.
+     */
+    public StrassenMultiplication(int cutoff, int parallelDepth) {
+        this.metrics = new PerformanceMetrics("Strassen");
+        this.pool = ForkJoinPool.commonPool();
+        setCutoff(cutoff);
+        setParallelDepth(parallelDepth);
+    }
+
+    /**
+     * Retrieves the recursion cutoff.
+     *
+     * @return The largest block size handled by the base-case kernel.
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Sets the recursion cutoff used by subsequent multiply() calls.
+     *
+     * @param cutoff Largest block size multiplied directly by the base-case kernel (must be >= 1).
+     * @throws IllegalArgumentException if cutoff is less than 1.
+     */
+    public void setCutoff(int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Strassen cutoff must be at least 1.");
+        }
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Retrieves the parallel depth.
+     *
+     * @return The number of top recursion levels that fork their sub-products (0 = sequential).
+     */
+    public int getParallelDepth() {
+        return parallelDepth;
+    }
+
+    /**
+     * Sets how many top recursion levels submit their 7 sub-products to the fork/join pool.
+     * Each level multiplies the number of tasks by 7, so small values (1-3) are usually enough.
+     *
+     * @param parallelDepth Number of parallel levels (0 = fully sequential).
+     * @throws IllegalArgumentException if parallelDepth is negative.
+     */
+    public void setParallelDepth(int parallelDepth) {
+        if (parallelDepth < 0) {
+            throw new IllegalArgumentException("Parallel depth cannot be negative.");
+        }
+        this.parallelDepth = parallelDepth;
+    }
+
+    /**
+     * Retrieves whether phase timing is enabled.
+     *
+     * @return True if sequential multiply() calls record per-phase times.
+     */
+    public boolean isPhaseTiming() {
+        return phaseTiming;
+    }
+
+    /**
+     * Enables or disables the per-phase time breakdown (see {@link #getPhaseTimeNs}).
+     * It adds clock reads to every recursion node, so leave it off when only the total time matters.
+     *
+     * @param phaseTiming True to record phase times on sequential multiply() calls.
+     */
+    public void setPhaseTiming(boolean phaseTiming) {
+        this.phaseTiming = phaseTiming;
+    }
+
+    /**
+     * Sets the fork/join pool used in parallel mode (the common pool by default).
+     *
+     * @param pool The pool to submit sub-product tasks to.
+     * @throws IllegalArgumentException if pool is null.
+     */
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork/join pool cannot be null.");
+        }
+        this.pool = pool;
     }
 
     /**
      * Multiplies two matrices A and B using Strassen's Algorithm.
      *
-     * @param A The first matrix (must be square and a power of 2).
-     * @param B The second matrix (must be square and a power of 2).
-     * @return A new Matrix containing A × B.
-     * @throws IllegalArgumentException if A and B are not the same size.
+     * @param A The first matrix (m × k).
+     * @param B The second matrix (k × n).
+     * @return A new m × n Matrix containing A × B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
      */
     @Override
     public Matrix multiply(Matrix A, Matrix B) {
-        if (A.getSize() != B.getSize()) {  // Ensure both matrices have the same dimensions
-            throw new IllegalArgumentException("Matrices must be the same size for Strassen multiplication.");
+        if (!MatrixValidator.isMultipliable(A, B)) {  // Ensure the inner dimensions agree
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Strassen multiplication.");
         }
 
-        metrics.resetAll();  // Reset multiplication count and execution time
-        metrics.startTimer();  // Start timing the multiplication process
+        Matrix result = new Matrix(A.getRows(), B.getCols());  // Product is written straight into this matrix
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
 
-        // Check for zero matrices to avoid unnecessary computation
-        if (MatrixValidator.isZeroMatrix(A) || MatrixValidator.isZeroMatrix(B)) {
+    /**
+     * Computes C = alpha * (A × B) + beta * C using Strassen's Algorithm.
+     * <p>
+     * With alpha = 1 and beta = 0 the product is written straight into C. Otherwise it is
+     * formed in a scratch buffer and then combined into C. Scratch buffers and the recursion
+     * workspace are kept by this instance and reused, so repeated sequential calls of the same
+     * size do not allocate.
+     *
+     * @param A     The first matrix (m × k).
+     * @param B     The second matrix (k × n).
+     * @param C     The output matrix (m × n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A × B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Strassen multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();  // Reset multiplication count, execution time and phase times
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());  // Start timing the multiplication process
+        timingPhases = phaseTiming && parallelDepth == 0;  // Tasks on other threads cannot share one clock
+        phaseMark = System.nanoTime();
+
+        // Check for zero matrices to avoid unnecessary computation: only beta * C remains
+        if (alpha == 0 || MatrixValidator.isZeroMatrix(A) || MatrixValidator.isZeroMatrix(B)) {
+            MatrixOperations.scale(beta, C.view());
             metrics.stopTimer();
-            return new Matrix(A.getSize());
+            return;
+        }
+
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        boolean direct = alpha == 1 && beta == 0;  // Plain product: no need to keep the old C
+        MatrixView product = direct ? C.view() : new MatrixView(buffer(SCRATCH_PRODUCT, m * n), 0, n, m, n);
+
+        long multiplications;
+        if (parallelDepth > 0) {
+            // Run the whole recursion inside the pool so forked sub-products can be joined
+            multiplications = pool.invoke(new SubProductTask(A.view(), B.view(), product, 0, 0));
+        } else {
+            // One workspace (< n^2 ints for square inputs) serves every level of the recursion
+            int[] workspace = buffer(SCRATCH_WORKSPACE, workspaceSize(m, inner, n, cutoff));
+            multiplications = strassenRecursive(A.view(), B.view(), product, 0, 0, workspace, 0);
         }
+        metrics.addSampledMultiplications(multiplications);
+        metrics.addAnalyticMultiplications(() -> countMultiplications(m, inner, n, cutoff));
 
-        Matrix result = strassenRecursive(A, B);  // Recursively compute the product
+        if (!direct) {
+            MatrixOperations.scale(beta, C.view());         // C = beta * C
+            MatrixOperations.axpy(alpha, product, C.view()); // C += alpha * (A × B)
+        }
+        lap(PerformanceMetrics.Phase.MERGE);
 
         metrics.stopTimer();  // Stop the timer after multiplication
-        return result;
+    }
+
+    /**
+     * Attributes the time since the previous lap to 'phase' (no-op unless phase timing is active).
+     */
+    private void lap(PerformanceMetrics.Phase phase) {
+        if (timingPhases) {
+            long now = System.nanoTime();
+            metrics.addPhaseTime(phase, now - phaseMark);
+            phaseMark = now;
+        }
+    }
+
+    /**
+     * Returns this instance's scratch array in the given slot, growing it if it holds fewer than 'size' ints.
+     */
+    private int[] buffer(int slot, int size) {
+        if (scratch[slot].length < size) {
+            scratch[slot] = new int[size];
+        }
+        return scratch[slot];
     }
 
     /**
@@ -83,67 +305,443 @@ public class StrassenMultiplication implements MatrixMultiplier {
     }
 
     /**
-     * Recursively computes the product of two matrices A and B using Strassen's Algorithm.
+     * Retrieves the time in nanoseconds for the last multiply() call.
+     *
+     * @return The elapsed time in nanoseconds from PerformanceMetrics.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and garbage collections of the last multiply() call.
+     *
+     * @return The resource usage from PerformanceMetrics.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+
+    /**
+     * Retrieves the exclusive time the last multiply() call spent in one phase.
+     *
+     * @param phase The phase to query.
+     * @return The time in nanoseconds (0 unless phase timing was on for a sequential run).
+     */
+    @Override
+    public long getPhaseTimeNs(PerformanceMetrics.Phase phase) {
+        return metrics.getPhaseTimeNs(phase);
+    }
+
+    /**
+     * Recursively computes the product of two views A and B using Strassen's Algorithm
+     * and writes it into the view C.
      * <p>
      * This method follows the recursive breakdown of Strassen's approach:
-     * 1. Split A and B into 4 submatrices each.
-     * 2. Compute 7 intermediate matrices (M1..M7).
-     * 3. Compute the final submatrices of C.
-     * 4. Merge the submatrices into a full result matrix.
+     * 0. If a dimension is odd, recurse on the even core and peel the remaining edges.
+     * 1. Address A and B as 4 quadrant views each (no copying).
+     * 2. Compute 7 intermediate matrices (M1..M7), in parallel above the parallel depth.
+     * 3. Combine them into the quadrants of C.
+     * <p>
+     * Sequential levels allocate nothing: the operand sums S and T and one product buffer P
+     * are carved out of the workspace at 'wsOffset', and deeper levels use the space after them
+     * (see {@link #workspaceSize(int, int, int, int)}). Each product is accumulated into the C quadrants as
+     * soon as it is computed, so only one M is ever alive:
+     * <pre>
+     * M1 -> C11, C22 = C11      M2 -> C21, C22 -= C21     M3 -> C12, C22 += C12
+     * M4 -> P, C11 += P, C21 += P                          M5 -> P, C11 -= P, C12 += P
+     * M6 -> P, C22 += P                                    M7 -> P, C11 += P
+     * </pre>
      *
-     * @param A The first matrix.
-     * @param B The second matrix.
-     * @return The product matrix A × B.
+     * @param A         The first operand (m × k).
+     * @param B         The second operand (k × n).
+     * @param C         The m × n view receiving A × B (must not overlap A or B).
+     * @param depth      The recursion depth of this call (0 at the top).
+     * @param subProduct Which of M1..M7 of the parent level this product is (0 at the top).
+     * @param workspace  Scratch array for sequential levels (unused above the parallel depth).
+     * @param wsOffset   First workspace element this call may use.
+     * @return The number of scalar multiplications performed for this product.
      */
-    private Matrix strassenRecursive(Matrix A, Matrix B) {
-        int n = A.getSize();  // Get matrix dimension
+    private long strassenRecursive(MatrixView A, MatrixView B, MatrixView C, int depth, int subProduct,
+                                   int[] workspace, int wsOffset) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();  // Get matrix dimensions
 
-        // Base case: Direct scalar multiplication for 1x1 matrix
-        if (n == 1) {
-            int val = A.get(0, 0) * B.get(0, 0);
-            metrics.incrementMultiplicationCount();  // Count this multiplication
+        // Base case: small (or thin) blocks are multiplied directly (1x1 with the default cutoff)
+        if (Math.min(m, Math.min(inner, n)) <= cutoff) {
+            long multiplications = baseCaseMultiply(A, B, C);
+            lap(PerformanceMetrics.Phase.RECURSION);
+            return multiplications;
+        }
 
-            Matrix singleCell = new Matrix(1);  // Create a 1x1 matrix for the result
-            singleCell.set(0, 0, val);
-            return singleCell;
+        // Every level above the base case is one Flight Recorder event (leaves are too many to record)
+        StrassenLevelEvent event = new StrassenLevelEvent();
+        event.begin();
+        long multiplications = strassenLevel(A, B, C, depth, subProduct, workspace, wsOffset);
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = m;
+            event.inner = inner;
+            event.columns = n;
+            event.depth = depth;
+            event.subProduct = subProduct;
+            event.elements = (long) m * n;
+            event.multiplications = multiplications;
+            event.commit();
         }
+        return multiplications;
+    }
 
-        // Step 1: Split matrices into four submatrices
-        Matrix[] AParts = MatrixOperations.split(A);
-        Matrix[] BParts = MatrixOperations.split(B);
+    /**
+     * Computes one recursion level above the base case for {@link #strassenRecursive}:
+     * peels an odd block, or splits an even one into the 7 sub-products.
+     */
+    private long strassenLevel(MatrixView A, MatrixView B, MatrixView C, int depth, int subProduct,
+                               int[] workspace, int wsOffset) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+
+        // Odd dimension: the even core goes through this same level, the leftover edges are peeled
+        if (((m | inner | n) & 1) != 0) {
+            int mEven = m & ~1, kEven = inner & ~1, nEven = n & ~1;
+            long multiplications = strassenRecursive(A.sub(0, 0, mEven, kEven), B.sub(0, 0, kEven, nEven),
+                    C.sub(0, 0, mEven, nEven), depth, subProduct, workspace, wsOffset);
+            multiplications += multiplyOddEdges(A, B, C);
+            lap(PerformanceMetrics.Phase.MERGE);
+            return multiplications;
+        }
+
+        // Step 1: Address each operand as four quadrant views
+        MatrixView[] AParts = MatrixOperations.quadrants(A);
+        MatrixView[] BParts = MatrixOperations.quadrants(B);
+        MatrixView[] CParts = MatrixOperations.quadrants(C);
 
         // Assign meaningful names to submatrices
-        Matrix A11 = AParts[0], A12 = AParts[1], A21 = AParts[2], A22 = AParts[3];
-        Matrix B11 = BParts[0], B12 = BParts[1], B21 = BParts[2], B22 = BParts[3];
+        MatrixView A11 = AParts[0], A12 = AParts[1], A21 = AParts[2], A22 = AParts[3];
+        MatrixView B11 = BParts[0], B12 = BParts[1], B21 = BParts[2], B22 = BParts[3];
+        MatrixView C11 = CParts[0], C12 = CParts[1], C21 = CParts[2], C22 = CParts[3];
+
+        int mHalf = m / 2, kHalf = inner / 2, nHalf = n / 2;
+        int next = depth + 1;
+        lap(PerformanceMetrics.Phase.SPLIT);
+
+        if (depth >= parallelDepth) {
+            // Step 2 (sequential): S (like A11), T (like B11) and P (like C11) live in the workspace,
+            // the rest is for deeper levels
+            int sOffset = wsOffset;
+            int tOffset = sOffset + mHalf * kHalf;
+            int pOffset = tOffset + kHalf * nHalf;
+            MatrixView S = new MatrixView(workspace, sOffset, kHalf, mHalf, kHalf);
+            MatrixView T = new MatrixView(workspace, tOffset, nHalf, kHalf, nHalf);
+            MatrixView P = new MatrixView(workspace, pOffset, nHalf, mHalf, nHalf);
+            int childOffset = pOffset + mHalf * nHalf;
+
+            // M1 = (A11 + A22)(B11 + B22) -> C11 and C22
+            MatrixOperations.add(A11, A22, S);
+            MatrixOperations.add(B11, B22, T);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            long multiplications = strassenRecursive(S, T, C11, next, 1, workspace, childOffset);
+            MatrixOperations.copy(C11, C22);
+            lap(PerformanceMetrics.Phase.COMBINE);
+
+            // M2 = (A21 + A22)B11 -> C21, subtracted from C22
+            MatrixOperations.add(A21, A22, S);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            multiplications += strassenRecursive(S, B11, C21, next, 2, workspace, childOffset);
+            MatrixOperations.subtract(C22, C21, C22);
+            lap(PerformanceMetrics.Phase.COMBINE);
+
+            // M3 = A11(B12 - B22) -> C12, added to C22
+            MatrixOperations.subtract(B12, B22, T);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            multiplications += strassenRecursive(A11, T, C12, next, 3, workspace, childOffset);
+            MatrixOperations.add(C22, C12, C22);
+            lap(PerformanceMetrics.Phase.COMBINE);
+
+            // M4 = A22(B21 - B11) -> added to C11 and C21
+            MatrixOperations.subtract(B21, B11, T);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            multiplications += strassenRecursive(A22, T, P, next, 4, workspace, childOffset);
+            MatrixOperations.add(C11, P, C11);
+            MatrixOperations.add(C21, P, C21);
+            lap(PerformanceMetrics.Phase.COMBINE);
+
+            // M5 = (A11 + A12)B22 -> subtracted from C11, added to C12
+            MatrixOperations.add(A11, A12, S);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            multiplications += strassenRecursive(S, B22, P, next, 5, workspace, childOffset);
+            MatrixOperations.subtract(C11, P, C11);
+            MatrixOperations.add(C12, P, C12);
+            lap(PerformanceMetrics.Phase.COMBINE);
+
+            // M6 = (A21 - A11)(B11 + B12) -> added to C22
+            MatrixOperations.subtract(A21, A11, S);
+            MatrixOperations.add(B11, B12, T);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            multiplications += strassenRecursive(S, T, P, next, 6, workspace, childOffset);
+            MatrixOperations.add(C22, P, C22);
+            lap(PerformanceMetrics.Phase.COMBINE);
 
-        // Step 2: Compute 7 intermediary matrices using Strassen's formula
-        Matrix M1 = strassenRecursive(MatrixOperations.add(A11, A22), MatrixOperations.add(B11, B22));
-        Matrix M2 = strassenRecursive(MatrixOperations.add(A21, A22), B11);
-        Matrix M3 = strassenRecursive(A11, MatrixOperations.subtract(B12, B22));
-        Matrix M4 = strassenRecursive(A22, MatrixOperations.subtract(B21, B11));
-        Matrix M5 = strassenRecursive(MatrixOperations.add(A11, A12), B22);
-        Matrix M6 = strassenRecursive(MatrixOperations.subtract(A21, A11), MatrixOperations.add(B11, B12));
-        Matrix M7 = strassenRecursive(MatrixOperations.subtract(A12, A22), MatrixOperations.add(B21, B22));
+            // M7 = (A12 - A22)(B21 + B22) -> added to C11
+            MatrixOperations.subtract(A12, A22, S);
+            MatrixOperations.add(B21, B22, T);
+            lap(PerformanceMetrics.Phase.ADD_SUBTRACT);
+            multiplications += strassenRecursive(S, T, P, next, 7, workspace, childOffset);
+            MatrixOperations.add(C11, P, C11);
+            lap(PerformanceMetrics.Phase.COMBINE);
 
-        // Step 3: Compute final submatrices of C
+            return multiplications;
+        }
+
+        // Step 2 (parallel): every sub-product gets its own operand and product buffers
+        // so the 7 tasks are independent
+        MatrixView M1 = new Matrix(mHalf, nHalf).view();
+        MatrixView M2 = new Matrix(mHalf, nHalf).view();
+        MatrixView M3 = new Matrix(mHalf, nHalf).view();
+        MatrixView M4 = new Matrix(mHalf, nHalf).view();
+        MatrixView M5 = new Matrix(mHalf, nHalf).view();
+        MatrixView M6 = new Matrix(mHalf, nHalf).view();
+        MatrixView M7 = new Matrix(mHalf, nHalf).view();
+
+        // Slots 0, 2, 5, 6 and 8 combine A quadrants (m/2 × k/2), the others combine B quadrants (k/2 × n/2)
+        MatrixView[] ops = new MatrixView[10];
+        for (int i = 0; i < ops.length; i++) {
+            boolean fromA = i == 0 || i == 2 || i == 5 || i == 6 || i == 8;
+            ops[i] = fromA ? new Matrix(mHalf, kHalf).view() : new Matrix(kHalf, nHalf).view();
+        }
+        MatrixOperations.add(A11, A22, ops[0]);
+        MatrixOperations.add(B11, B22, ops[1]);
+        MatrixOperations.add(A21, A22, ops[2]);
+        MatrixOperations.subtract(B12, B22, ops[3]);
+        MatrixOperations.subtract(B21, B11, ops[4]);
+        MatrixOperations.add(A11, A12, ops[5]);
+        MatrixOperations.subtract(A21, A11, ops[6]);
+        MatrixOperations.add(B11, B12, ops[7]);
+        MatrixOperations.subtract(A12, A22, ops[8]);
+        MatrixOperations.add(B21, B22, ops[9]);
+
+        SubProductTask[] tasks = {
+                new SubProductTask(ops[0], ops[1], M1, next, 1),
+                new SubProductTask(ops[2], B11, M2, next, 2),
+                new SubProductTask(A11, ops[3], M3, next, 3),
+                new SubProductTask(A22, ops[4], M4, next, 4),
+                new SubProductTask(ops[5], B22, M5, next, 5),
+                new SubProductTask(ops[6], ops[7], M6, next, 6),
+                new SubProductTask(ops[8], ops[9], M7, next, 7)
+        };
+        ForkJoinTask.invokeAll(tasks);
+
+        long multiplications = 0;
+        for (SubProductTask task : tasks) {
+            multiplications += task.join();
+        }
+
+        // Step 3: Compute final submatrices directly inside C, one fused pass per quadrant
 
         // Compute C11 = M1 + M4 - M5 + M7
-        Matrix temp1 = MatrixOperations.add(M1, M4);
-        Matrix temp2 = MatrixOperations.subtract(temp1, M5);
-        Matrix C11 = MatrixOperations.add(temp2, M7);
+        MatrixOperations.linearCombination(new int[]{1, 1, -1, 1}, C11, M1, M4, M5, M7);
 
         // Compute C12 = M3 + M5
-        Matrix C12 = MatrixOperations.add(M3, M5);
+        MatrixOperations.add(M3, M5, C12);
 
         // Compute C21 = M2 + M4
-        Matrix C21 = MatrixOperations.add(M2, M4);
+        MatrixOperations.add(M2, M4, C21);
 
         // Compute C22 = M1 + M3 - M2 + M6
-        Matrix temp3 = MatrixOperations.add(M1, M3);
-        Matrix temp4 = MatrixOperations.subtract(temp3, M2);
-        Matrix C22 = MatrixOperations.add(temp4, M6);
+        MatrixOperations.linearCombination(new int[]{1, 1, -1, 1}, C22, M1, M3, M2, M6);
+
+        return multiplications;
+    }
 
-        // Step 4: Merge submatrices into the final n x n result matrix
-        return MatrixOperations.merge(C11, C12, C21, C22);
+    /**
+     * Computes the workspace a sequential Strassen product of an m × k by k × n product needs:
+     * one buffer each for S, T and P (the shapes of A11, B11 and C11) per level until the smallest
+     * dimension reaches the cutoff. Peeling an odd edge rounds a dimension down before halving.
+     * For square inputs this is 3/4 n^2 + 3/16 n^2 + ... < n^2 ints.
+     *
+     * @param m      Rows of A (and C).
+     * @param k      Columns of A (rows of B).
+     * @param n      Columns of B (and C).
+     * @param cutoff Recursion cutoff.
+     * @return The number of ints to allocate.
+     */
+    static int workspaceSize(int m, int k, int n, int cutoff) {
+        long total = 0;
+        while (Math.min(m, Math.min(k, n)) > cutoff) {
+            m /= 2;  // Same as peeling an odd row and halving the even core
+            k /= 2;
+            n /= 2;
+            total += (long) m * k + (long) k * n + (long) m * n;
+        }
+        return (int) total;  // Bounded by (mk + kn + mn) / 3, which fits in an int for any valid operands
+    }
+
+    /**
+     * Computes, in closed form, the number of scalar multiplications a Strassen product of an
+     * m × k by k × n product performs with the given cutoff (the ANALYTIC counting mode).
+     * <p>
+     * Each level either multiplies directly (m·k·n), peels the odd edges of the even core
+     * (see {@link #multiplyOddEdges}), or makes 7 identical half-size products, so only one
+     * chain of shapes has to be followed: O(log n) steps. Shared with WinogradStrassenMultiplication
+     * and the long/double Strassen kernels, which recurse the same way.
+     *
+     * @param m      Rows of A (and C).
+     * @param k      Columns of A (rows of B).
+     * @param n      Columns of B (and C).
+     * @param cutoff Recursion cutoff.
+     * @return The number of scalar multiplications.
+     */
+    public static long countMultiplications(int m, int k, int n, int cutoff) {
+        long scale = 1;  // Number of identical sub-products at the current level (7^depth)
+        long total = 0;
+        while (Math.min(m, Math.min(k, n)) > cutoff) {
+            if (((m | k | n) & 1) != 0) {
+                // Peel the odd edges; the even core is checked against the cutoff again
+                int mEven = m & ~1, kEven = k & ~1, nEven = n & ~1;
+                long edges = 0;
+                if (kEven < k) edges += (long) mEven * nEven;  // Rank-1 update of the even core
+                if (nEven < n) edges += (long) m * k;          // Last column
+                if (mEven < m) edges += (long) k * nEven;      // Last row
+                total += scale * edges;
+                m = mEven;
+                k = kEven;
+                n = nEven;
+            } else {
+                m /= 2;
+                k /= 2;
+                n /= 2;
+                scale *= 7;
+            }
+        }
+        return total + scale * m * k * n;
+    }
+
+    /**
+     * Multiplies two small views directly and writes the product into C.
+     * <p>
+     * The i-k-j loop streams rows of B and C so the inner row update is sequential in memory
+     * (and SIMD-friendly). Without SIMD, larger blocks go through the packed micro-kernel instead.
+     * Exactly m * k * n scalar multiplications are performed and counted (n^3 for square blocks).
+     * Shared with {@link WinogradStrassenMultiplication} and {@link MortonStrassenMultiplication},
+     * which use the same base case.
+     *
+     * @param A The first operand (m × k).
+     * @param B The second operand (k × n).
+     * @param C The m × n view receiving A × B.
+     * @return The number of scalar multiplications performed (m * k * n).
+     */
+    static long baseCaseMultiply(MatrixView A, MatrixView B, MatrixView C) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        long multiplications = (long) m * inner * n;
+        if (Math.min(m, Math.min(inner, n)) >= PACKED_BASE_CASE_MIN && !ArrayKernels.isSimdEnabled()) {
+            PackedMultiplication.multiplyInto(A, B, C);
+            return multiplications;  // The packed kernel performs the same m * k * n products
+        }
+
+        int[] a = A.getRawData(), b = B.getRawData(), c = C.getRawData();
+        int aStride = A.getStride(), bStride = B.getStride(), cStride = C.getStride();
+
+        for (int i = 0; i < m; i++) {
+            int cRow = C.getOffset() + i * cStride;  // Row i of C
+            int aRow = A.getOffset() + i * aStride;  // Row i of A
+            Arrays.fill(c, cRow, cRow + n, 0);       // C is overwritten, not accumulated into
+            for (int k = 0; k < inner; k++) {
+                int aik = a[aRow + k];                       // A[i, k] is reused across the whole row
+                int bRow = B.getOffset() + k * bStride;      // Row k of B
+                ArrayKernels.axpy(aik, b, bRow, c, cRow, n);
+            }
+        }
+        return multiplications;
+    }
+
+    /**
+     * Completes a product whose even core has already been computed (dynamic peeling).
+     * <p>
+     * The quadrant split needs even dimensions. When m, k or n is odd, the recursion first
+     * multiplies the even core A[0:m', 0:k'] × B[0:k', 0:n'] into C[0:m', 0:n'] (m', k', n'
+     * rounded down to even), and this method adds what the core misses with plain loops:
+     * <pre>
+     * k odd: C[0:m', 0:n'] += A[0:m', k-1] × B[k-1, 0:n']   (rank-1 update)
+     * n odd: C[0:m, n-1]    = A × B[:, n-1]                (last column)
+     * m odd: C[m-1, 0:n']   = A[m-1, :] × B[:, 0:n']       (last row)
+     * </pre>
+     * At most one row, one column and one rank-1 term are peeled per level, all O(n^2) work.
+     * Shared with {@link WinogradStrassenMultiplication}.
+     *
+     * @param A The first operand (m × k).
+     * @param B The second operand (k × n).
+     * @param C The m × n view whose even core already holds the core product.
+     * @return The number of scalar multiplications performed by the fix-up.
+     */
+    static long multiplyOddEdges(MatrixView A, MatrixView B, MatrixView C) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        int mEven = m & ~1, kEven = inner & ~1, nEven = n & ~1;
+        int[] a = A.getRawData(), b = B.getRawData(), c = C.getRawData();
+        int aOff = A.getOffset(), bOff = B.getOffset(), cOff = C.getOffset();
+        int aStride = A.getStride(), bStride = B.getStride(), cStride = C.getStride();
+        long multiplications = 0;
+
+        if (kEven < inner) {
+            // The last column of A times the last row of B is missing from the core
+            int bRow = bOff + (inner - 1) * bStride;
+            for (int i = 0; i < mEven; i++) {
+                ArrayKernels.axpy(a[aOff + i * aStride + inner - 1], b, bRow, c, cOff + i * cStride, nEven);
+            }
+            multiplications += (long) mEven * nEven;
+        }
+        if (nEven < n) {
+            // Last column of C: one dot product per row of A
+            for (int i = 0; i < m; i++) {
+                int aRow = aOff + i * aStride;
+                int sum = 0;
+                for (int k = 0; k < inner; k++) {
+                    sum += a[aRow + k] * b[bOff + k * bStride + n - 1];
+                }
+                c[cOff + i * cStride + n - 1] = sum;
+            }
+            multiplications += (long) m * inner;
+        }
+        if (mEven < m) {
+            // Last row of C (without its last element): row m-1 of A times the even columns of B
+            int aRow = aOff + (m - 1) * aStride;
+            int cRow = cOff + (m - 1) * cStride;
+            Arrays.fill(c, cRow, cRow + nEven, 0);
+            for (int k = 0; k < inner; k++) {
+                ArrayKernels.axpy(a[aRow + k], b, bOff + k * bStride, c, cRow, nEven);
+            }
+            multiplications += (long) inner * nEven;
+        }
+        return multiplications;
+    }
+
+    /**
+     * One Strassen sub-product (left × right → product) run as a fork/join task.
+     * The result is the number of scalar multiplications performed in the subtree.
+     */
+    private final class SubProductTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final MatrixView left;
+        private final MatrixView right;
+        private final MatrixView product;
+        private final int depth;
+        private final int index;  // 1..7 for M1..M7, 0 for the top-level product
+
+        SubProductTask(MatrixView left, MatrixView right, MatrixView product, int depth, int index) {
+            this.left = left;
+            this.right = right;
+            this.product = product;
+            this.depth = depth;
+            this.index = index;
+        }
+
+        @Override
+        protected Long compute() {
+            // Tasks that run sequentially below the parallel depth get a workspace of their own
+            int[] workspace = depth >= parallelDepth
+                    ? new int[workspaceSize(left.getRows(), left.getCols(), right.getCols(), cutoff)]
+                    : null;
+            return strassenRecursive(left, right, product, depth, index, workspace, 0);
+        }
     }
 }
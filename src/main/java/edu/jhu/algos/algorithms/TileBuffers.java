@@ -0,0 +1,40 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+
+/**
+ * Heap buffers for the tiles of one operand in a tiled schedule, one per tile shape.
+ * <p>
+ * Cutting a dimension into tiles of tileSize leaves at most one shorter edge tile, so the tiles of a
+ * matrix have at most four shapes (full or edge rows, times full or edge columns). Keeping one buffer
+ * per shape means a schedule that alternates between full and edge tiles, e.g. along a ragged
+ * inner dimension, allocates each shape once instead of on every switch.
+ * </p>
+ */
+final class TileBuffers {
+
+    private final Matrix[] tiles = new Matrix[4];  // One per shape, filled in order of first use
+
+    /**
+     * Returns the buffer of the requested shape, allocating it on first use. Its contents are
+     * whatever the previous user left, so callers overwrite it (read a tile, or multiply with beta = 0).
+     *
+     * @param rows Tile rows.
+     * @param cols Tile columns.
+     * @return A rows x cols heap matrix.
+     */
+    Matrix get(int rows, int cols) {
+        for (int i = 0; i < tiles.length; i++) {
+            if (tiles[i] == null) {
+                tiles[i] = new Matrix(rows, cols);
+                return tiles[i];
+            }
+            if (tiles[i].getRows() == rows && tiles[i].getCols() == cols) {
+                return tiles[i];
+            }
+        }
+        // Not a tile grid (more than four shapes): keep the newest shape in the first slot
+        tiles[0] = new Matrix(rows, cols);
+        return tiles[0];
+    }
+}
@@ -0,0 +1,298 @@
+package edu.jhu.algos.algorithms;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.operations.MatrixOperations;
+import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+
+/**
+ * Implements the Winograd form of Strassen's Algorithm for square and rectangular matrix multiplication.
+ * <p>
+ * Like {@link StrassenMultiplication}, each recursion level replaces 8 half-size products with 7,
+ * so the complexity is O(n^(log2(7))) ≈ O(n^2.81) and the multiplication count is identical.
+ * Winograd's schedule reuses partial sums, needing only 15 matrix additions/subtractions per
+ * level instead of Strassen's 18:
+ * <pre>
+ * S1 = A21 + A22   S2 = S1 - A11   S3 = A11 - A21   S4 = A12 - S2
+ * T1 = B12 - B11   T2 = B22 - T1   T3 = B22 - B12   T4 = T2 - B21
+ *
+ * P1 = A11 * B11   P2 = A12 * B21  P3 = S4 * B22    P4 = A22 * T4
+ * P5 = S1 * T1     P6 = S2 * T2    P7 = S3 * T3
+ *
+ * U2 = P1 + P6     U3 = U2 + P7    U4 = U2 + P5
+ * C11 = P1 + P2    C12 = U4 + P3   C21 = U3 - P4    C22 = U3 + P5
+ * </pre>
+ * Each addition is a full O(n^2) pass over memory, so fewer of them means less memory traffic
+ * at every level. Submatrices are {@link MatrixView}s, and the schedule of Boyer, Dumas, Pernet
+ * and Zhou keeps every product and partial sum in the C quadrants plus two temporaries per level:
+ * X (for the S sums and P1) and Y (for the T sums). X and Y are carved out of one workspace array
+ * sized like StrassenMultiplication's, and the workspace and the product buffer used when
+ * beta != 0 are kept by this instance, so repeated calls of the same size do not allocate arrays.
+ * Blocks whose smallest dimension is {@code <= cutoff} use the same base-case kernel as
+ * StrassenMultiplication. Odd dimensions are handled by the same dynamic peeling as
+ * StrassenMultiplication.
+ * </p>
+ */
+public class WinogradStrassenMultiplication implements MatrixMultiplier {
+
+    private final PerformanceMetrics metrics;  // Tracks execution time and multiplication count
+    private int cutoff;  // Blocks of this size or smaller use the iterative base-case kernel
+
+    // Reusable scratch arrays: the recursion workspace and the product buffer used when beta != 0
+    private static final int SCRATCH_WORKSPACE = 0;
+    private static final int SCRATCH_PRODUCT = 1;
+    private final int[][] scratch = new int[2][0];
+
+    /**
+     * Default constructor uses {@link StrassenMultiplication#DEFAULT_CUTOFF}.
+     */
+    public WinogradStrassenMultiplication() {
+        this(StrassenMultiplication.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Constructs a Winograd-Strassen multiplier that stops recursing at the given block size.
+     *
+     * @param cutoff Largest block size multiplied directly by the base-case kernel (must be >= 1).
+     * @throws IllegalArgumentException if cutoff is less than 1.
+     */
+    public WinogradStrassenMultiplication(int cutoff) {
+        this.metrics = new PerformanceMetrics("WinogradStrassen");
+        setCutoff(cutoff);
+    }
+
+    /**
+     * Retrieves the recursion cutoff.
+     *
+     * @return The largest block size handled by the base-case kernel.
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Sets the recursion cutoff.
+     *
+     * @param cutoff Largest block size multiplied directly by the base-case kernel (must be >= 1).
+     * @throws IllegalArgumentException if cutoff is less than 1.
+     */
+    public void setCutoff(int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be at least 1.");
+        }
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Multiplies two matrices A and B using the Winograd form of Strassen's Algorithm.
+     *
+     * @param A The first matrix (m × k).
+     * @param B The second matrix (k × n).
+     * @return A new m × n Matrix containing A × B.
+     * @throws IllegalArgumentException if A's column count differs from B's row count.
+     */
+    @Override
+    public Matrix multiply(Matrix A, Matrix B) {
+        if (!MatrixValidator.isMultipliable(A, B)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Winograd multiplication.");
+        }
+
+        Matrix result = new Matrix(A.getRows(), B.getCols());  // Product is written straight into this matrix
+        multiply(A, B, result, 1, 0);
+        return result;
+    }
+
+    /**
+     * Computes C = alpha * (A × B) + beta * C using the Winograd form of Strassen's Algorithm.
+     * With alpha = 1 and beta = 0 the product is written straight into C; otherwise it is
+     * formed in a scratch buffer and then combined into C.
+     *
+     * @param A     The first matrix (m × k).
+     * @param B     The second matrix (k × n).
+     * @param C     The output matrix (m × n; must not share storage with A or B).
+     * @param alpha Scalar applied to the product A × B.
+     * @param beta  Scalar applied to the previous contents of C.
+     * @throws IllegalArgumentException if the dimensions are incompatible or C aliases A or B.
+     */
+    @Override
+    public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+        if (!MatrixValidator.isValidProduct(A, B, C)) {
+            throw new IllegalArgumentException("Matrix dimensions are incompatible for Winograd multiplication.");
+        }
+        if (MatrixValidator.sharesStorage(A, C) || MatrixValidator.sharesStorage(B, C)) {
+            throw new IllegalArgumentException("Output matrix must not share storage with an operand.");
+        }
+
+        metrics.resetAll();
+        metrics.startTimer(A.getRows(), A.getCols(), B.getCols());
+
+        // Check for zero matrices to avoid unnecessary computation: only beta * C remains
+        if (alpha == 0 || MatrixValidator.isZeroMatrix(A) || MatrixValidator.isZeroMatrix(B)) {
+            MatrixOperations.scale(beta, C.view());
+            metrics.stopTimer();
+            return;
+        }
+
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+        boolean direct = alpha == 1 && beta == 0;
+        MatrixView product = direct ? C.view() : new MatrixView(buffer(SCRATCH_PRODUCT, m * n), 0, n, m, n);
+        int[] workspace = buffer(SCRATCH_WORKSPACE, StrassenMultiplication.workspaceSize(m, inner, n, cutoff));
+        metrics.addSampledMultiplications(winogradRecursive(A.view(), B.view(), product, workspace, 0));
+        metrics.addAnalyticMultiplications(
+                () -> StrassenMultiplication.countMultiplications(A.getRows(), A.getCols(), B.getCols(), cutoff));
+
+        if (!direct) {
+            MatrixOperations.scale(beta, C.view());         // C = beta * C
+            MatrixOperations.axpy(alpha, product, C.view()); // C += alpha * (A × B)
+        }
+
+        metrics.stopTimer();
+    }
+
+    /**
+     * Returns this instance's scratch array in the given slot, growing it if it holds fewer than 'size' ints.
+     */
+    private int[] buffer(int slot, int size) {
+        if (scratch[slot].length < size) {
+            scratch[slot] = new int[size];
+        }
+        return scratch[slot];
+    }
+
+    /**
+     * Recursively computes A × B into C with Winograd's 7-product, 15-addition schedule.
+     * <p>
+     * Each level uses X (max(m/2 × k/2, m/2 × n/2) ints) and Y (k/2 × n/2 ints) at 'wsOffset' and
+     * leaves the rest of the workspace to the deeper levels. Products are parked in the C quadrants:
+     * <pre>
+     * X = S3, Y = T3, C21 = P7      X = S1, Y = T1, C22 = P5      X = S2, Y = T2, C12 = P6
+     * X = S4, Y = T4, C11 = P3      X = P1                        C12 = U2 = P1 + P6
+     * C21 = U3 = U2 + P7            C12 = U4 = U2 + P5            C22 = U3 + P5
+     * C12 = U4 + P3                 C11 = P4, C21 = U3 - P4       C11 = P2, C11 = P1 + P2
+     * </pre>
+     *
+     * @param A         The first operand (m × k).
+     * @param B         The second operand (k × n).
+     * @param C         The m × n view receiving A × B (must not overlap A or B).
+     * @param workspace Scratch array of at least StrassenMultiplication.workspaceSize(m, k, n, cutoff) ints.
+     * @param wsOffset  First workspace element this call may use.
+     * @return The number of scalar multiplications performed for this product.
+     */
+    private long winogradRecursive(MatrixView A, MatrixView B, MatrixView C, int[] workspace, int wsOffset) {
+        int m = A.getRows(), inner = A.getCols(), n = B.getCols();
+
+        // Base case: small (or thin) blocks are multiplied directly (1x1 with the default cutoff)
+        if (Math.min(m, Math.min(inner, n)) <= cutoff) {
+            return StrassenMultiplication.baseCaseMultiply(A, B, C);
+        }
+
+        // Odd dimension: recurse on the even core, then peel the leftover edges
+        if (((m | inner | n) & 1) != 0) {
+            int mEven = m & ~1, kEven = inner & ~1, nEven = n & ~1;
+            long multiplications = winogradRecursive(A.sub(0, 0, mEven, kEven), B.sub(0, 0, kEven, nEven),
+                    C.sub(0, 0, mEven, nEven), workspace, wsOffset);
+            return multiplications + StrassenMultiplication.multiplyOddEdges(A, B, C);
+        }
+
+        // Step 1: Address each operand as four quadrant views
+        MatrixView[] AParts = MatrixOperations.quadrants(A);
+        MatrixView[] BParts = MatrixOperations.quadrants(B);
+        MatrixView[] CParts = MatrixOperations.quadrants(C);
+
+        MatrixView A11 = AParts[0], A12 = AParts[1], A21 = AParts[2], A22 = AParts[3];
+        MatrixView B11 = BParts[0], B12 = BParts[1], B21 = BParts[2], B22 = BParts[3];
+        MatrixView C11 = CParts[0], C12 = CParts[1], C21 = CParts[2], C22 = CParts[3];
+
+        int mHalf = m / 2, kHalf = inner / 2, nHalf = n / 2;
+
+        // X holds the A-side sums and later P1 (m/2 × k/2, then m/2 × n/2), Y the B-side sums
+        int xOffset = wsOffset;
+        int yOffset = xOffset + Math.max(mHalf * kHalf, mHalf * nHalf);
+        int childOffset = yOffset + kHalf * nHalf;
+        MatrixView X = new MatrixView(workspace, xOffset, kHalf, mHalf, kHalf);
+        MatrixView Y = new MatrixView(workspace, yOffset, nHalf, kHalf, nHalf);
+
+        // P7 = S3 T3 -> C21
+        MatrixOperations.subtract(A11, A21, X);   // S3 = A11 - A21
+        MatrixOperations.subtract(B22, B12, Y);   // T3 = B22 - B12
+        long multiplications = winogradRecursive(X, Y, C21, workspace, childOffset);
+
+        // P5 = S1 T1 -> C22
+        MatrixOperations.add(A21, A22, X);        // S1 = A21 + A22
+        MatrixOperations.subtract(B12, B11, Y);   // T1 = B12 - B11
+        multiplications += winogradRecursive(X, Y, C22, workspace, childOffset);
+
+        // P6 = S2 T2 -> C12
+        MatrixOperations.subtract(X, A11, X);     // S2 = S1 - A11
+        MatrixOperations.subtract(B22, Y, Y);     // T2 = B22 - T1
+        multiplications += winogradRecursive(X, Y, C12, workspace, childOffset);
+
+        // P3 = S4 B22 -> C11
+        MatrixOperations.subtract(A12, X, X);     // S4 = A12 - S2
+        MatrixOperations.subtract(Y, B21, Y);     // T4 = T2 - B21
+        multiplications += winogradRecursive(X, B22, C11, workspace, childOffset);
+
+        // P1 = A11 B11 -> X (S4 is no longer needed)
+        MatrixView P1 = new MatrixView(workspace, xOffset, nHalf, mHalf, nHalf);
+        multiplications += winogradRecursive(A11, B11, P1, workspace, childOffset);
+
+        MatrixOperations.add(P1, C12, C12);       // U2 = P1 + P6
+        MatrixOperations.add(C12, C21, C21);      // U3 = U2 + P7
+        MatrixOperations.add(C12, C22, C12);      // U4 = U2 + P5
+        MatrixOperations.add(C21, C22, C22);      // C22 = U3 + P5
+        MatrixOperations.add(C12, C11, C12);      // C12 = U4 + P3
+
+        // P4 = A22 T4 -> C11 (P3 is no longer needed)
+        multiplications += winogradRecursive(A22, Y, C11, workspace, childOffset);
+        MatrixOperations.subtract(C21, C11, C21); // C21 = U3 - P4
+
+        // P2 = A12 B21 -> C11
+        multiplications += winogradRecursive(A12, B21, C11, workspace, childOffset);
+        MatrixOperations.add(P1, C11, C11);       // C11 = P1 + P2
+
+        return multiplications;
+    }
+
+    /**
+     * Retrieves the number of scalar multiplications performed
+     * during the last multiply() call.
+     *
+     * @return The multiplication count from PerformanceMetrics.
+     */
+    @Override
+    public long getMultiplicationCount() {
+        return metrics.getMultiplicationCount();
+    }
+
+    /**
+     * Retrieves the time in milliseconds for the last multiply() call.
+     *
+     * @return The elapsed time in milliseconds from PerformanceMetrics.
+     */
+    @Override
+    public long getElapsedTimeMs() {
+        return metrics.getElapsedTimeMs();
+    }
+
+    /**
+     * Retrieves the time in nanoseconds for the last multiply() call.
+     *
+     * @return The elapsed time in nanoseconds from PerformanceMetrics.
+     */
+    @Override
+    public long getElapsedTimeNs() {
+        return metrics.getElapsedTimeNs();
+    }
+
+    /**
+     * Retrieves the heap allocation and garbage collections of the last multiply() call.
+     *
+     * @return The resource usage from PerformanceMetrics.
+     */
+    @Override
+    public ResourceUsage getResourceUsage() {
+        return metrics.getResourceUsage();
+    }
+}
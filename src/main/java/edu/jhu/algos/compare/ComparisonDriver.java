@@ -6,7 +6,9 @@ import edu.jhu.algos.algorithms.MatrixMultiplier;
 import edu.jhu.algos.algorithms.NaiveMultiplication;
 import edu.jhu.algos.algorithms.StrassenMultiplication;
 import edu.jhu.algos.utils.MatrixUtils;
-import edu.jhu.algos.utils.DebugConfig;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+import edu.jhu.algos.utils.Tracer;
 
 import java.io.FileWriter;
 import java.io.IOException;
@@ -15,6 +17,7 @@ import java.util.List;
 
 /**
  * Runs Naive and Strassen matrix multiplication on multiple (A, B) matrix pairs.
+ * The algorithm compared against Naive is selectable (e.g. Strassen or Winograd-Strassen).
  * <p>
  * Generates:
  * - A detailed output log (step-by-step process).
@@ -35,6 +38,54 @@ public class ComparisonDriver {
      * @return ComparisonResult object containing output logs and performance records.
      */
     public static ComparisonResult runComparison(String inputFile, String outputFile) {
+        return runComparison(inputFile, outputFile, new StrassenMultiplication());
+    }
+
+    /**
+     * Same as {@link #runComparison(String, String)}, but uses the given (pre-configured)
+     * Strassen multiplier, e.g. one with a custom recursion cutoff.
+     *
+     * @param inputFile  Path to the input file containing matrix pairs.
+     * @param outputFile Path to the output file (optional). If null, defaults to "<inputFile>_output.txt".
+     * @param strassen   The Strassen multiplier to compare against Naive.
+     * @return ComparisonResult object containing output logs and performance records.
+     */
+    public static ComparisonResult runComparison(String inputFile, String outputFile, MatrixMultiplier strassen) {
+        return runComparison(inputFile, outputFile, strassen, "Strassen");
+    }
+
+    /**
+     * Same as {@link #runComparison(String, String, MatrixMultiplier)}, but compares Naive against
+     * any sub-cubic multiplier and labels its output with the given method name.
+     * Its timings and counts fill the "Strassen" columns of the performance table.
+     *
+     * @param inputFile  Path to the input file containing matrix pairs.
+     * @param outputFile Path to the output file (optional). If null, defaults to "<inputFile>_output.txt".
+     * @param fast       The multiplier to compare against Naive (e.g. Strassen or Winograd-Strassen).
+     * @param methodName The name of that multiplier (for the output log).
+     * @return ComparisonResult object containing output logs and performance records.
+     */
+    public static ComparisonResult runComparison(String inputFile, String outputFile,
+                                                 MatrixMultiplier fast, String methodName) {
+        return runComparison(inputFile, outputFile, new NaiveMultiplication(), "Naive", fast, methodName);
+    }
+
+    /**
+     * Same as {@link #runComparison(String, String, MatrixMultiplier, String)}, but with a selectable
+     * classical baseline (e.g. RecursiveMultiplication instead of Naive). The baseline's timings and
+     * counts fill the "Naive" columns of the performance table.
+     *
+     * @param inputFile    Path to the input file containing matrix pairs.
+     * @param outputFile   Path to the output file (optional). If null, defaults to "<inputFile>_output.txt".
+     * @param baseline     The classical multiplier the other one is checked and timed against.
+     * @param baselineName The name of the baseline (for the output log).
+     * @param fast         The multiplier to compare against the baseline (e.g. Strassen or Winograd-Strassen).
+     * @param methodName   The name of that multiplier (for the output log).
+     * @return ComparisonResult object containing output logs and performance records.
+     */
+    public static ComparisonResult runComparison(String inputFile, String outputFile,
+                                                 MatrixMultiplier baseline, String baselineName,
+                                                 MatrixMultiplier fast, String methodName) {
         StringBuilder fullOutput = new StringBuilder(); // Stores formatted output for printing & saving
         List<PerformanceRecord> records = new ArrayList<>(); // Stores performance metrics
 
@@ -55,33 +106,35 @@ public class ComparisonDriver {
             for (int i = 0; i < pairs.size(); i++) {
                 Matrix A = pairs.get(i)[0];
                 Matrix B = pairs.get(i)[1];
-                int n = A.getSize();
+                // Rectangular pairs are recorded at the cube size with the same m * k * n work
+                int n = (int) Math.round(Math.cbrt((double) A.getRows() * A.getCols() * B.getCols()));
 
                 fullOutput.append("====================================================\n")
                         .append("Matrix Pair #").append(i + 1).append("\n")
-                        .append("Matrix A (size ").append(n).append("):\n")
+                        .append("Matrix A (").append(describeSize(A)).append("):\n")
                         .append(MatrixUtils.toString(A)).append("\n")
-                        .append("Matrix B (size ").append(n).append("):\n")
+                        .append("Matrix B (").append(describeSize(B)).append("):\n")
                         .append(MatrixUtils.toString(B)).append("\n");
 
-                // Run Naive Multiplication
-                MultiplicationResult naiveResult = runMultiplication(new NaiveMultiplication(), A, B, "Naive");
+                // Run the classical baseline (Naive by default)
+                MultiplicationResult naiveResult = runMultiplication(baseline, A, B, baselineName);
                 fullOutput.append(naiveResult.output);
-                DebugConfig.log("Retrieved Naive Multiplications = " + naiveResult.multiplications);
+                Tracer.debug(() -> "Retrieved " + baselineName + " Multiplications = " + naiveResult.multiplications);
 
-                // Run Strassen Multiplication
-                MultiplicationResult strassenResult = runMultiplication(new StrassenMultiplication(), A, B, "Strassen");
+                // Run the selected fast multiplication (Strassen by default)
+                MultiplicationResult strassenResult = runMultiplication(fast, A, B, methodName);
                 fullOutput.append(strassenResult.output);
-                DebugConfig.log("Retrieved Strassen Multiplications = " + strassenResult.multiplications);
+                Tracer.debug(() -> "Retrieved " + methodName + " Multiplications = " + strassenResult.multiplications);
 
                 // Compare outputs for correctness
                 boolean same = MatrixUtils.compareMatrices(naiveResult.result, strassenResult.result);
-                fullOutput.append("Naive vs. Strassen same? ").append(same).append("\n")
+                fullOutput.append(baselineName).append(" vs. ").append(methodName).append(" same? ").append(same).append("\n")
                         .append("====================================================\n\n");
 
                 // Store performance data
-                records.add(new PerformanceRecord(n, naiveResult.timeMs, naiveResult.multiplications,
-                        strassenResult.timeMs, strassenResult.multiplications));
+                records.add(PerformanceRecord.ofNanos(n, naiveResult.timeNs, naiveResult.multiplications,
+                        strassenResult.timeNs, strassenResult.multiplications, strassenResult.phaseNs,
+                        naiveResult.usage, strassenResult.usage));
             }
 
             // PRINT ALL RESULTS FIRST
@@ -104,34 +157,56 @@ public class ComparisonDriver {
         return new ComparisonResult(fullOutput.toString(), records);
     }
 
+    /**
+     * Describes a matrix's dimensions for the output log: "size n" if square, "m x k" otherwise.
+     */
+    private static String describeSize(Matrix matrix) {
+        return matrix.isSquare()
+                ? "size " + matrix.getSize()
+                : matrix.getRows() + " x " + matrix.getCols();
+    }
+
     /**
      * Runs a specific matrix multiplication algorithm on (A, B) and returns the result.
      *
-     * @param multiplier  The algorithm to use (Naive or Strassen).
+     * @param multiplier  The algorithm to use (the baseline or the compared multiplier).
      * @param A           The first matrix.
      * @param B           The second matrix.
      * @param methodName  The name of the algorithm (for logging).
-     * @return MultiplicationResult object containing the result matrix, time, and multiplications.
+     * @return MultiplicationResult object containing the result matrix, time, multiplications,
+     *         phase breakdown (null if the multiplier recorded none) and resource usage.
      */
     private static MultiplicationResult runMultiplication(MatrixMultiplier multiplier, Matrix A, Matrix B, String methodName) {
-        DebugConfig.log("Running " + methodName + " multiplication...");
+        Tracer.debug(() -> "Running " + methodName + " multiplication...");
 
         Matrix result = multiplier.multiply(A, B);  // Perform multiplication
-        long timeMs = multiplier.getElapsedTimeMs();  // Get execution time
+        long timeNs = multiplier.getElapsedTimeNs();  // Get execution time
         long multiplications = multiplier.getMultiplicationCount();  // Get multiplication count
 
-        DebugConfig.log(methodName + " Multiplication Done");
-        DebugConfig.log("Time taken: " + timeMs + " ms");
-        DebugConfig.log("Multiplications counted: " + multiplications);
+        // Keep the phase breakdown only if the multiplier measured one
+        long[] phaseNs = new long[PerformanceMetrics.Phase.values().length];
+        boolean phased = false;
+        for (PerformanceMetrics.Phase phase : PerformanceMetrics.Phase.values()) {
+            phaseNs[phase.ordinal()] = multiplier.getPhaseTimeNs(phase);
+            phased |= phaseNs[phase.ordinal()] > 0;
+        }
+
+        Tracer.debug(() -> methodName + " Multiplication Done");
+        Tracer.debug(() -> "Time taken: " + timeNs + " ns");
+        Tracer.debug(() -> "Multiplications counted: " + multiplications);
+        ResourceUsage usage = multiplier.getResourceUsage();
+        Tracer.debug(() -> "Allocated: " + usage.getAllocatedBytes() + " bytes | GCs: " + usage.getGcCount()
+                + " (" + usage.getGcTimeMs() + " ms)");
 
         // Generate formatted output
         StringBuilder output = new StringBuilder();
         output.append(methodName).append(" Multiplication Result:\n")
                 .append(MatrixUtils.toString(result)).append("\n")
-                .append(methodName).append(" Time (ms): ").append(timeMs).append("\n")
+                .append(methodName).append(" Time (ms): ").append(String.format("%.3f", timeNs / 1e6)).append("\n")
                 .append(methodName).append(" Multiplications: ").append(multiplications).append("\n\n");
 
-        return new MultiplicationResult(result, timeMs, multiplications, output.toString());
+        return new MultiplicationResult(result, timeNs, multiplications, phased ? phaseNs : null, usage,
+                output.toString());
     }
 
     /**
@@ -152,14 +227,19 @@ public class ComparisonDriver {
      */
     private static class MultiplicationResult {
         public final Matrix result;
-        public final long timeMs;
+        public final long timeNs;
         public final long multiplications;
+        public final long[] phaseNs;
+        public final ResourceUsage usage;
         public final String output;
 
-        public MultiplicationResult(Matrix result, long timeMs, long multiplications, String output) {
+        public MultiplicationResult(Matrix result, long timeNs, long multiplications, long[] phaseNs,
+                                    ResourceUsage usage, String output) {
             this.result = result;
-            this.timeMs = timeMs;
+            this.timeNs = timeNs;
             this.multiplications = multiplications;
+            this.phaseNs = phaseNs;
+            this.usage = usage;
             this.output = output;
         }
     }
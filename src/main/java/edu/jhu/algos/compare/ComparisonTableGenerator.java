@@ -1,13 +1,16 @@
 package edu.jhu.algos.compare;
 
+import edu.jhu.algos.utils.PerformanceMetrics;
+
 import java.util.List;
 
 /**
  * Generates textual representations (ASCII, CSV) of performance records.
  * <p>
  * Supports:
- *  - Console-friendly ASCII table
- *  - CSV format for spreadsheet use
+ *  - Console-friendly ASCII table (times in ms with microsecond precision),
+ *    followed by a Strassen phase breakdown and an allocation/GC table when the records carry them
+ *  - CSV format for spreadsheet use (times in ns)
  * </p>
  */
 public class ComparisonTableGenerator {
@@ -29,15 +32,87 @@ public class ComparisonTableGenerator {
         sb.append("---------------------------------------------------------------------------------------------------\n");
 
         for (PerformanceRecord r : records) {
-            sb.append(String.format("| %10d | %15d | %15d | %15d | %15d |\n",
+            sb.append(String.format("| %10d | %15.3f | %15d | %18.3f | %15d |\n",
                     r.getSize(),
-                    r.getNaiveTimeMs(),
+                    r.getNaiveTimeNs() / 1e6,
                     r.getNaiveMultiplications(),
-                    r.getStrassenTimeMs(),
+                    r.getStrassenTimeNs() / 1e6,
                     r.getStrassenMultiplications()));
         }
         sb.append("---------------------------------------------------------------------------------------------------\n");
 
+        if (records.stream().anyMatch(PerformanceRecord::hasPhaseBreakdown)) {
+            sb.append(toPhaseTable(records));
+        }
+        if (records.stream().anyMatch(PerformanceRecord::hasResourceUsage)) {
+            sb.append(toResourceTable(records));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns an ASCII table of Strassen's time per phase (ms), one row per record that has a breakdown.
+     * Each row also shows the share of the total time the phases account for.
+     * @param records List of performance records.
+     * @return Formatted ASCII table as a string.
+     */
+    public static String toPhaseTable(List<PerformanceRecord> records) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Strassen Phase Breakdown (ms) ===\n");
+        sb.append("---------------------------------------------------------------------------------------------------\n");
+        sb.append(String.format("| %10s | %12s | %12s | %12s | %12s | %12s | %8s |\n",
+                "Matrix n", "Split", "Add/Sub", "Recursion", "Combine", "Merge", "Covered"));
+        sb.append("---------------------------------------------------------------------------------------------------\n");
+
+        for (PerformanceRecord r : records) {
+            if (!r.hasPhaseBreakdown()) {
+                continue;
+            }
+            sb.append(String.format("| %10d |", r.getSize()));
+            long phaseTotal = 0;
+            for (PerformanceMetrics.Phase phase : PerformanceMetrics.Phase.values()) {
+                long ns = r.getStrassenPhaseNs(phase);
+                phaseTotal += ns;
+                sb.append(String.format(" %12.3f |", ns / 1e6));
+            }
+            double covered = r.getStrassenTimeNs() > 0 ? 100.0 * phaseTotal / r.getStrassenTimeNs() : 0;
+            sb.append(String.format(" %7.1f%% |\n", covered));
+        }
+        sb.append("---------------------------------------------------------------------------------------------------\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns an ASCII table of the heap allocation (KB) and garbage collections of both runs,
+     * one row per record that has resource usage.
+     * @param records List of performance records.
+     * @return Formatted ASCII table as a string.
+     */
+    public static String toResourceTable(List<PerformanceRecord> records) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Allocation and GC ===\n");
+        sb.append("---------------------------------------------------------------------------------------------------\n");
+        sb.append(String.format("| %10s | %14s | %9s | %9s | %14s | %9s | %9s |\n",
+                "Matrix n", "Naive KB", "Naive GCs", "GC (ms)", "Strassen KB", "Str. GCs", "GC (ms)"));
+        sb.append("---------------------------------------------------------------------------------------------------\n");
+
+        for (PerformanceRecord r : records) {
+            if (!r.hasResourceUsage()) {
+                continue;
+            }
+            sb.append(String.format("| %10d | %14.1f | %9d | %9d | %14.1f | %9d | %9d |\n",
+                    r.getSize(),
+                    r.getNaiveAllocatedBytes() / 1024.0,
+                    r.getNaiveGcCount(),
+                    r.getNaiveGcTimeMs(),
+                    r.getStrassenAllocatedBytes() / 1024.0,
+                    r.getStrassenGcCount(),
+                    r.getStrassenGcTimeMs()));
+        }
+        sb.append("---------------------------------------------------------------------------------------------------\n");
+
         return sb.toString();
     }
 
@@ -52,15 +127,33 @@ public class ComparisonTableGenerator {
         }
 
         StringBuilder sb = new StringBuilder();
-        sb.append("n,naiveTimeMs,naiveMultiplications,strassenTimeMs,strassenMultiplications\n");
+        sb.append("n,naiveTimeNs,naiveMultiplications,strassenTimeNs,strassenMultiplications,"
+                + "splitNs,addSubtractNs,recursionNs,combineNs,mergeNs,"
+                + "naiveAllocatedBytes,naiveGcCount,naiveGcTimeMs,strassenAllocatedBytes,strassenGcCount,strassenGcTimeMs\n");
 
         for (PerformanceRecord r : records) {
-            sb.append(String.format("%d,%d,%d,%d,%d\n",
+            sb.append(String.format("%d,%d,%d,%d,%d",
                     r.getSize(),
-                    r.getNaiveTimeMs(),
+                    r.getNaiveTimeNs(),
                     r.getNaiveMultiplications(),
-                    r.getStrassenTimeMs(),
+                    r.getStrassenTimeNs(),
                     r.getStrassenMultiplications()));
+            // Phase columns stay empty when the breakdown was not measured
+            for (PerformanceMetrics.Phase phase : PerformanceMetrics.Phase.values()) {
+                sb.append(',');
+                if (r.hasPhaseBreakdown()) {
+                    sb.append(r.getStrassenPhaseNs(phase));
+                }
+            }
+            // Resource columns stay empty when allocation and GC were not measured
+            if (r.hasResourceUsage()) {
+                sb.append(String.format(",%d,%d,%d,%d,%d,%d",
+                        r.getNaiveAllocatedBytes(), r.getNaiveGcCount(), r.getNaiveGcTimeMs(),
+                        r.getStrassenAllocatedBytes(), r.getStrassenGcCount(), r.getStrassenGcTimeMs()));
+            } else {
+                sb.append(",,,,,,");
+            }
+            sb.append('\n');
         }
 
         return sb.toString();
@@ -1,7 +1,7 @@
 package edu.jhu.algos.compare;
 
 import java.util.List;
-import edu.jhu.algos.utils.DebugConfig; // Import DebugConfig
+import edu.jhu.algos.utils.Tracer;
 
 /**
  * Fits empirical performance data to theoretical complexity functions.
@@ -34,7 +34,7 @@ public class CurveFitter {
         }
 
         for (PerformanceRecord r : records) {
-            long time = useNaiveTime ? r.getNaiveTimeMs() : r.getStrassenTimeMs();
+            double time = (useNaiveTime ? r.getNaiveTimeNs() : r.getStrassenTimeNs()) / 1e6;  // ms, not truncated
             int size = r.getSize();
 
             // Strictly ignore negative or zero times
@@ -48,10 +48,12 @@ public class CurveFitter {
             validCount++;
         }
 
-        // Debugging logs
-        DebugConfig.log(String.format("Valid Data Points: %d", validCount));
-        DebugConfig.log(String.format("Computed Numerator: %.8e", numerator));
-        DebugConfig.log(String.format("Computed Denominator: %.8e", denominator));
+        // Debugging logs (copies of the accumulators, as the messages are built lazily)
+        int points = validCount;
+        double num = numerator, den = denominator;
+        Tracer.debug(() -> String.format("Valid Data Points: %d", points));
+        Tracer.debug(() -> String.format("Computed Numerator: %.8e", num));
+        Tracer.debug(() -> String.format("Computed Denominator: %.8e", den));
 
         // Ensure a strict threshold on small denominators
         if (validCount == 0 || Math.abs(denominator) < 1e-8) {
@@ -60,7 +62,7 @@ public class CurveFitter {
         }
 
         double result = numerator / denominator;
-        DebugConfig.log(String.format("Computed Constant (exp=%.6f): %.8f", exponent, result));
+        Tracer.debug(() -> String.format("Computed Constant (exp=%.6f): %.8f", exponent, result));
         return result;
     }
 }
@@ -1,79 +1,204 @@
 package edu.jhu.algos.compare;
 
-import edu.jhu.algos.utils.DebugConfig; // Import DebugConfig
+import edu.jhu.algos.utils.PerformanceMetrics;
+import edu.jhu.algos.utils.ResourceUsage;
+import edu.jhu.algos.utils.Tracer;
 
 /**
  * Stores performance metrics for a single matrix multiplication comparison.
  * <p>
  * Each record tracks:
  * - Matrix size (n x n),
- * - Execution time for Naive and Strassen algorithms,
- * - Scalar multiplication counts for both algorithms.
+ * - Execution time for Naive and Strassen algorithms (in nanoseconds, so sub-millisecond runs keep their value),
+ * - Scalar multiplication counts for both algorithms,
+ * - Optionally, Strassen's time per {@link PerformanceMetrics.Phase} (see StrassenMultiplication#setPhaseTiming),
+ * - Optionally, the heap allocation and GC count/time of both runs (see {@link ResourceUsage}).
  * </p>
  */
 public class PerformanceRecord {
-    private final int n;                 // Matrix size (must be power of 2)
-    private final long naiveTimeMs;      // Execution time for Naive in milliseconds
-    private final long strassenTimeMs;   // Execution time for Strassen in milliseconds
+    private final int n;                 // Matrix size (cube root of m * k * n for rectangular pairs)
+    private final long naiveTimeNs;      // Execution time for Naive in nanoseconds
+    private final long strassenTimeNs;   // Execution time for Strassen in nanoseconds
     private final long naiveMultiplications;   // Number of multiplications in Naive
     private final long strassenMultiplications; // Number of multiplications in Strassen
+    private final long[] strassenPhaseNs; // Strassen time per phase (indexed by Phase.ordinal()), or null
+    private final boolean hasResourceUsage;   // Whether allocation and GC were measured
+    private final long naiveAllocatedBytes;   // Heap bytes allocated by Naive
+    private final long naiveGcCount;          // Garbage collections during Naive
+    private final long naiveGcTimeMs;         // Garbage collection time during Naive (ms)
+    private final long strassenAllocatedBytes; // Heap bytes allocated by Strassen
+    private final long strassenGcCount;        // Garbage collections during Strassen
+    private final long strassenGcTimeMs;       // Garbage collection time during Strassen (ms)
 
     /**
-     * Constructs a PerformanceRecord for a specific matrix size.
+     * Constructs a PerformanceRecord for a specific matrix size from millisecond timings.
      *
-     * @param n The size of the matrices (must be square and power of 2).
+     * @param n The size of the matrices (for rectangular pairs, the cube size with the same m * k * n work).
      * @param naiveTimeMs Execution time for Naive algorithm (milliseconds).
-     * @param strassenTimeMs Execution time for Strassen algorithm (milliseconds).
      * @param naiveMultiplications Number of scalar multiplications in Naive multiplication.
+     * @param strassenTimeMs Execution time for Strassen algorithm (milliseconds).
      * @param strassenMultiplications Number of scalar multiplications in Strassen multiplication.
      */
     public PerformanceRecord(int n, long naiveTimeMs, long naiveMultiplications,
                              long strassenTimeMs, long strassenMultiplications) {
-        this.n = n;
-
-        // Ensure execution times are valid and log them for debugging
-        this.naiveTimeMs = Math.max(naiveTimeMs, 1);  // Prevent 0ms times
-        this.strassenTimeMs = Math.max(strassenTimeMs, 1);
+        this(n, naiveTimeMs * 1_000_000L, naiveMultiplications, strassenTimeMs * 1_000_000L,
+                strassenMultiplications, null, null, null);
+    }
 
+    /**
+     * Constructs a PerformanceRecord from nanosecond timings, with an optional Strassen phase breakdown
+     * and optional resource usage (copied, since multipliers reuse their ResourceUsage).
+     */
+    private PerformanceRecord(int n, long naiveTimeNs, long naiveMultiplications,
+                              long strassenTimeNs, long strassenMultiplications, long[] strassenPhaseNs,
+                              ResourceUsage naiveUsage, ResourceUsage strassenUsage) {
+        this.n = n;
+        this.naiveTimeNs = naiveTimeNs;
+        this.strassenTimeNs = strassenTimeNs;
         this.naiveMultiplications = naiveMultiplications;
         this.strassenMultiplications = strassenMultiplications;
+        this.strassenPhaseNs = strassenPhaseNs == null ? null : strassenPhaseNs.clone();
+        this.hasResourceUsage = naiveUsage != null || strassenUsage != null;
+        this.naiveAllocatedBytes = naiveUsage == null ? 0 : naiveUsage.getAllocatedBytes();
+        this.naiveGcCount = naiveUsage == null ? 0 : naiveUsage.getGcCount();
+        this.naiveGcTimeMs = naiveUsage == null ? 0 : naiveUsage.getGcTimeMs();
+        this.strassenAllocatedBytes = strassenUsage == null ? 0 : strassenUsage.getAllocatedBytes();
+        this.strassenGcCount = strassenUsage == null ? 0 : strassenUsage.getGcCount();
+        this.strassenGcTimeMs = strassenUsage == null ? 0 : strassenUsage.getGcTimeMs();
 
         // Debugging logs to track exact values
-        DebugConfig.log(String.format(
-                "PerformanceRecord Created | Matrix Size: %d | Naive Time: %d ms | Strassen Time: %d ms | " +
+        Tracer.debug(() -> String.format(
+                "PerformanceRecord Created | Matrix Size: %d | Naive Time: %d ns | Strassen Time: %d ns | " +
                         "Naive Multiplications: %d | Strassen Multiplications: %d",
-                n, this.naiveTimeMs, this.strassenTimeMs, naiveMultiplications, strassenMultiplications
+                n, naiveTimeNs, strassenTimeNs, naiveMultiplications, strassenMultiplications
         ));
 
-        // Additional debug: Warn if execution time is unexpectedly small
-        if (naiveTimeMs <= 0 || strassenTimeMs <= 0) {
-            System.err.printf("Warning: Execution time too small for matrix size %d. Adjusting values.%n", n);
+        // Times are stored as measured; a non-positive time means the timer was not run
+        if (naiveTimeNs <= 0 || strassenTimeNs <= 0) {
+            System.err.printf("Warning: No execution time recorded for matrix size %d.%n", n);
+        }
+    }
+
+    /**
+     * Creates a PerformanceRecord from nanosecond timings.
+     *
+     * @param n The size of the matrices (for rectangular pairs, the cube size with the same m * k * n work).
+     * @param naiveTimeNs Execution time for Naive algorithm (nanoseconds).
+     * @param naiveMultiplications Number of scalar multiplications in Naive multiplication.
+     * @param strassenTimeNs Execution time for Strassen algorithm (nanoseconds).
+     * @param strassenMultiplications Number of scalar multiplications in Strassen multiplication.
+     * @param strassenPhaseNs Strassen time per phase, indexed by Phase.ordinal() (null if not measured).
+     * @return A new PerformanceRecord.
+     * @throws IllegalArgumentException if strassenPhaseNs does not have one entry per phase.
+     */
+    public static PerformanceRecord ofNanos(int n, long naiveTimeNs, long naiveMultiplications,
+                                            long strassenTimeNs, long strassenMultiplications,
+                                            long[] strassenPhaseNs) {
+        return ofNanos(n, naiveTimeNs, naiveMultiplications, strassenTimeNs, strassenMultiplications,
+                strassenPhaseNs, null, null);
+    }
+
+    /**
+     * Creates a PerformanceRecord from nanosecond timings and the resource usage of both runs.
+     *
+     * @param n The size of the matrices (for rectangular pairs, the cube size with the same m * k * n work).
+     * @param naiveTimeNs Execution time for Naive algorithm (nanoseconds).
+     * @param naiveMultiplications Number of scalar multiplications in Naive multiplication.
+     * @param strassenTimeNs Execution time for Strassen algorithm (nanoseconds).
+     * @param strassenMultiplications Number of scalar multiplications in Strassen multiplication.
+     * @param strassenPhaseNs Strassen time per phase, indexed by Phase.ordinal() (null if not measured).
+     * @param naiveUsage Allocation and GC of the Naive run (null if not measured; values are copied).
+     * @param strassenUsage Allocation and GC of the Strassen run (null if not measured; values are copied).
+     * @return A new PerformanceRecord.
+     * @throws IllegalArgumentException if strassenPhaseNs does not have one entry per phase.
+     */
+    public static PerformanceRecord ofNanos(int n, long naiveTimeNs, long naiveMultiplications,
+                                            long strassenTimeNs, long strassenMultiplications,
+                                            long[] strassenPhaseNs,
+                                            ResourceUsage naiveUsage, ResourceUsage strassenUsage) {
+        if (strassenPhaseNs != null && strassenPhaseNs.length != PerformanceMetrics.Phase.values().length) {
+            throw new IllegalArgumentException("Phase breakdown must have one entry per phase.");
         }
+        return new PerformanceRecord(n, naiveTimeNs, naiveMultiplications,
+                strassenTimeNs, strassenMultiplications, strassenPhaseNs, naiveUsage, strassenUsage);
     }
 
     // Getters for all fields (ensures immutability)
     public int getSize() {
-        DebugConfig.log("Retrieving Matrix Size: " + n);
         return n;
     }
 
+    public long getNaiveTimeNs() {
+        return naiveTimeNs;
+    }
+
+    public long getStrassenTimeNs() {
+        return strassenTimeNs;
+    }
+
+    // Whole milliseconds (truncated); use the ns getters for sub-millisecond runs
     public long getNaiveTimeMs() {
-        DebugConfig.log("Retrieving Naive Time (ms): " + naiveTimeMs);
-        return naiveTimeMs;
+        return naiveTimeNs / 1_000_000;
     }
 
     public long getStrassenTimeMs() {
-        DebugConfig.log("Retrieving Strassen Time (ms): " + strassenTimeMs);
-        return strassenTimeMs;
+        return strassenTimeNs / 1_000_000;
+    }
+
+    /**
+     * Checks whether this record carries a Strassen phase breakdown.
+     * @return True if phase times were measured.
+     */
+    public boolean hasPhaseBreakdown() {
+        return strassenPhaseNs != null;
+    }
+
+    /**
+     * Retrieves Strassen's time in one phase.
+     * @param phase The phase to query.
+     * @return The time in nanoseconds (0 if no breakdown was recorded).
+     */
+    public long getStrassenPhaseNs(PerformanceMetrics.Phase phase) {
+        return strassenPhaseNs == null ? 0 : strassenPhaseNs[phase.ordinal()];
+    }
+
+    /**
+     * Checks whether this record carries allocation and GC measurements.
+     * @return True if resource usage was measured.
+     */
+    public boolean hasResourceUsage() {
+        return hasResourceUsage;
+    }
+
+    public long getNaiveAllocatedBytes() {
+        return naiveAllocatedBytes;
+    }
+
+    public long getNaiveGcCount() {
+        return naiveGcCount;
+    }
+
+    public long getNaiveGcTimeMs() {
+        return naiveGcTimeMs;
+    }
+
+    public long getStrassenAllocatedBytes() {
+        return strassenAllocatedBytes;
+    }
+
+    public long getStrassenGcCount() {
+        return strassenGcCount;
+    }
+
+    public long getStrassenGcTimeMs() {
+        return strassenGcTimeMs;
     }
 
     public long getNaiveMultiplications() {
-        DebugConfig.log("Retrieving Naive Multiplications: " + naiveMultiplications);
         return naiveMultiplications;
     }
 
     public long getStrassenMultiplications() {
-        DebugConfig.log("Retrieving Strassen Multiplications: " + strassenMultiplications);
         return strassenMultiplications;
     }
 
@@ -87,6 +212,6 @@ public class PerformanceRecord {
     public String toString() {
         return String.format("Size: %d | Naive Time: %d ms | Strassen Time: %d ms | " +
                         "Naive Multiplications: %d | Strassen Multiplications: %d",
-                n, naiveTimeMs, strassenTimeMs, naiveMultiplications, strassenMultiplications);
+                n, getNaiveTimeMs(), getStrassenTimeMs(), naiveMultiplications, strassenMultiplications);
     }
 }
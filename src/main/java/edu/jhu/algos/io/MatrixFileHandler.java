@@ -1,6 +1,7 @@
 package edu.jhu.algos.io;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.profiling.MatrixParseEvent;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
@@ -11,14 +12,15 @@ import java.util.List;
  * Handles reading multiple matrix pairs from a file in row-major order.
  *
  * Expected format:
- * (1) A line with size n
- * (2) n lines for matrix A
- * (3) n lines for matrix B
+ * (1) A line with size n (square pair), or "m k n" (A is m x k, B is k x n)
+ * (2) n (or m) lines for matrix A
+ * (3) n (or k) lines for matrix B
  * (4) a blank line (optional)
- * Then repeats for more pairs.
+ * Then repeats for more pairs. Sizes do not need to be powers of 2.
  *
  * The method readMatrixPairs(...) returns a List of Matrix[] pairs,
  * where each Matrix[] has exactly two elements: [ A, B ].
+ * Every call is reported to Java Flight Recorder as a {@link MatrixParseEvent}.
  */
 public class MatrixFileHandler {
 
@@ -32,6 +34,10 @@ public class MatrixFileHandler {
      */
     public List<Matrix[]> readMatrixPairs(String filePath) throws IOException {
         List<Matrix[]> pairs = new ArrayList<>(); // List to store all (A, B) matrix pairs
+        MatrixParseEvent event = new MatrixParseEvent();
+        event.begin();
+        long elements = 0;         // Matrix elements parsed so far, for the event
+        boolean succeeded = false;
 
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
             // Try-with-resources ensures the file is properly closed
@@ -42,49 +48,70 @@ public class MatrixFileHandler {
                     continue;
                 }
 
-                // Parse matrix size from the first non-blank line
-                int n;
+                // Parse the dimensions from the first non-blank line: "n" or "m k n"
+                String[] dims = line.trim().split("\\s+");
+                if (dims.length != 1 && dims.length != 3) {
+                    throw new IOException("Invalid matrix size in file: '" + line + "'. Expected 'n' or 'm k n'.");
+                }
+                int[] size = new int[dims.length];
                 try {
-                    n = Integer.parseInt(line.trim()); // Convert string to integer
-                    if (n <= 0) { // Ensure matrix size is valid
-                        throw new IOException("Matrix size must be a positive integer.");
+                    for (int d = 0; d < dims.length; d++) {
+                        size[d] = Integer.parseInt(dims[d]); // Convert string to integer
+                        if (size[d] <= 0) { // Ensure matrix size is valid
+                            throw new IOException("Matrix size must be a positive integer.");
+                        }
                     }
                 } catch (NumberFormatException e) {
                     throw new IOException("Invalid matrix size in file: '" + line + "'. Expected a positive integer.");
                 }
+                int m = size[0];                              // Rows of A
+                int k = dims.length == 3 ? size[1] : m;       // Columns of A = rows of B
+                int n = dims.length == 3 ? size[2] : m;       // Columns of B
 
                 // Read matrices A and B from the file
-                int[][] dataA = readMatrix(reader, n, "A"); // Reads matrix A
-                int[][] dataB = readMatrix(reader, n, "B"); // Reads matrix B
+                int[] dataA = readMatrix(reader, m, k, "A"); // Reads matrix A
+                int[] dataB = readMatrix(reader, k, n, "B"); // Reads matrix B
 
-                // Create Matrix objects for A and B
-                Matrix A = new Matrix(dataA);
-                Matrix B = new Matrix(dataB);
+                // Wrap the flat arrays in Matrix objects (no extra copy)
+                Matrix A = new Matrix(m, k, dataA);
+                Matrix B = new Matrix(k, n, dataB);
 
                 // Store the pair [A, B] in the list
                 pairs.add(new Matrix[]{ A, B });
+                elements += (long) m * k + (long) k * n;
 
                 // Debug log to confirm successful reading
                 System.out.println("Successfully read matrix pair #" + pairs.size());
             }
+            succeeded = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = filePath;
+                event.pairs = pairs.size();
+                event.elements = elements;
+                event.succeeded = succeeded;
+                event.commit();
+            }
         }
 
         return pairs; // Return all matrix pairs
     }
 
     /**
-     * Reads a single matrix of size n x n from the given BufferedReader.
+     * Reads a single matrix of size rows x cols from the given BufferedReader.
      *
      * @param reader The BufferedReader for reading the file.
-     * @param n The size of the matrix (number of rows and columns).
+     * @param rows The number of rows of the matrix.
+     * @param cols The number of columns of the matrix.
      * @param matrixName The name of the matrix (for error messages).
-     * @return A 2D integer array representing the matrix.
+     * @return A flat row-major array of rows * cols integers representing the matrix.
      * @throws IOException If an error occurs during reading.
      */
-    private int[][] readMatrix(BufferedReader reader, int n, String matrixName) throws IOException {
-        int[][] matrix = new int[n][n]; // Create an empty n x n matrix
+    private int[] readMatrix(BufferedReader reader, int rows, int cols, String matrixName) throws IOException {
+        int[] matrix = new int[rows * cols]; // Create an empty rows x cols matrix in row-major order
 
-        for (int i = 0; i < n; i++) { // Loop over rows
+        for (int i = 0; i < rows; i++) { // Loop over rows
             String rowLine = reader.readLine(); // Read next row from file
 
             if (rowLine == null) { // Handle unexpected end of file
@@ -92,13 +119,14 @@ public class MatrixFileHandler {
             }
 
             String[] tokens = rowLine.trim().split("\\s+"); // Split row into tokens (numbers)
-            if (tokens.length != n) { // Ensure correct number of columns
+            if (tokens.length != cols) { // Ensure correct number of columns
                 throw new IOException("Incorrect number of columns in row " + (i + 1) + " of matrix " + matrixName + ".");
             }
 
             try {
-                for (int j = 0; j < n; j++) { // Loop over columns
-                    matrix[i][j] = Integer.parseInt(tokens[j]); // Convert to integer
+                int rowStart = i * cols; // Offset of row i in the flat array
+                for (int j = 0; j < cols; j++) { // Loop over columns
+                    matrix[rowStart + j] = Integer.parseInt(tokens[j]); // Convert to integer
                 }
             } catch (NumberFormatException e) { // Handle non-integer values
                 throw new IOException("Invalid number in matrix " + matrixName + " at row " + (i + 1) + ": '" + rowLine + "'");
@@ -0,0 +1,324 @@
+package edu.jhu.algos.io;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.DirectBuffers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A rows x cols integer matrix stored on disk as square tiles, accessed through memory mapping.
+ * <p>
+ * File layout (little-endian):
+ * - A {@value #HEADER_BYTES}-byte header: magic, version, rows, cols, tile size,
+ * - The tiles in row-major tile order, each stored as a full tileSize x tileSize block
+ *   (edge tiles are zero-padded), so tile (ti, tj) starts at a fixed offset.
+ * Every {@link #readTile} / {@link #writeTile} call maps just that tile with {@link FileChannel#map},
+ * copies it to or from a heap {@link Matrix}, and unmaps it again. Resident memory therefore stays
+ * bounded by the tiles a caller holds on the heap, however large the file is.
+ * </p>
+ */
+public class TiledMatrixFile implements Closeable {
+
+    /** Size of the file header in bytes. */
+    public static final int HEADER_BYTES = 32;
+
+    private static final int MAGIC = 0x4D4D5446;  // "MMTF"
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int rows;       // Number of rows of the stored matrix.
+    private final int cols;       // Number of columns of the stored matrix.
+    private final int tileSize;   // Edge length of every stored tile.
+    private final boolean writable;
+
+    private TiledMatrixFile(Path path, FileChannel channel, boolean writable, int rows, int cols, int tileSize) {
+        this.path = path;
+        this.channel = channel;
+        this.writable = writable;
+        this.rows = rows;
+        this.cols = cols;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Creates (or truncates) a zero-filled tiled matrix file.
+     *
+     * @param path     The file to create.
+     * @param rows     Number of rows (must be positive).
+     * @param cols     Number of columns (must be positive).
+     * @param tileSize Edge length of the stored tiles (must be positive).
+     * @return The open file (the caller must close it).
+     * @throws IllegalArgumentException if a dimension or the tile size is not positive.
+     * @throws IOException if the file cannot be created.
+     */
+    public static TiledMatrixFile create(Path path, int rows, int cols, int tileSize) throws IOException {
+        if (rows <= 0 || cols <= 0 || tileSize <= 0) {
+            throw new IllegalArgumentException("Matrix dimensions and tile size must be positive.");
+        }
+        if (4L * tileSize * tileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tile size " + tileSize + " is too large to map one tile.");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        TiledMatrixFile file = new TiledMatrixFile(path, channel, true, rows, cols, tileSize);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(tileSize).rewind();
+            channel.write(header, 0);
+            // Extend the file to its full size; the tiles stay zero (and sparse) until written
+            channel.write(ByteBuffer.allocate(1), file.tileOffset(file.getTileRows(), 0) - 1);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Opens an existing tiled matrix file.
+     *
+     * @param path The file to open.
+     * @param writable True to allow {@link #writeTile}.
+     * @return The open file (the caller must close it).
+     * @throws IOException if the file cannot be read or is not a tiled matrix file.
+     */
+    public static TiledMatrixFile open(Path path, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.read(header, 0) != HEADER_BYTES || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a tiled matrix file: " + path);
+            }
+            int rows = header.getInt(8), cols = header.getInt(12), tileSize = header.getInt(16);
+            if (rows <= 0 || cols <= 0 || tileSize <= 0) {
+                throw new IOException("Invalid matrix header in file: " + path);
+            }
+            TiledMatrixFile file = new TiledMatrixFile(path, channel, writable, rows, cols, tileSize);
+            if (channel.size() < file.tileOffset(file.getTileRows(), 0)) {
+                throw new IOException("Tiled matrix file is truncated: " + path);
+            }
+            return file;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a heap matrix to a new tiled matrix file.
+     *
+     * @param path     The file to create.
+     * @param source   The matrix to store.
+     * @param tileSize Edge length of the stored tiles (must be positive).
+     * @return The open file (the caller must close it).
+     * @throws IOException if the file cannot be written.
+     */
+    public static TiledMatrixFile write(Path path, Matrix source, int tileSize) throws IOException {
+        TiledMatrixFile file = create(path, source.getRows(), source.getCols(), tileSize);
+        try {
+            // Each tile is stored straight from the source rows, with no heap copy in between
+            int stride = source.getStride();
+            for (int ti = 0; ti < file.getTileRows(); ti++) {
+                for (int tj = 0; tj < file.getTileCols(); tj++) {
+                    file.writeRows(ti, tj, source.getRawData(), ti * tileSize * stride + tj * tileSize, stride);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Retrieves the path of the backing file.
+     * @return The file path.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieves the number of rows of the stored matrix.
+     * @return The row count.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of columns of the stored matrix.
+     * @return The column count.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Retrieves the edge length of the stored tiles.
+     * @return The tile size.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Retrieves the number of tile rows.
+     * @return ceil(rows / tileSize).
+     */
+    public int getTileRows() {
+        return (rows + tileSize - 1) / tileSize;
+    }
+
+    /**
+     * Retrieves the number of tile columns.
+     * @return ceil(cols / tileSize).
+     */
+    public int getTileCols() {
+        return (cols + tileSize - 1) / tileSize;
+    }
+
+    /**
+     * Retrieves the number of valid rows in tile row 'ti' (only the last tile row can be shorter).
+     * @param ti Tile row index.
+     * @return The height of the tiles in that row.
+     */
+    public int tileHeight(int ti) {
+        return Math.min(tileSize, rows - ti * tileSize);
+    }
+
+    /**
+     * Retrieves the number of valid columns in tile column 'tj' (only the last tile column can be narrower).
+     * @param tj Tile column index.
+     * @return The width of the tiles in that column.
+     */
+    public int tileWidth(int tj) {
+        return Math.min(tileSize, cols - tj * tileSize);
+    }
+
+    /**
+     * Copies tile (ti, tj) into a heap matrix of exactly tileHeight(ti) x tileWidth(tj).
+     *
+     * @param ti   Tile row index.
+     * @param tj   Tile column index.
+     * @param dest The matrix receiving the tile.
+     * @throws IllegalArgumentException if the tile index or the size of 'dest' is invalid.
+     * @throws IOException if the tile cannot be mapped.
+     */
+    public void readTile(int ti, int tj, Matrix dest) throws IOException {
+        checkTile(ti, tj, dest);
+        readRows(ti, tj, dest.getRawData(), 0, dest.getStride());
+    }
+
+    /**
+     * Overwrites tile (ti, tj) with a heap matrix of exactly tileHeight(ti) x tileWidth(tj).
+     *
+     * @param ti  Tile row index.
+     * @param tj  Tile column index.
+     * @param src The matrix to store.
+     * @throws IllegalArgumentException if the tile index or the size of 'src' is invalid.
+     * @throws IOException if the file was opened read-only or the tile cannot be mapped.
+     */
+    public void writeTile(int ti, int tj, Matrix src) throws IOException {
+        checkTile(ti, tj, src);
+        writeRows(ti, tj, src.getRawData(), 0, src.getStride());
+    }
+
+    /**
+     * Reads the whole matrix onto the heap.
+     *
+     * @return A Matrix holding the stored values.
+     * @throws IOException if a tile cannot be read.
+     */
+    public Matrix toMatrix() throws IOException {
+        Matrix result = new Matrix(rows, cols);
+        int stride = result.getStride();
+        for (int ti = 0; ti < getTileRows(); ti++) {
+            for (int tj = 0; tj < getTileCols(); tj++) {
+                // Read the tile straight into its rows of the result
+                readRows(ti, tj, result.getRawData(), ti * tileSize * stride + tj * tileSize, stride);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Closes the underlying file channel.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Byte offset of tile (ti, tj) in the file.
+     */
+    private long tileOffset(int ti, int tj) {
+        return HEADER_BYTES + ((long) ti * getTileCols() + tj) * 4L * tileSize * tileSize;
+    }
+
+    /**
+     * Maps the full (padded) region of tile (ti, tj).
+     */
+    private MappedByteBuffer map(int ti, int tj, FileChannel.MapMode mode) throws IOException {
+        return channel.map(mode, tileOffset(ti, tj), 4L * tileSize * tileSize);
+    }
+
+    /**
+     * Copies tile (ti, tj) into tileHeight(ti) rows of tileWidth(tj) values, starting at 'offset' of 'data'.
+     */
+    private void readRows(int ti, int tj, int[] data, int offset, int stride) throws IOException {
+        MappedByteBuffer mapped = map(ti, tj, FileChannel.MapMode.READ_ONLY);
+        try {
+            IntBuffer tile = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            for (int i = 0; i < tileHeight(ti); i++) {
+                tile.get(i * tileSize, data, offset + i * stride, tileWidth(tj));
+            }
+        } finally {
+            DirectBuffers.release(mapped);
+        }
+    }
+
+    /**
+     * Overwrites tile (ti, tj) with tileHeight(ti) rows of tileWidth(tj) values, starting at 'offset' of 'data'.
+     */
+    private void writeRows(int ti, int tj, int[] data, int offset, int stride) throws IOException {
+        if (!writable) {
+            throw new IOException("Tiled matrix file is open read-only: " + path);
+        }
+        MappedByteBuffer mapped = map(ti, tj, FileChannel.MapMode.READ_WRITE);
+        try {
+            IntBuffer tile = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            for (int i = 0; i < tileHeight(ti); i++) {
+                tile.put(i * tileSize, data, offset + i * stride, tileWidth(tj));
+            }
+        } finally {
+            DirectBuffers.release(mapped);  // Dirty pages are written back by the OS
+        }
+    }
+
+    /**
+     * Validates a tile index and the size of the heap matrix exchanged with it.
+     */
+    private void checkTile(int ti, int tj, Matrix tile) {
+        if (ti < 0 || ti >= getTileRows() || tj < 0 || tj >= getTileCols()) {
+            throw new IllegalArgumentException("Invalid tile (" + ti + ", " + tj + ") in a " +
+                    getTileRows() + "x" + getTileCols() + " tile grid.");
+        }
+        if (tile.getRows() != tileHeight(ti) || tile.getCols() != tileWidth(tj)) {
+            throw new IllegalArgumentException("Tile (" + ti + ", " + tj + ") is " + tileHeight(ti) + "x" +
+                    tileWidth(tj) + ", not " + tile.getRows() + "x" + tile.getCols() + ".");
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package edu.jhu.algos.models;
+
+import edu.jhu.algos.utils.MatrixValidator;
+
+/**
+ * Represents a rows x cols matrix of {@code long} values, the {@code long} counterpart of {@link Matrix}.
+ * Products of int values can exceed 32 bits; a LongMatrix keeps 64-bit entries so the
+ * products of moderate inputs no longer wrap around.
+ * <p>
+ * Values are kept in a single contiguous long[] in row-major order, so element (row, col)
+ * lives at index {@code row * stride + col}. Multiplication kernels work on that array
+ * directly through {@link #getRawData()} and {@link #getStride()}, with no boxing.
+ * </p>
+ */
+public class LongMatrix {
+    private final int rows;     // Number of rows of this matrix.
+    private final int cols;     // Number of columns of this matrix.
+    private final int stride;   // Distance (in elements) between the starts of two consecutive rows.
+    private final long[] data;  // Flat array holding the matrix values in row-major order.
+
+    /**
+     * Constructs an empty square matrix of the given size.
+     * @param size The number of rows and columns (must be positive).
+     * @throws IllegalArgumentException if 'size' is not positive.
+     */
+    public LongMatrix(int size) {
+        this(size, size);
+    }
+
+    /**
+     * Constructs an empty rows x cols matrix.
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    public LongMatrix(int rows, int cols) {
+        // Invalid dimensions are rejected by the flat-array constructor before the null is looked at
+        this(rows, cols, rows > 0 && cols > 0 ? new long[rows * cols] : null);
+    }
+
+    /**
+     * Constructs a matrix from an existing 2D array, copying its values.
+     * @param inputData The 2D array to store (non-empty, every row the same length).
+     * @throws IllegalArgumentException if 'inputData' is null, empty, or ragged.
+     */
+    public LongMatrix(long[][] inputData) {
+        if (inputData == null || inputData.length == 0 || inputData[0] == null || inputData[0].length == 0) {
+            throw new IllegalArgumentException("Invalid matrix: must be non-empty with rows of equal length.");
+        }
+        this.rows = inputData.length;
+        this.cols = inputData[0].length;
+        this.stride = cols;
+        this.data = new long[rows * cols];
+
+        // Copy each row into its slot of the flat array
+        for (int i = 0; i < rows; i++) {
+            if (inputData[i] == null || inputData[i].length != cols) {
+                throw new IllegalArgumentException("Invalid matrix: row " + i + " does not have " + cols + " columns.");
+            }
+            System.arraycopy(inputData[i], 0, data, i * stride, cols);
+        }
+    }
+
+    /**
+     * Constructs a long matrix holding the values of an int {@link Matrix} (widening copy).
+     * @param source The matrix to convert.
+     */
+    public LongMatrix(Matrix source) {
+        this(source.getRows(), source.getCols());
+        int[] src = source.getRawData();
+        for (int i = 0; i < rows; i++) {
+            int from = i * source.getStride();
+            int to = i * stride;
+            for (int j = 0; j < cols; j++) {
+                data[to + j] = src[from + j];
+            }
+        }
+    }
+
+    /**
+     * Constructs a rows x cols matrix that wraps an existing flat row-major array (no copy is made).
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @param flatData Row-major values; must hold exactly rows * cols elements.
+     * @throws IllegalArgumentException if a dimension is not positive or 'flatData' has the wrong length.
+     */
+    public LongMatrix(int rows, int cols, long[] flatData) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        }
+        if (flatData == null || flatData.length != rows * cols) {
+            throw new IllegalArgumentException("Flat data must contain exactly " + (rows * cols) + " elements.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = cols;
+        this.data = flatData; // Store the reference, the caller hands over ownership
+    }
+
+    /**
+     * Retrieves the dimension of a square matrix.
+     * @return The number of rows (and columns) of this matrix.
+     * @throws IllegalStateException if the matrix is not square.
+     */
+    public int getSize() {
+        if (rows != cols) {
+            throw new IllegalStateException("A " + rows + "x" + cols + " matrix has no single size.");
+        }
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of rows.
+     * @return The row count of this matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of columns.
+     * @return The column count of this matrix.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Checks whether the matrix has as many rows as columns.
+     * @return True if the matrix is square.
+     */
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    /**
+     * Retrieves the row stride of the flat storage.
+     * @return The number of array elements between the start of row i and row i + 1.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns the underlying flat row-major array reference (changes are visible in the matrix).
+     * @return The backing long[] of this matrix.
+     */
+    public long[] getRawData() {
+        return data;
+    }
+
+    /**
+     * Returns a copy of the matrix values as a 2D array.
+     * @return A fresh 2D array holding this matrix's values.
+     */
+    public long[][] getData() {
+        long[][] copy = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * stride, copy[i], 0, cols);
+        }
+        return copy;
+    }
+
+    /**
+     * Sets the value at (row, col).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @param value The value to place at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public void set(int row, int col, long value) {
+        if (!MatrixValidator.isValidIndex(row, col, rows, cols)) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " matrix."
+            );
+        }
+        data[row * stride + col] = value;
+    }
+
+    /**
+     * Retrieves the value at (row, col).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @return The value stored at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public long get(int row, int col) {
+        if (!MatrixValidator.isValidIndex(row, col, rows, cols)) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " matrix."
+            );
+        }
+        return data[row * stride + col];
+    }
+}
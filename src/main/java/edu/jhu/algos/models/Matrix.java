@@ -3,60 +3,227 @@ package edu.jhu.algos.models;
 import edu.jhu.algos.utils.MatrixValidator;
 
 /**
- * Represents a square matrix of size 2^n x 2^n.
+ * Represents a rows x cols matrix of integers (square or rectangular, any positive size).
  * This class focuses solely on storing matrix data (and validating it).
  * Operations (add, subtract, multiply, etc.) and utilities (print, fillRandom) live elsewhere.
+ * <p>
+ * Values are kept in a single contiguous int[] in row-major order, so element (row, col)
+ * lives at index {@code row * stride + col}. Kernels that need raw speed can work on
+ * that array directly through {@link #getRawData()} and {@link #getStride()}, or through
+ * {@link #getUnchecked} / {@link #setUnchecked} once their loop bounds have been validated.
+ * </p>
  */
 public class Matrix {
-    private final int size;     // The dimension of this matrix (must be a power of 2).
-    private final int[][] data; // 2D array holding the matrix values in row-major order by default.
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8;  // Largest array most JVMs can allocate
+
+    private final int rows;     // Number of rows of this matrix.
+    private final int cols;     // Number of columns of this matrix.
+    private final int stride;   // Distance (in elements) between the starts of two consecutive rows.
+    private final int[] data;   // Flat array holding the matrix values in row-major order.
 
     /**
-     * Constructs an empty matrix of the given size (2^n).
-     * @param size The matrix size (must be a power of 2).
-     * @throws IllegalArgumentException if 'size' is not a power of 2.
+     * Constructs an empty square matrix of the given size.
+     * @param size The number of rows and columns (must be positive).
+     * @throws IllegalArgumentException if 'size' is not positive.
      */
     public Matrix(int size) {
-        // Validate size is a power of 2
-        if (!MatrixValidator.isPowerOfTwo(size)) {
-            // Throw an error if invalid
-            throw new IllegalArgumentException("Matrix size must be a power of 2.");
-        }
-        this.size = size;             // Record the dimension
-        this.data = new int[size][size]; // Initialize the storage with zeros
+        this(size, size);
+    }
+
+    /**
+     * Constructs an empty rows x cols matrix.
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @throws IllegalArgumentException if either dimension is not positive or rows * cols exceeds the maximum array length.
+     */
+    public Matrix(int rows, int cols) {
+        // Validate both dimensions
+        checkDimensions(rows, cols);
+        this.rows = rows;                 // Record the dimensions
+        this.cols = cols;
+        this.stride = cols;               // Rows are packed back-to-back
+        this.data = new int[rows * cols]; // Initialize the storage with zeros
     }
 
     /**
      * Constructs a matrix from an existing 2D array.
-     * The input array must be square and its dimension must be a power of 2.
+     * The input array must be non-empty and rectangular (every row the same length).
+     * The values are copied into this matrix's flat storage.
      * @param inputData The 2D array to store in this Matrix.
-     * @throws IllegalArgumentException if 'inputData' is invalid (null, not square, or size not power of 2).
+     * @throws IllegalArgumentException if 'inputData' is invalid (null, empty, or ragged).
      */
     public Matrix(int[][] inputData) {
         // Validate the 2D array
         if (!MatrixValidator.isValidMatrix(inputData)) {
-            throw new IllegalArgumentException("Invalid matrix: must be square and dimension must be power of 2.");
+            throw new IllegalArgumentException("Invalid matrix: must be non-empty with rows of equal length.");
+        }
+        this.rows = inputData.length;    // The row count is the length of the array
+        this.cols = inputData[0].length; // The column count is the length of the first row
+        this.stride = cols;
+        this.data = new int[rows * cols];
+
+        // Copy each row into its slot of the flat array
+        for (int i = 0; i < rows; i++) {
+            if (inputData[i] == null || inputData[i].length != cols) {
+                throw new IllegalArgumentException("Invalid matrix: row " + i + " does not have " + cols + " columns.");
+            }
+            System.arraycopy(inputData[i], 0, data, i * stride, cols);
+        }
+    }
+
+    /**
+     * Constructs a square matrix that wraps an existing flat row-major array (no copy is made).
+     * @param size The number of rows and columns (must be positive).
+     * @param flatData Row-major values; must hold exactly size * size elements.
+     * @throws IllegalArgumentException if 'size' is not positive or 'flatData' has the wrong length.
+     */
+    public Matrix(int size, int[] flatData) {
+        this(size, size, flatData);
+    }
+
+    /**
+     * Constructs a rows x cols matrix that wraps an existing flat row-major array (no copy is made).
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @param flatData Row-major values; must hold exactly rows * cols elements.
+     * @throws IllegalArgumentException if a dimension is not positive, rows * cols exceeds the maximum
+     *         array length, or 'flatData' has the wrong length.
+     */
+    public Matrix(int rows, int cols, int[] flatData) {
+        checkDimensions(rows, cols);
+        if (flatData == null || flatData.length != rows * cols) {
+            throw new IllegalArgumentException("Flat data must contain exactly " + (rows * cols) + " elements.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = cols;
+        this.data = flatData; // Store the reference, the caller hands over ownership
+    }
+
+    /**
+     * Checks that both dimensions are positive and that rows * cols elements fit in one int[].
+     */
+    private static void checkDimensions(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            // Throw an error if invalid
+            throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        }
+        if ((long) rows * cols > MAX_ELEMENTS) {
+            // rows * cols would overflow (or exceed what the JVM can allocate)
+            throw new IllegalArgumentException("A " + rows + "x" + cols + " matrix does not fit in a heap array.");
         }
-        this.size = inputData.length; // The dimension is the length of the array
-        this.data = inputData;        // Store the reference (or you could deep-copy if you prefer)
     }
 
     /**
-     * Retrieves the dimension (size) of the matrix.
-     * @return The size (2^n) of this matrix.
+     * Retrieves the dimension of a square matrix.
+     * @return The number of rows (and columns) of this matrix.
+     * @throws IllegalStateException if the matrix is not square.
      */
     public int getSize() {
-        return size; // Return stored size
+        if (rows != cols) {
+            throw new IllegalStateException("A " + rows + "x" + cols + " matrix has no single size.");
+        }
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of rows.
+     * @return The row count of this matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of columns.
+     * @return The column count of this matrix.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Checks whether the matrix has as many rows as columns.
+     * @return True if the matrix is square.
+     */
+    public boolean isSquare() {
+        return rows == cols;
     }
 
     /**
-     * Returns the underlying 2D array reference.
+     * Retrieves the row stride of the flat storage.
+     * @return The number of array elements between the start of row i and row i + 1.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns the underlying flat row-major array reference.
+     * <p>
+     * Element (row, col) is stored at {@code row * getStride() + col}. Changes made
+     * through this array are visible in the matrix.
+     * </p>
+     * @return The backing int[] of this matrix.
+     */
+    public int[] getRawData() {
+        return data;
+    }
+
+    /**
+     * Returns a view covering this whole matrix.
+     * <p>
+     * The view shares this matrix's storage, so writes through the view (or any of its
+     * quadrants) update the matrix directly.
+     * </p>
+     * @return A MatrixView over the full matrix.
+     */
+    public MatrixView view() {
+        return new MatrixView(data, 0, stride, rows, cols);
+    }
+
+    /**
+     * Returns a copy of the matrix values as a 2D array.
+     * <p>
+     * Since storage is flat, this always builds a fresh int[][]; modifying it does not
+     * affect the matrix. Use {@link #getRawData()} for direct access.
+     * </p>
      * @return A 2D array of integers representing this matrix.
      */
     public int[][] getData() {
-        // Returning data directly is minimal overhead, but means external code can change it.
-        // If you need safety, do a deep copy. For SRP, that can be a utility method in MatrixUtils.
-        return data;
+        int[][] copy = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * stride, copy[i], 0, cols);
+        }
+        return copy;
+    }
+
+    /**
+     * Copies one row of this matrix into a destination array.
+     * @param row Row index (0-based).
+     * @param dest The array to copy into.
+     * @param destPos Starting position in 'dest'.
+     * @throws IndexOutOfBoundsException if 'row' is out of bounds.
+     */
+    public void getRow(int row, int[] dest, int destPos) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Invalid row " + row + " in a " + rows + "x" + cols + " matrix.");
+        }
+        System.arraycopy(data, row * stride, dest, destPos, cols);
+    }
+
+    /**
+     * Overwrites one row of this matrix with values from a source array.
+     * @param row Row index (0-based).
+     * @param src The array to copy from.
+     * @param srcPos Starting position in 'src'.
+     * @throws IndexOutOfBoundsException if 'row' is out of bounds.
+     */
+    public void setRow(int row, int[] src, int srcPos) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Invalid row " + row + " in a " + rows + "x" + cols + " matrix.");
+        }
+        System.arraycopy(src, srcPos, data, row * stride, cols);
     }
 
     /**
@@ -68,12 +235,12 @@ public class Matrix {
      */
     public void set(int row, int col, int value) {
         // Check index validity
-        if (!MatrixValidator.isValidIndex(row, col, size)) {
+        if (!MatrixValidator.isValidIndex(row, col, rows, cols)) {
             throw new IndexOutOfBoundsException(
-                    "Invalid indices (" + row + ", " + col + ") in a " + size + "x" + size + " matrix."
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " matrix."
             );
         }
-        data[row][col] = value; // Store value
+        data[row * stride + col] = value; // Store value
     }
 
     /**
@@ -85,11 +252,39 @@ public class Matrix {
      */
     public int get(int row, int col) {
         // Check index validity
-        if (!MatrixValidator.isValidIndex(row, col, size)) {
+        if (!MatrixValidator.isValidIndex(row, col, rows, cols)) {
             throw new IndexOutOfBoundsException(
-                    "Invalid indices (" + row + ", " + col + ") in a " + size + "x" + size + " matrix."
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " matrix."
             );
         }
-        return data[row][col]; // Return the stored value
+        return data[row * stride + col]; // Return the stored value
+    }
+
+    /**
+     * Retrieves the integer at (row, col) without validating the indices.
+     * <p>
+     * Meant for kernels that check their loop bounds once per operation. Out-of-range
+     * indices are not detected: they read another element or throw ArrayIndexOutOfBoundsException.
+     * </p>
+     * @param row Row index (0-based, must be valid).
+     * @param col Column index (0-based, must be valid).
+     * @return The value stored at (row, col).
+     */
+    public int getUnchecked(int row, int col) {
+        return data[row * stride + col];
+    }
+
+    /**
+     * Sets the value at (row, col) without validating the indices.
+     * <p>
+     * Meant for kernels that check their loop bounds once per operation. Out-of-range
+     * indices are not detected: they overwrite another element or throw ArrayIndexOutOfBoundsException.
+     * </p>
+     * @param row Row index (0-based, must be valid).
+     * @param col Column index (0-based, must be valid).
+     * @param value The integer to place at (row, col).
+     */
+    public void setUnchecked(int row, int col, int value) {
+        data[row * stride + col] = value;
     }
 }
@@ -0,0 +1,212 @@
+package edu.jhu.algos.models;
+
+/**
+ * A rectangular window onto the flat row-major storage of a {@link Matrix}.
+ * <p>
+ * A view does not own any data: it records the backing array, the index of its
+ * top-left element, the row stride of the backing array, and its own dimensions.
+ * Element (row, col) of the view lives at {@code offset + row * stride + col}.
+ * Quadrants and sub-blocks of a view are again views, so recursive algorithms (e.g. Strassen)
+ * can address submatrices in place and write results straight into a parent matrix.
+ * </p>
+ */
+public class MatrixView {
+    private final int[] data;   // Backing array shared with the owning Matrix.
+    private final int offset;   // Index of element (0, 0) of this view in 'data'.
+    private final int stride;   // Distance between the starts of two consecutive rows in 'data'.
+    private final int rows;     // Number of rows of this view.
+    private final int cols;     // Number of columns of this view.
+
+    /**
+     * Constructs a square view over an existing flat row-major array.
+     * @param data The backing array.
+     * @param offset Index of the view's top-left element in 'data'.
+     * @param stride Row stride of the backing array.
+     * @param size Dimension of the view.
+     * @throws IllegalArgumentException if the view does not fit inside 'data'.
+     */
+    public MatrixView(int[] data, int offset, int stride, int size) {
+        this(data, offset, stride, size, size);
+    }
+
+    /**
+     * Constructs a rows x cols view over an existing flat row-major array.
+     * @param data The backing array.
+     * @param offset Index of the view's top-left element in 'data'.
+     * @param stride Row stride of the backing array.
+     * @param rows Number of rows of the view.
+     * @param cols Number of columns of the view.
+     * @throws IllegalArgumentException if the view does not fit inside 'data'.
+     */
+    public MatrixView(int[] data, int offset, int stride, int rows, int cols) {
+        if (data == null || rows <= 0 || cols <= 0 || offset < 0 || stride < cols
+                || offset + (long) (rows - 1) * stride + cols > data.length) {
+            throw new IllegalArgumentException("Invalid view: " + rows + "x" + cols + " at offset " + offset +
+                    " with stride " + stride + " does not fit the backing array.");
+        }
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Retrieves the dimension of a square view.
+     * @return The number of rows (and columns) of this view.
+     * @throws IllegalStateException if the view is not square.
+     */
+    public int getSize() {
+        if (rows != cols) {
+            throw new IllegalStateException("A " + rows + "x" + cols + " view has no single size.");
+        }
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of rows.
+     * @return The row count of this view.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of columns.
+     * @return The column count of this view.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the backing array shared with the owning matrix.
+     * @return The backing int[].
+     */
+    public int[] getRawData() {
+        return data;
+    }
+
+    /**
+     * Retrieves the index of element (0, 0) of this view in the backing array.
+     * @return The offset of the view.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Retrieves the row stride of the backing array.
+     * @return The number of array elements between the start of row i and row i + 1.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Retrieves the integer at (row, col) of this view.
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @return The value stored at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public int get(int row, int col) {
+        checkIndex(row, col);
+        return data[offset + row * stride + col];
+    }
+
+    /**
+     * Sets the value at (row, col) of this view (and therefore of the backing matrix).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @param value The integer to place at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public void set(int row, int col, int value) {
+        checkIndex(row, col);
+        data[offset + row * stride + col] = value;
+    }
+
+    /**
+     * Retrieves the integer at (row, col) of this view without validating the indices.
+     * Meant for kernels that check their loop bounds once per operation.
+     * @param row Row index (0-based, must be valid).
+     * @param col Column index (0-based, must be valid).
+     * @return The value stored at (row, col).
+     */
+    public int getUnchecked(int row, int col) {
+        return data[offset + row * stride + col];
+    }
+
+    /**
+     * Sets the value at (row, col) of this view without validating the indices.
+     * Meant for kernels that check their loop bounds once per operation.
+     * @param row Row index (0-based, must be valid).
+     * @param col Column index (0-based, must be valid).
+     * @param value The integer to place at (row, col).
+     */
+    public void setUnchecked(int row, int col, int value) {
+        data[offset + row * stride + col] = value;
+    }
+
+    /**
+     * Returns one of the four quadrants of this view without copying.
+     * @param quadrant 0 = top-left (11), 1 = top-right (12), 2 = bottom-left (21), 3 = bottom-right (22).
+     * @return A view of half the rows and half the columns addressing the requested quadrant in place.
+     * @throws IllegalArgumentException if either dimension is odd or below 2, or 'quadrant' is invalid.
+     */
+    public MatrixView quadrant(int quadrant) {
+        if (rows < 2 || cols < 2 || rows % 2 != 0 || cols % 2 != 0) {
+            throw new IllegalArgumentException("View cannot be split into quadrants (dimensions must be even and at least 2).");
+        }
+        if (quadrant < 0 || quadrant > 3) {
+            throw new IllegalArgumentException("Quadrant index must be between 0 and 3.");
+        }
+        int halfRows = rows / 2;
+        int halfCols = cols / 2;
+        int rowShift = (quadrant / 2) * halfRows; // 0 for the top row of quadrants, halfRows for the bottom
+        int colShift = (quadrant % 2) * halfCols; // 0 for the left column of quadrants, halfCols for the right
+        return new MatrixView(data, offset + rowShift * stride + colShift, stride, halfRows, halfCols);
+    }
+
+    /**
+     * Returns an arbitrary rectangular block of this view without copying.
+     * @param row Row of the block's top-left element within this view.
+     * @param col Column of the block's top-left element within this view.
+     * @param rows Number of rows of the block.
+     * @param cols Number of columns of the block.
+     * @return A view addressing the requested block in place.
+     * @throws IllegalArgumentException if the block does not lie inside this view.
+     */
+    public MatrixView sub(int row, int col, int rows, int cols) {
+        if (row < 0 || col < 0 || rows <= 0 || cols <= 0 || row + rows > this.rows || col + cols > this.cols) {
+            throw new IllegalArgumentException("Block " + rows + "x" + cols + " at (" + row + ", " + col +
+                    ") does not fit a " + this.rows + "x" + this.cols + " view.");
+        }
+        return new MatrixView(data, offset + row * stride + col, stride, rows, cols);
+    }
+
+    /**
+     * Copies the contents of this view into a new, independent Matrix.
+     * @return A Matrix holding the same values as this view.
+     */
+    public Matrix toMatrix() {
+        Matrix copy = new Matrix(rows, cols);
+        int[] dest = copy.getRawData();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, offset + i * stride, dest, i * cols, cols);
+        }
+        return copy;
+    }
+
+    /**
+     * Validates that (row, col) lies inside this view.
+     */
+    private void checkIndex(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " view."
+            );
+        }
+    }
+}
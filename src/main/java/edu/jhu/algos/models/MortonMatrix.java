@@ -0,0 +1,288 @@
+package edu.jhu.algos.models;
+
+/**
+ * Represents a rows x cols matrix of integers stored in blocked Morton (Z-order) layout.
+ * <p>
+ * The matrix is padded with zeros to a square of {@code paddedSize = leafSize * 2^depth} and cut
+ * into leafSize x leafSize leaf blocks. Each leaf block is stored row-major, and the leaf blocks
+ * follow each other in Z-order: top-left quadrant, top-right, bottom-left, bottom-right, recursively.
+ * As a result every quadrant at every recursion level (down to one leaf) is a single contiguous
+ * range of the backing array, so quadrant q of a block of size s at index o starts at
+ * {@code o + q * (s/2)^2}. Recursive algorithms split blocks for free, and each level works on
+ * contiguous memory whatever the cache sizes are.
+ * </p>
+ * <p>
+ * The leaf size is derived from the largest dimension so that padding stays small: the fewest
+ * halvings 'depth' are chosen such that {@code ceil(extent / 2^depth) <= maxLeaf}.
+ * </p>
+ */
+public class MortonMatrix {
+
+    /** Largest leaf block used when none is given. */
+    public static final int DEFAULT_LEAF = 32;
+
+    private final int rows;        // Number of rows of the logical matrix.
+    private final int cols;        // Number of columns of the logical matrix.
+    private final int leafSize;    // Edge length of the row-major leaf blocks.
+    private final int paddedSize;  // leafSize * 2^depth, at least max(rows, cols).
+    private final int[] data;      // Leaf blocks in Z-order, paddedSize^2 elements.
+
+    /**
+     * Constructs a zero-filled rows x cols matrix with leaves of at most {@link #DEFAULT_LEAF}.
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    public MortonMatrix(int rows, int cols) {
+        this(rows, cols, Math.max(rows, cols), DEFAULT_LEAF);
+    }
+
+    /**
+     * Constructs a zero-filled rows x cols matrix whose layout is derived from 'extent'.
+     * Matrices built with the same extent and maxLeaf share one layout and can be multiplied together.
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @param extent The dimension the layout must cover (at least rows and cols).
+     * @param maxLeaf Largest allowed leaf block edge (must be positive).
+     * @throws IllegalArgumentException if a dimension is not positive, extent is too small, or maxLeaf is not positive.
+     */
+    public MortonMatrix(int rows, int cols, int extent, int maxLeaf) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        }
+        if (extent < Math.max(rows, cols) || maxLeaf <= 0) {
+            throw new IllegalArgumentException("Layout extent must cover the matrix and the leaf size must be positive.");
+        }
+        int blocksPerSide = blocksPerSide(extent, maxLeaf);
+        int leaf = (extent + blocksPerSide - 1) / blocksPerSide;
+        if ((long) leaf * blocksPerSide * leaf * blocksPerSide > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("A padded size of " + (leaf * blocksPerSide) + " is too large for one array.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.leafSize = leaf;
+        this.paddedSize = leaf * blocksPerSide;
+        this.data = new int[paddedSize * paddedSize];
+    }
+
+    /**
+     * Constructs a zero-filled rows x cols matrix with the same layout as another Morton matrix.
+     * @param rows The number of rows (must be positive, at most layout's padded size).
+     * @param cols The number of columns (must be positive, at most layout's padded size).
+     * @param layout The matrix whose padded size and leaf size are reused.
+     * @throws IllegalArgumentException if a dimension is not positive or exceeds the padded size.
+     */
+    public MortonMatrix(int rows, int cols, MortonMatrix layout) {
+        if (rows <= 0 || cols <= 0 || rows > layout.paddedSize || cols > layout.paddedSize) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive and fit the layout.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.leafSize = layout.leafSize;
+        this.paddedSize = layout.paddedSize;
+        this.data = new int[paddedSize * paddedSize];
+    }
+
+    /**
+     * Computes how many leaf blocks per side the layout for 'extent' uses: the fewest halvings
+     * of the extent (a power of 2) after which one leaf fits in maxLeaf.
+     * @param extent The dimension the layout must cover (must be positive).
+     * @param maxLeaf Largest allowed leaf block edge (must be positive).
+     * @return 2^depth; the leaf size is then ceil(extent / 2^depth).
+     */
+    public static int blocksPerSide(int extent, int maxLeaf) {
+        // Halve the extent until one leaf fits in maxLeaf; the leaf is then the rounded-up share
+        int blocksPerSide = 1;
+        while ((extent + blocksPerSide - 1) / blocksPerSide > maxLeaf) {
+            blocksPerSide *= 2;
+        }
+        return blocksPerSide;
+    }
+
+    /**
+     * Converts a row-major matrix to Morton layout, with leaves of at most {@link #DEFAULT_LEAF}.
+     * @param source The matrix to convert.
+     * @return A new MortonMatrix holding the same values.
+     */
+    public static MortonMatrix fromMatrix(Matrix source) {
+        return fromMatrix(source, Math.max(source.getRows(), source.getCols()), DEFAULT_LEAF);
+    }
+
+    /**
+     * Converts a row-major matrix to Morton layout, with the layout derived from 'extent'.
+     * @param source The matrix to convert.
+     * @param extent The dimension the layout must cover (at least the source's rows and columns).
+     * @param maxLeaf Largest allowed leaf block edge (must be positive).
+     * @return A new MortonMatrix holding the same values.
+     * @throws IllegalArgumentException if extent is too small or maxLeaf is not positive.
+     */
+    public static MortonMatrix fromMatrix(Matrix source, int extent, int maxLeaf) {
+        return fromView(source.view(), extent, maxLeaf);
+    }
+
+    /**
+     * Converts a row-major view to Morton layout, with the layout derived from 'extent'.
+     * @param source The view to convert.
+     * @param extent The dimension the layout must cover (at least the source's rows and columns).
+     * @param maxLeaf Largest allowed leaf block edge (must be positive).
+     * @return A new MortonMatrix holding the same values.
+     * @throws IllegalArgumentException if extent is too small or maxLeaf is not positive.
+     */
+    public static MortonMatrix fromView(MatrixView source, int extent, int maxLeaf) {
+        MortonMatrix morton = new MortonMatrix(source.getRows(), source.getCols(), extent, maxLeaf);
+        int[] src = source.getRawData();
+        int leaf = morton.leafSize;
+        // Copy the valid part of each leaf block one row segment at a time
+        for (int bi = 0; bi * leaf < morton.rows; bi++) {
+            for (int bj = 0; bj * leaf < morton.cols; bj++) {
+                int blockStart = morton.blockOffset(bi, bj);
+                int height = Math.min(leaf, morton.rows - bi * leaf);
+                int width = Math.min(leaf, morton.cols - bj * leaf);
+                for (int r = 0; r < height; r++) {
+                    System.arraycopy(src, source.getOffset() + (bi * leaf + r) * source.getStride() + bj * leaf,
+                            morton.data, blockStart + r * leaf, width);
+                }
+            }
+        }
+        return morton;
+    }
+
+    /**
+     * Converts this matrix back to row-major layout (the padding is dropped).
+     * @return A new Matrix holding the same values.
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(rows, cols);
+        copyTo(result.view());
+        return result;
+    }
+
+    /**
+     * Copies this matrix into a row-major view of the same shape (the padding is dropped).
+     * @param target The rows x cols view to overwrite.
+     * @throws IllegalArgumentException if the target's shape differs.
+     */
+    public void copyTo(MatrixView target) {
+        if (target.getRows() != rows || target.getCols() != cols) {
+            throw new IllegalArgumentException("Target view must be " + rows + "x" + cols + ".");
+        }
+        int[] dest = target.getRawData();
+        for (int bi = 0; bi * leafSize < rows; bi++) {
+            for (int bj = 0; bj * leafSize < cols; bj++) {
+                int blockStart = blockOffset(bi, bj);
+                int height = Math.min(leafSize, rows - bi * leafSize);
+                int width = Math.min(leafSize, cols - bj * leafSize);
+                for (int r = 0; r < height; r++) {
+                    System.arraycopy(data, blockStart + r * leafSize,
+                            dest, target.getOffset() + (bi * leafSize + r) * target.getStride() + bj * leafSize, width);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of rows.
+     * @return The row count of the logical matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of columns.
+     * @return The column count of the logical matrix.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Retrieves the edge length of the row-major leaf blocks.
+     * @return The leaf size.
+     */
+    public int getLeafSize() {
+        return leafSize;
+    }
+
+    /**
+     * Retrieves the edge length of the padded square that is stored.
+     * @return leafSize * 2^depth.
+     */
+    public int getPaddedSize() {
+        return paddedSize;
+    }
+
+    /**
+     * Returns the backing array: paddedSize^2 values with the leaf blocks in Z-order.
+     * @return The backing int[] of this matrix.
+     */
+    public int[] getRawData() {
+        return data;
+    }
+
+    /**
+     * Checks whether another Morton matrix uses the same padded size and leaf size.
+     * @param other The matrix to compare with.
+     * @return True if quadrants of both matrices line up element for element.
+     */
+    public boolean hasSameLayout(MortonMatrix other) {
+        return paddedSize == other.paddedSize && leafSize == other.leafSize;
+    }
+
+    /**
+     * Retrieves the integer at (row, col).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @return The value stored at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public int get(int row, int col) {
+        return data[index(row, col)];
+    }
+
+    /**
+     * Sets the value at (row, col).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @param value The integer to place at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public void set(int row, int col, int value) {
+        data[index(row, col)] = value;
+    }
+
+    /**
+     * Computes the position of (row, col) in the backing array.
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @return The index of the element in {@link #getRawData()}.
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     */
+    public int index(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " matrix."
+            );
+        }
+        return blockOffset(row / leafSize, col / leafSize) + (row % leafSize) * leafSize + col % leafSize;
+    }
+
+    /**
+     * Index of the first element of leaf block (bi, bj): its Z-order position times the leaf area.
+     */
+    private int blockOffset(int bi, int bj) {
+        return (spreadBits(bi) << 1 | spreadBits(bj)) * leafSize * leafSize;
+    }
+
+    /**
+     * Moves bit k of 'value' to bit 2k, so two spread values can be interleaved.
+     */
+    private static int spreadBits(int value) {
+        int x = value & 0xFFFF;
+        x = (x | (x << 8)) & 0x00FF00FF;
+        x = (x | (x << 4)) & 0x0F0F0F0F;
+        x = (x | (x << 2)) & 0x33333333;
+        x = (x | (x << 1)) & 0x55555555;
+        return x;
+    }
+}
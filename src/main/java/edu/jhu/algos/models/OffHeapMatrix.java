@@ -0,0 +1,305 @@
+package edu.jhu.algos.models;
+
+import edu.jhu.algos.utils.DirectBuffers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Represents a rows x cols matrix of integers stored outside the Java heap.
+ * <p>
+ * A {@link Matrix} is backed by one int[], so it is capped at about 2^31 elements (≈ 46k x 46k),
+ * and multi-GB arrays are allocated as humongous regions by G1. An OffHeapMatrix keeps its
+ * values in direct buffers instead: rows are grouped into bands, each band is one native-order
+ * direct buffer of at most {@link #MAX_BAND_BYTES}, and element (row, col) lives at
+ * {@code (row % rowsPerBand) * cols + col} of band {@code row / rowsPerBand}. The total size is
+ * therefore limited only by native memory (and -XX:MaxDirectMemorySize), not by array indexing.
+ * </p>
+ * <p>
+ * The memory has an explicit lifecycle: {@link #close()} releases it immediately instead of
+ * waiting for the garbage collector, so instances should be used with try-with-resources.
+ * Any access after close() throws IllegalStateException. Kernels never run on the buffers
+ * directly; they copy blocks to and from heap matrices with {@link #readBlock} and
+ * {@link #writeBlock} (see OffHeapMultiplication).
+ * </p>
+ */
+public class OffHeapMatrix implements AutoCloseable {
+
+    /** Largest direct buffer allocated for one band of rows (1 GiB). */
+    public static final long MAX_BAND_BYTES = 1L << 30;
+
+    private final int rows;           // Number of rows of this matrix.
+    private final int cols;           // Number of columns of this matrix.
+    private final int rowsPerBand;    // Rows stored in each direct buffer (the last band may hold fewer).
+    private ByteBuffer[] buffers;     // Direct buffers owning the memory (null once closed).
+    private IntBuffer[] bands;        // Int views of 'buffers', one per band of rows (null once closed).
+
+    /**
+     * Constructs a zero-filled rows x cols matrix, with bands as large as {@link #MAX_BAND_BYTES} allows.
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    public OffHeapMatrix(int rows, int cols) {
+        this(rows, cols, (int) Math.max(1, Math.min(rows, MAX_BAND_BYTES / (4L * Math.max(cols, 1)))));
+    }
+
+    /**
+     * Constructs a zero-filled rows x cols matrix with a fixed number of rows per direct buffer.
+     * @param rows The number of rows (must be positive).
+     * @param cols The number of columns (must be positive).
+     * @param rowsPerBand Rows stored in each direct buffer (positive; one band may not exceed 2^31 - 1 bytes).
+     * @throws IllegalArgumentException if a dimension or the band size is invalid.
+     */
+    public OffHeapMatrix(int rows, int cols, int rowsPerBand) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        }
+        if (rowsPerBand <= 0 || 4L * rowsPerBand * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Rows per band must be positive and fit in one direct buffer.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.rowsPerBand = Math.min(rowsPerBand, rows);
+
+        int bandCount = (rows + this.rowsPerBand - 1) / this.rowsPerBand;
+        this.buffers = new ByteBuffer[bandCount];
+        this.bands = new IntBuffer[bandCount];
+        for (int band = 0; band < bandCount; band++) {
+            int bandRows = Math.min(this.rowsPerBand, rows - band * this.rowsPerBand);
+            // Direct buffers start zeroed; native order avoids byte swapping on every access
+            buffers[band] = ByteBuffer.allocateDirect(4 * bandRows * cols).order(ByteOrder.nativeOrder());
+            bands[band] = buffers[band].asIntBuffer();
+        }
+    }
+
+    /**
+     * Creates an off-heap copy of a heap matrix.
+     * @param source The matrix to copy.
+     * @return A new OffHeapMatrix holding the same values (the caller must close it).
+     */
+    public static OffHeapMatrix copyOf(Matrix source) {
+        OffHeapMatrix copy = new OffHeapMatrix(source.getRows(), source.getCols());
+        copy.writeBlock(0, 0, source);
+        return copy;
+    }
+
+    /**
+     * Retrieves the number of rows.
+     * @return The row count of this matrix.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieves the number of columns.
+     * @return The column count of this matrix.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Checks whether the matrix has as many rows as columns.
+     * @return True if the matrix is square.
+     */
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    /**
+     * Retrieves the number of rows stored in each direct buffer.
+     * @return The band height (the last band may be shorter).
+     */
+    public int getRowsPerBand() {
+        return rowsPerBand;
+    }
+
+    /**
+     * Retrieves the number of direct buffers backing this matrix.
+     * @return The band count.
+     */
+    public int getBandCount() {
+        return (rows + rowsPerBand - 1) / rowsPerBand;
+    }
+
+    /**
+     * Retrieves the amount of native memory holding the values.
+     * @return rows * cols * 4 bytes.
+     */
+    public long getByteSize() {
+        return 4L * rows * cols;
+    }
+
+    /**
+     * Checks whether {@link #close()} has released the memory.
+     * @return True if the matrix can no longer be accessed.
+     */
+    public boolean isClosed() {
+        return bands == null;
+    }
+
+    /**
+     * Retrieves the integer at (row, col).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @return The value stored at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public int get(int row, int col) {
+        checkIndex(row, col);
+        return band(row).get((row % rowsPerBand) * cols + col);
+    }
+
+    /**
+     * Sets the value at (row, col).
+     * @param row Row index (0-based).
+     * @param col Column index (0-based).
+     * @param value The integer to place at (row, col).
+     * @throws IndexOutOfBoundsException if (row, col) is out of bounds.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public void set(int row, int col, int value) {
+        checkIndex(row, col);
+        band(row).put((row % rowsPerBand) * cols + col, value);
+    }
+
+    /**
+     * Copies part of one row into a heap array.
+     * @param row Row index (0-based).
+     * @param col First column to copy.
+     * @param dest The array to copy into.
+     * @param destPos Starting position in 'dest'.
+     * @param length Number of elements to copy.
+     * @throws IndexOutOfBoundsException if the range lies outside the row.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public void getRow(int row, int col, int[] dest, int destPos, int length) {
+        checkRange(row, col, length);
+        band(row).get((row % rowsPerBand) * cols + col, dest, destPos, length);
+    }
+
+    /**
+     * Overwrites part of one row with values from a heap array.
+     * @param row Row index (0-based).
+     * @param col First column to overwrite.
+     * @param src The array to copy from.
+     * @param srcPos Starting position in 'src'.
+     * @param length Number of elements to copy.
+     * @throws IndexOutOfBoundsException if the range lies outside the row.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public void setRow(int row, int col, int[] src, int srcPos, int length) {
+        checkRange(row, col, length);
+        band(row).put((row % rowsPerBand) * cols + col, src, srcPos, length);
+    }
+
+    /**
+     * Copies the block whose top-left element is (row, col) into a heap matrix.
+     * The block has the dimensions of 'dest'.
+     * @param row Top row of the block.
+     * @param col Left column of the block.
+     * @param dest The matrix receiving the block.
+     * @throws IllegalArgumentException if the block does not lie inside this matrix.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public void readBlock(int row, int col, Matrix dest) {
+        checkBlock(row, col, dest);
+        int[] data = dest.getRawData();
+        for (int i = 0; i < dest.getRows(); i++) {
+            getRow(row + i, col, data, i * dest.getStride(), dest.getCols());
+        }
+    }
+
+    /**
+     * Copies a heap matrix into the block whose top-left element is (row, col).
+     * @param row Top row of the block.
+     * @param col Left column of the block.
+     * @param src The matrix to copy from.
+     * @throws IllegalArgumentException if the block does not lie inside this matrix.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public void writeBlock(int row, int col, Matrix src) {
+        checkBlock(row, col, src);
+        int[] data = src.getRawData();
+        for (int i = 0; i < src.getRows(); i++) {
+            setRow(row + i, col, data, i * src.getStride(), src.getCols());
+        }
+    }
+
+    /**
+     * Copies this matrix onto the heap.
+     * @return A Matrix holding the same values.
+     * @throws IllegalArgumentException if the matrix has more elements than an int[] can hold.
+     * @throws IllegalStateException if the matrix has been closed.
+     */
+    public Matrix toMatrix() {
+        if ((long) rows * cols > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("A " + rows + "x" + cols + " matrix does not fit in a heap array.");
+        }
+        Matrix copy = new Matrix(rows, cols);
+        readBlock(0, 0, copy);
+        return copy;
+    }
+
+    /**
+     * Releases the native memory. Calling close() more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (buffers == null) {
+            return;
+        }
+        ByteBuffer[] released = buffers;
+        buffers = null;  // Later accesses fail fast instead of touching freed memory
+        bands = null;
+        for (ByteBuffer buffer : released) {
+            DirectBuffers.release(buffer);
+        }
+    }
+
+    /**
+     * Returns the band holding 'row', failing if the matrix has been closed.
+     */
+    private IntBuffer band(int row) {
+        IntBuffer[] current = bands;
+        if (current == null) {
+            throw new IllegalStateException("Off-heap matrix has been closed.");
+        }
+        return current[row / rowsPerBand];
+    }
+
+    /**
+     * Validates that (row, col) lies inside this matrix.
+     */
+    private void checkIndex(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid indices (" + row + ", " + col + ") in a " + rows + "x" + cols + " matrix."
+            );
+        }
+    }
+
+    /**
+     * Validates that 'length' elements starting at (row, col) lie inside one row.
+     */
+    private void checkRange(int row, int col, int length) {
+        if (row < 0 || row >= rows || col < 0 || length < 0 || col + length > cols) {
+            throw new IndexOutOfBoundsException("Invalid range of " + length + " elements at (" + row + ", " + col +
+                    ") in a " + rows + "x" + cols + " matrix.");
+        }
+    }
+
+    /**
+     * Validates that a block the size of 'other' at (row, col) lies inside this matrix.
+     */
+    private void checkBlock(int row, int col, Matrix other) {
+        if (row < 0 || col < 0 || row + other.getRows() > rows || col + other.getCols() > cols) {
+            throw new IllegalArgumentException("Block " + other.getRows() + "x" + other.getCols() + " at (" + row +
+                    ", " + col + ") does not fit a " + rows + "x" + cols + " matrix.");
+        }
+    }
+}
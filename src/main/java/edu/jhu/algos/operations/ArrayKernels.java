@@ -0,0 +1,268 @@
+package edu.jhu.algos.operations;
+
+import java.util.Arrays;
+
+/**
+ * Row-level kernels shared by the matrix operations and the multiplication algorithms.
+ * <p>
+ * Every kernel works on a contiguous run of a flat row-major array. When the JDK Vector API
+ * module ({@code jdk.incubator.vector}) is available at runtime, the SIMD versions in
+ * {@link VectorKernels} are used; otherwise (or when the system property
+ * {@code matrix.simd=false} is set) plain scalar loops are used. Both paths produce
+ * identical results for int and long; the SIMD double axpy fuses the multiply-add (one
+ * rounding instead of two), so double results may differ from the scalar path in the last bit.
+ * </p>
+ * <p>
+ * The long and double overloads back {@code LongMatrix} and {@code DoubleMatrix}; each is a
+ * separate primitive loop, so no boxing or generic dispatch happens per element.
+ * </p>
+ */
+public final class ArrayKernels {
+
+    // Decided once at class initialization
+    private static final boolean SIMD_ENABLED = detectSimd();
+
+    private ArrayKernels() {
+    }
+
+    /**
+     * Reports whether the SIMD kernels are in use.
+     * @return True if the Vector API module was found and SIMD is not disabled.
+     */
+    public static boolean isSimdEnabled() {
+        return SIMD_ENABLED;
+    }
+
+    /**
+     * Describes the active kernel implementation, e.g. "SIMD (8 int lanes)" or "scalar".
+     * @return A short human-readable description.
+     */
+    public static String describe() {
+        return SIMD_ENABLED ? "SIMD (" + VectorKernels.laneCount() + " int lanes)" : "scalar";
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) + b[bOff..). The ranges may coincide but must not partially overlap.
+     */
+    public static void add(int[] a, int aOff, int[] b, int bOff, int[] c, int cOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.add(a, aOff, b, bOff, c, cOff, len);
+        } else {
+            addScalar(a, aOff, b, bOff, c, cOff, len);
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) - b[bOff..). The ranges may coincide but must not partially overlap.
+     */
+    public static void subtract(int[] a, int aOff, int[] b, int bOff, int[] c, int cOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.subtract(a, aOff, b, bOff, c, cOff, len);
+        } else {
+            subtractScalar(a, aOff, b, bOff, c, cOff, len);
+        }
+    }
+
+    /**
+     * y[yOff..yOff+len) += alpha * x[xOff..). This is the inner loop of an i-k-j matrix product:
+     * one row of B scaled by A[i, k] accumulated into one row of C (len scalar multiplications).
+     */
+    public static void axpy(int alpha, int[] x, int xOff, int[] y, int yOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.axpy(alpha, x, xOff, y, yOff, len);
+        } else {
+            axpyScalar(alpha, x, xOff, y, yOff, len);
+        }
+    }
+
+    /**
+     * x[off..off+len) *= alpha. Scaling by 1 is a no-op and scaling by 0 clears the range,
+     * which is how GEMM-style products apply their beta factor to C.
+     */
+    public static void scale(int alpha, int[] x, int off, int len) {
+        if (alpha == 1) {
+            return;
+        }
+        if (alpha == 0) {
+            Arrays.fill(x, off, off + len, 0);
+        } else if (SIMD_ENABLED) {
+            VectorKernels.scale(alpha, x, off, len);
+        } else {
+            scaleScalar(alpha, x, off, len);
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) + b[bOff..) for long values.
+     */
+    public static void add(long[] a, int aOff, long[] b, int bOff, long[] c, int cOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.add(a, aOff, b, bOff, c, cOff, len);
+        } else {
+            addScalar(a, aOff, b, bOff, c, cOff, len);
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) - b[bOff..) for long values.
+     */
+    public static void subtract(long[] a, int aOff, long[] b, int bOff, long[] c, int cOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.subtract(a, aOff, b, bOff, c, cOff, len);
+        } else {
+            subtractScalar(a, aOff, b, bOff, c, cOff, len);
+        }
+    }
+
+    /**
+     * y[yOff..yOff+len) += alpha * x[xOff..) for long values.
+     */
+    public static void axpy(long alpha, long[] x, int xOff, long[] y, int yOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.axpy(alpha, x, xOff, y, yOff, len);
+        } else {
+            axpyScalar(alpha, x, xOff, y, yOff, len);
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) + b[bOff..) for double values.
+     */
+    public static void add(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.add(a, aOff, b, bOff, c, cOff, len);
+        } else {
+            addScalar(a, aOff, b, bOff, c, cOff, len);
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) - b[bOff..) for double values.
+     */
+    public static void subtract(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.subtract(a, aOff, b, bOff, c, cOff, len);
+        } else {
+            subtractScalar(a, aOff, b, bOff, c, cOff, len);
+        }
+    }
+
+    /**
+     * y[yOff..yOff+len) += alpha * x[xOff..) for double values. The SIMD path uses fused
+     * multiply-add instructions; the scalar loop is left for the JIT to auto-vectorize.
+     */
+    public static void axpy(double alpha, double[] x, int xOff, double[] y, int yOff, int len) {
+        if (SIMD_ENABLED) {
+            VectorKernels.axpy(alpha, x, xOff, y, yOff, len);
+        } else {
+            axpyScalar(alpha, x, xOff, y, yOff, len);
+        }
+    }
+
+    /**
+     * Scalar version of {@link #add}.
+     */
+    public static void addScalar(int[] a, int aOff, int[] b, int bOff, int[] c, int cOff, int len) {
+        for (int i = 0; i < len; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #subtract}.
+     */
+    public static void subtractScalar(int[] a, int aOff, int[] b, int bOff, int[] c, int cOff, int len) {
+        for (int i = 0; i < len; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #axpy}.
+     */
+    public static void axpyScalar(int alpha, int[] x, int xOff, int[] y, int yOff, int len) {
+        for (int i = 0; i < len; i++) {
+            y[yOff + i] += alpha * x[xOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #add(long[], int, long[], int, long[], int, int)}.
+     */
+    public static void addScalar(long[] a, int aOff, long[] b, int bOff, long[] c, int cOff, int len) {
+        for (int i = 0; i < len; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #subtract(long[], int, long[], int, long[], int, int)}.
+     */
+    public static void subtractScalar(long[] a, int aOff, long[] b, int bOff, long[] c, int cOff, int len) {
+        for (int i = 0; i < len; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #axpy(long, long[], int, long[], int, int)}.
+     */
+    public static void axpyScalar(long alpha, long[] x, int xOff, long[] y, int yOff, int len) {
+        for (int i = 0; i < len; i++) {
+            y[yOff + i] += alpha * x[xOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #add(double[], int, double[], int, double[], int, int)}.
+     */
+    public static void addScalar(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int len) {
+        for (int i = 0; i < len; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #subtract(double[], int, double[], int, double[], int, int)}.
+     */
+    public static void subtractScalar(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int len) {
+        for (int i = 0; i < len; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #axpy(double, double[], int, double[], int, int)}.
+     */
+    public static void axpyScalar(double alpha, double[] x, int xOff, double[] y, int yOff, int len) {
+        for (int i = 0; i < len; i++) {
+            y[yOff + i] += alpha * x[xOff + i];
+        }
+    }
+
+    /**
+     * Scalar version of {@link #scale}.
+     */
+    public static void scaleScalar(int alpha, int[] x, int off, int len) {
+        for (int i = 0; i < len; i++) {
+            x[off + i] *= alpha;
+        }
+    }
+
+    /**
+     * Checks whether the Vector API module is resolvable and SIMD has not been switched off.
+     */
+    private static boolean detectSimd() {
+        if (!Boolean.parseBoolean(System.getProperty("matrix.simd", "true"))) {
+            return false;
+        }
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return false;
+        }
+        try {
+            return VectorKernels.laneCount() > 1; // Forces the class to link; fails cleanly if it cannot
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
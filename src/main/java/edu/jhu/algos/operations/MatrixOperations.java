@@ -1,11 +1,23 @@
 package edu.jhu.algos.operations;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.models.OffHeapMatrix;
 import edu.jhu.algos.utils.MatrixValidator;
 
 /**
  * Provides core matrix operations such as addition, subtraction,
  * splitting (for submatrices), and merging of submatrices.
+ * Element-wise operations accept any rows x cols shape; split/merge work on square quadrants.
+ * <p>
+ * The {@link MatrixView} overloads work in place on shared storage: quadrants are
+ * addressed without copying and results are written into a caller-supplied view.
+ * Element-wise passes run through {@link ArrayKernels}, which uses SIMD when available.
+ * </p>
+ * <p>
+ * The {@link OffHeapMatrix} overloads stream the operands one row at a time through heap
+ * scratch rows, so only O(cols) memory is used on the heap.
+ * </p>
  */
 public class MatrixOperations {
 
@@ -23,21 +35,14 @@ public class MatrixOperations {
                 throw new IllegalArgumentException("Matrices must be the same size to add.");
             }
 
-            // Retrieve dimensions from A (and B)
-            int size = A.getSize();
+            // Create a new matrix with the dimensions of A (and B) to store the result
+            Matrix result = new Matrix(A.getRows(), A.getCols());
 
-            // Create a new matrix to store the result
-            Matrix result = new Matrix(size);
-
-            // Loop through each cell in the matrix
-            for (int i = 0; i < size; i++) { // Row index
-                for (int j = 0; j < size; j++) { // Column index
-                    // Sum corresponding values from A and B
-                    int sum = A.get(i, j) + B.get(i, j);
-                    // Store the result in the new matrix
-                    result.set(i, j, sum);
-                }
-            }
+            // Walk the flat row-major arrays in a single pass
+            int[] a = A.getRawData();
+            int[] b = B.getRawData();
+            int[] c = result.getRawData();
+            ArrayKernels.add(a, 0, b, 0, c, 0, c.length);
 
             // Return the resulting matrix
             return result;
@@ -62,21 +67,14 @@ public class MatrixOperations {
                 throw new IllegalArgumentException("Matrices must be the same size to subtract.");
             }
 
-            // Retrieve dimensions from A (and B)
-            int size = A.getSize();
+            // Create a new matrix with the dimensions of A (and B) to store the result
+            Matrix result = new Matrix(A.getRows(), A.getCols());
 
-            // Create a new matrix to store the result
-            Matrix result = new Matrix(size);
-
-            // Loop through each cell in the matrix
-            for (int i = 0; i < size; i++) { // Row index
-                for (int j = 0; j < size; j++) { // Column index
-                    // Subtract corresponding values from A and B
-                    int difference = A.get(i, j) - B.get(i, j);
-                    // Store the result in the new matrix
-                    result.set(i, j, difference);
-                }
-            }
+            // Walk the flat row-major arrays in a single pass
+            int[] a = A.getRawData();
+            int[] b = B.getRawData();
+            int[] c = result.getRawData();
+            ArrayKernels.subtract(a, 0, b, 0, c, 0, c.length);
 
             // Return the resulting matrix
             return result;
@@ -92,17 +90,23 @@ public class MatrixOperations {
      * Commonly used in Strassen's Algorithm for matrix multiplication.
      * @param original The original matrix to split.
      * @return An array of four Matrices: [A11, A12, A21, A22].
-     * @throws IllegalArgumentException if the matrix size is not divisible by 2.
+     * @throws IllegalArgumentException if the matrix is not square or its size is not divisible by 2.
      */
     public static Matrix[] split(Matrix original) {
         try {
-            // Check if matrix is at least size 2 (so we can split)
+            // Quadrants of equal size only exist for square matrices of even size
+            if (!original.isSquare()) {
+                throw new IllegalArgumentException("Only square matrices can be split into quadrants.");
+            }
             int n = original.getSize();
 
             // If n=1, can't split meaningfully
             if (n < 2) {
                 throw new IllegalArgumentException("Matrix too small to split (must be at least 2x2).");
             }
+            if (n % 2 != 0) {
+                throw new IllegalArgumentException("Matrix size must be even to split.");
+            }
 
             // halfSize is the dimension of each submatrix
             int halfSize = n / 2;
@@ -113,23 +117,11 @@ public class MatrixOperations {
             Matrix A21 = new Matrix(halfSize);
             Matrix A22 = new Matrix(halfSize);
 
-            // Populate each submatrix from original
-            for (int i = 0; i < halfSize; i++) { // Rows in submatrix
-                for (int j = 0; j < halfSize; j++) { // Cols in submatrix
-
-                    // A11 -> top-left
-                    A11.set(i, j, original.get(i, j));
-
-                    // A12 -> top-right
-                    A12.set(i, j, original.get(i, j + halfSize));
-
-                    // A21 -> bottom-left
-                    A21.set(i, j, original.get(i + halfSize, j));
-
-                    // A22 -> bottom-right
-                    A22.set(i, j, original.get(i + halfSize, j + halfSize));
-                }
-            }
+            // Copy each quadrant of original row by row
+            copyBlock(original, 0, 0, A11, 0, 0, halfSize, halfSize);                // A11 -> top-left
+            copyBlock(original, 0, halfSize, A12, 0, 0, halfSize, halfSize);         // A12 -> top-right
+            copyBlock(original, halfSize, 0, A21, 0, 0, halfSize, halfSize);         // A21 -> bottom-left
+            copyBlock(original, halfSize, halfSize, A22, 0, 0, halfSize, halfSize);  // A22 -> bottom-right
 
             // Return array of submatrices
             return new Matrix[]{ A11, A12, A21, A22 };
@@ -158,6 +150,9 @@ public class MatrixOperations {
                     !MatrixValidator.isSameSize(A11, A22)) {
                 throw new IllegalArgumentException("All submatrices must be the same size to merge.");
             }
+            if (!A11.isSquare()) {
+                throw new IllegalArgumentException("Only square submatrices can be merged.");
+            }
 
             // Each submatrix is half the final dimension
             int halfSize = A11.getSize();
@@ -166,19 +161,11 @@ public class MatrixOperations {
             // Create a new matrix to store the merged result
             Matrix merged = new Matrix(fullSize);
 
-            // Fill top-left, top-right, bottom-left, bottom-right
-            for (int i = 0; i < halfSize; i++) {
-                for (int j = 0; j < halfSize; j++) {
-                    // Place A11 in top-left
-                    merged.set(i, j, A11.get(i, j));
-                    // Place A12 in top-right
-                    merged.set(i, j + halfSize, A12.get(i, j));
-                    // Place A21 in bottom-left
-                    merged.set(i + halfSize, j, A21.get(i, j));
-                    // Place A22 in bottom-right
-                    merged.set(i + halfSize, j + halfSize, A22.get(i, j));
-                }
-            }
+            // Fill top-left, top-right, bottom-left, bottom-right row by row
+            copyBlock(A11, 0, 0, merged, 0, 0, halfSize, halfSize);
+            copyBlock(A12, 0, 0, merged, 0, halfSize, halfSize, halfSize);
+            copyBlock(A21, 0, 0, merged, halfSize, 0, halfSize, halfSize);
+            copyBlock(A22, 0, 0, merged, halfSize, halfSize, halfSize, halfSize);
 
             // Return the newly merged matrix
             return merged;
@@ -188,4 +175,281 @@ public class MatrixOperations {
             throw new IllegalArgumentException("Error in merge(): " + e.getMessage());
         }
     }
+
+    /**
+     * Copies a rows x cols block of 'src' into 'dest' (dest block = src block).
+     * Both blocks are validated once, then each row is moved with a single System.arraycopy.
+     * @param src The matrix to copy from.
+     * @param srcRow First row of the block in 'src'.
+     * @param srcCol First column of the block in 'src'.
+     * @param dest The matrix to copy into.
+     * @param destRow First row of the block in 'dest'.
+     * @param destCol First column of the block in 'dest'.
+     * @param rows Number of rows to copy.
+     * @param cols Number of columns to copy.
+     * @throws IllegalArgumentException if either block does not fit its matrix.
+     */
+    public static void copyBlock(Matrix src, int srcRow, int srcCol, Matrix dest, int destRow, int destCol,
+                                 int rows, int cols) {
+        if (!MatrixValidator.isValidSubMatrix(srcRow, srcCol, rows, cols, src.getRows(), src.getCols()) ||
+                !MatrixValidator.isValidSubMatrix(destRow, destCol, rows, cols, dest.getRows(), dest.getCols())) {
+            throw new IllegalArgumentException("Error in copyBlock(): A " + rows + "x" + cols +
+                    " block does not fit the source or destination matrix.");
+        }
+        int[] from = src.getRawData(), to = dest.getRawData();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(from, (srcRow + i) * src.getStride() + srcCol,
+                    to, (destRow + i) * dest.getStride() + destCol, cols);
+        }
+    }
+
+    /**
+     * Splits a view into its four quadrants (A11, A12, A21, A22) without copying any data.
+     * @param original The view to split.
+     * @return An array of four views: [A11, A12, A21, A22], each sharing storage with 'original'.
+     * @throws IllegalArgumentException if the view is smaller than 2x2 or has an odd dimension.
+     */
+    public static MatrixView[] quadrants(MatrixView original) {
+        try {
+            if (original.getRows() < 2 || original.getCols() < 2) {
+                throw new IllegalArgumentException("Matrix too small to split (must be at least 2x2).");
+            }
+            return new MatrixView[]{
+                    original.quadrant(0), original.quadrant(1), original.quadrant(2), original.quadrant(3)
+            };
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Error in quadrants(): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds two views element-wise and writes the sum into 'dest' (dest = A + B).
+     * 'dest' may be the same view as A or B.
+     * @param A First operand.
+     * @param B Second operand.
+     * @param dest The view receiving the result.
+     * @throws IllegalArgumentException if the views are not the same size.
+     */
+    public static void add(MatrixView A, MatrixView B, MatrixView dest) {
+        checkSameSize(A, B, dest, "add");
+        int rows = dest.getRows(), cols = dest.getCols();
+        int[] a = A.getRawData(), b = B.getRawData(), c = dest.getRawData();
+        for (int i = 0; i < rows; i++) {
+            int ai = A.getOffset() + i * A.getStride();    // Row i of A
+            int bi = B.getOffset() + i * B.getStride();    // Row i of B
+            int ci = dest.getOffset() + i * dest.getStride(); // Row i of dest
+            ArrayKernels.add(a, ai, b, bi, c, ci, cols);
+        }
+    }
+
+    /**
+     * Subtracts view B from view A element-wise and writes the difference into 'dest' (dest = A - B).
+     * 'dest' may be the same view as A or B.
+     * @param A Minuend.
+     * @param B Subtrahend.
+     * @param dest The view receiving the result.
+     * @throws IllegalArgumentException if the views are not the same size.
+     */
+    public static void subtract(MatrixView A, MatrixView B, MatrixView dest) {
+        checkSameSize(A, B, dest, "subtract");
+        int rows = dest.getRows(), cols = dest.getCols();
+        int[] a = A.getRawData(), b = B.getRawData(), c = dest.getRawData();
+        for (int i = 0; i < rows; i++) {
+            int ai = A.getOffset() + i * A.getStride();    // Row i of A
+            int bi = B.getOffset() + i * B.getStride();    // Row i of B
+            int ci = dest.getOffset() + i * dest.getStride(); // Row i of dest
+            ArrayKernels.subtract(a, ai, b, bi, c, ci, cols);
+        }
+    }
+
+    /**
+     * Multiplies every element of a view by a scalar in place (view = factor * view).
+     * A factor of 1 leaves the view untouched and a factor of 0 clears it.
+     * @param factor The scalar.
+     * @param view The view to scale.
+     */
+    public static void scale(int factor, MatrixView view) {
+        int rows = view.getRows(), cols = view.getCols();
+        for (int i = 0; i < rows; i++) {
+            ArrayKernels.scale(factor, view.getRawData(), view.getOffset() + i * view.getStride(), cols);
+        }
+    }
+
+    /**
+     * Accumulates a scaled view into another (Y = Y + alpha * X).
+     * @param alpha The scalar applied to X.
+     * @param X The view to add.
+     * @param Y The view receiving the sum.
+     * @throws IllegalArgumentException if the views are not the same size.
+     */
+    public static void axpy(int alpha, MatrixView X, MatrixView Y) {
+        checkSameSize(X, X, Y, "axpy");
+        int rows = Y.getRows(), cols = Y.getCols();
+        for (int i = 0; i < rows; i++) {
+            ArrayKernels.axpy(alpha, X.getRawData(), X.getOffset() + i * X.getStride(),
+                    Y.getRawData(), Y.getOffset() + i * Y.getStride(), cols);
+        }
+    }
+
+    /**
+     * Copies view 'src' into view 'dest' row by row (dest = src).
+     * @param src The view to copy from.
+     * @param dest The view to copy into.
+     * @throws IllegalArgumentException if the views are not the same size.
+     */
+    public static void copy(MatrixView src, MatrixView dest) {
+        checkSameSize(src, src, dest, "copy");
+        int rows = dest.getRows(), cols = dest.getCols();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(src.getRawData(), src.getOffset() + i * src.getStride(),
+                    dest.getRawData(), dest.getOffset() + i * dest.getStride(), cols);
+        }
+    }
+
+    /**
+     * Computes a linear combination of same-size matrices in one pass (result = sum of coeffs[i] * matrices[i]).
+     * @param coeffs One coefficient per matrix.
+     * @param matrices The matrices to combine (at least one).
+     * @return A new Matrix containing the combination.
+     * @throws IllegalArgumentException if the counts differ, no matrix is given, or the sizes differ.
+     */
+    public static Matrix linearCombination(int[] coeffs, Matrix... matrices) {
+        if (matrices.length == 0) {
+            throw new IllegalArgumentException("Error in linearCombination(): At least one matrix is required.");
+        }
+        MatrixView[] terms = new MatrixView[matrices.length];
+        for (int t = 0; t < matrices.length; t++) {
+            terms[t] = matrices[t].view();
+        }
+        Matrix result = new Matrix(matrices[0].getRows(), matrices[0].getCols());
+        linearCombination(coeffs, result.view(), terms);
+        return result;
+    }
+
+    /**
+     * Writes a linear combination of same-size views into 'dest' (dest = sum of coeffs[i] * terms[i]),
+     * e.g. Strassen's C11 = M1 + M4 - M5 + M7 with coeffs {1, 1, -1, 1}.
+     * <p>
+     * The result is built one row at a time: the row of 'dest' is formed from the first term(s) and then
+     * every other term is folded into it while it is still in L1, so each operand is read once and
+     * 'dest' is written once, with no intermediate matrices. Coefficients of 1 and -1 use the
+     * add/subtract kernels, any other coefficient uses axpy.
+     * </p>
+     * 'dest' may be the same view as the first term, but must not overlap any other term.
+     * @param coeffs One coefficient per term.
+     * @param dest The view receiving the result.
+     * @param terms The views to combine (at least one).
+     * @throws IllegalArgumentException if the counts differ, no term is given, or the sizes differ.
+     */
+    public static void linearCombination(int[] coeffs, MatrixView dest, MatrixView... terms) {
+        if (terms.length == 0 || coeffs.length != terms.length) {
+            throw new IllegalArgumentException("Error in linearCombination(): Expected one coefficient per term and at least one term.");
+        }
+        for (MatrixView term : terms) {
+            checkSameSize(term, term, dest, "linearCombination");
+        }
+        int rows = dest.getRows(), cols = dest.getCols();
+        int[] c = dest.getRawData();
+        for (int i = 0; i < rows; i++) {
+            int ci = dest.getOffset() + i * dest.getStride();  // Row i of dest
+            int first = 1;
+            MatrixView t0 = terms[0];
+            int t0i = t0.getOffset() + i * t0.getStride();
+            if (terms.length > 1 && coeffs[0] == 1 && (coeffs[1] == 1 || coeffs[1] == -1)) {
+                // dest = t0 +/- t1 in a single kernel call
+                MatrixView t1 = terms[1];
+                int t1i = t1.getOffset() + i * t1.getStride();
+                if (coeffs[1] == 1) {
+                    ArrayKernels.add(t0.getRawData(), t0i, t1.getRawData(), t1i, c, ci, cols);
+                } else {
+                    ArrayKernels.subtract(t0.getRawData(), t0i, t1.getRawData(), t1i, c, ci, cols);
+                }
+                first = 2;
+            } else {
+                // dest = coeffs[0] * t0
+                System.arraycopy(t0.getRawData(), t0i, c, ci, cols);
+                ArrayKernels.scale(coeffs[0], c, ci, cols);
+            }
+            for (int t = first; t < terms.length; t++) {
+                // Fold the remaining terms into the row while it is hot
+                MatrixView term = terms[t];
+                int ti = term.getOffset() + i * term.getStride();
+                switch (coeffs[t]) {
+                    case 1:
+                        ArrayKernels.add(c, ci, term.getRawData(), ti, c, ci, cols);
+                        break;
+                    case -1:
+                        ArrayKernels.subtract(c, ci, term.getRawData(), ti, c, ci, cols);
+                        break;
+                    case 0:
+                        break;
+                    default:
+                        ArrayKernels.axpy(coeffs[t], term.getRawData(), ti, c, ci, cols);
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds two off-heap matrices element-wise and writes the sum into 'dest' (dest = A + B).
+     * 'dest' may be the same matrix as A or B.
+     * @param A First operand.
+     * @param B Second operand.
+     * @param dest The off-heap matrix receiving the result.
+     * @throws IllegalArgumentException if the matrices are not the same size.
+     */
+    public static void add(OffHeapMatrix A, OffHeapMatrix B, OffHeapMatrix dest) {
+        checkSameSize(A, B, dest, "add");
+        int cols = dest.getCols();
+        int[] a = new int[cols], b = new int[cols];  // Scratch rows on the heap
+        for (int i = 0; i < dest.getRows(); i++) {
+            A.getRow(i, 0, a, 0, cols);
+            B.getRow(i, 0, b, 0, cols);
+            ArrayKernels.add(a, 0, b, 0, a, 0, cols);
+            dest.setRow(i, 0, a, 0, cols);
+        }
+    }
+
+    /**
+     * Subtracts off-heap matrix B from A element-wise and writes the difference into 'dest' (dest = A - B).
+     * 'dest' may be the same matrix as A or B.
+     * @param A Minuend.
+     * @param B Subtrahend.
+     * @param dest The off-heap matrix receiving the result.
+     * @throws IllegalArgumentException if the matrices are not the same size.
+     */
+    public static void subtract(OffHeapMatrix A, OffHeapMatrix B, OffHeapMatrix dest) {
+        checkSameSize(A, B, dest, "subtract");
+        int cols = dest.getCols();
+        int[] a = new int[cols], b = new int[cols];  // Scratch rows on the heap
+        for (int i = 0; i < dest.getRows(); i++) {
+            A.getRow(i, 0, a, 0, cols);
+            B.getRow(i, 0, b, 0, cols);
+            ArrayKernels.subtract(a, 0, b, 0, a, 0, cols);
+            dest.setRow(i, 0, a, 0, cols);
+        }
+    }
+
+    /**
+     * Ensures the two operands and the destination of an off-heap operation share one shape.
+     */
+    private static void checkSameSize(OffHeapMatrix A, OffHeapMatrix B, OffHeapMatrix dest, String operation) {
+        if (A.getRows() != B.getRows() || A.getCols() != B.getCols()
+                || A.getRows() != dest.getRows() || A.getCols() != dest.getCols()) {
+            throw new IllegalArgumentException("Error in " + operation + "(): Matrices must be the same size to "
+                    + operation + ".");
+        }
+    }
+
+    /**
+     * Ensures the two operands and the destination of a view operation share one shape.
+     */
+    private static void checkSameSize(MatrixView A, MatrixView B, MatrixView dest, String operation) {
+        if (A.getRows() != B.getRows() || A.getCols() != B.getCols()
+                || A.getRows() != dest.getRows() || A.getCols() != dest.getCols()) {
+            throw new IllegalArgumentException("Error in " + operation + "(): Matrices must be the same size to "
+                    + operation + ".");
+        }
+    }
 }
@@ -0,0 +1,196 @@
+package edu.jhu.algos.operations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementations of the row kernels in {@link ArrayKernels}, written with the
+ * JDK Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * This class must only be touched when the incubator module is present in the boot layer;
+ * {@link ArrayKernels} checks that once and falls back to scalar loops otherwise.
+ * Each method processes full vectors of {@link #SPECIES} lanes and finishes the tail with scalar code.
+ * </p>
+ */
+final class VectorKernels {
+
+    /** Widest integer vector shape supported by the CPU (e.g. 8 lanes on AVX2, 16 on AVX-512). */
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /** Widest long vector shape (half the int lanes). */
+    static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /** Widest double vector shape (half the int lanes). */
+    static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) + b[bOff..).
+     */
+    static void add(int[] a, int aOff, int[] b, int bOff, int[] c, int cOff, int len) {
+        int i = 0;
+        int upper = SPECIES.loopBound(len);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector va = IntVector.fromArray(SPECIES, a, aOff + i);
+            IntVector vb = IntVector.fromArray(SPECIES, b, bOff + i);
+            va.add(vb).intoArray(c, cOff + i);
+        }
+        for (; i < len; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) - b[bOff..).
+     */
+    static void subtract(int[] a, int aOff, int[] b, int bOff, int[] c, int cOff, int len) {
+        int i = 0;
+        int upper = SPECIES.loopBound(len);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector va = IntVector.fromArray(SPECIES, a, aOff + i);
+            IntVector vb = IntVector.fromArray(SPECIES, b, bOff + i);
+            va.sub(vb).intoArray(c, cOff + i);
+        }
+        for (; i < len; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    /**
+     * y[yOff..yOff+len) += alpha * x[xOff..).
+     */
+    static void axpy(int alpha, int[] x, int xOff, int[] y, int yOff, int len) {
+        int i = 0;
+        int upper = SPECIES.loopBound(len);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector vx = IntVector.fromArray(SPECIES, x, xOff + i);
+            IntVector vy = IntVector.fromArray(SPECIES, y, yOff + i);
+            vy.add(vx.mul(alpha)).intoArray(y, yOff + i);
+        }
+        for (; i < len; i++) {
+            y[yOff + i] += alpha * x[xOff + i];
+        }
+    }
+
+    /**
+     * x[off..off+len) *= alpha.
+     */
+    static void scale(int alpha, int[] x, int off, int len) {
+        int i = 0;
+        int upper = SPECIES.loopBound(len);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, x, off + i).mul(alpha).intoArray(x, off + i);
+        }
+        for (; i < len; i++) {
+            x[off + i] *= alpha;
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) + b[bOff..) for long values.
+     */
+    static void add(long[] a, int aOff, long[] b, int bOff, long[] c, int cOff, int len) {
+        int i = 0;
+        int upper = LONG_SPECIES.loopBound(len);
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            LongVector va = LongVector.fromArray(LONG_SPECIES, a, aOff + i);
+            LongVector vb = LongVector.fromArray(LONG_SPECIES, b, bOff + i);
+            va.add(vb).intoArray(c, cOff + i);
+        }
+        for (; i < len; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) - b[bOff..) for long values.
+     */
+    static void subtract(long[] a, int aOff, long[] b, int bOff, long[] c, int cOff, int len) {
+        int i = 0;
+        int upper = LONG_SPECIES.loopBound(len);
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            LongVector va = LongVector.fromArray(LONG_SPECIES, a, aOff + i);
+            LongVector vb = LongVector.fromArray(LONG_SPECIES, b, bOff + i);
+            va.sub(vb).intoArray(c, cOff + i);
+        }
+        for (; i < len; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    /**
+     * y[yOff..yOff+len) += alpha * x[xOff..) for long values.
+     */
+    static void axpy(long alpha, long[] x, int xOff, long[] y, int yOff, int len) {
+        int i = 0;
+        int upper = LONG_SPECIES.loopBound(len);
+        for (; i < upper; i += LONG_SPECIES.length()) {
+            LongVector vx = LongVector.fromArray(LONG_SPECIES, x, xOff + i);
+            LongVector vy = LongVector.fromArray(LONG_SPECIES, y, yOff + i);
+            vy.add(vx.mul(alpha)).intoArray(y, yOff + i);
+        }
+        for (; i < len; i++) {
+            y[yOff + i] += alpha * x[xOff + i];
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) + b[bOff..) for double values.
+     */
+    static void add(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int len) {
+        int i = 0;
+        int upper = DOUBLE_SPECIES.loopBound(len);
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(DOUBLE_SPECIES, a, aOff + i);
+            DoubleVector vb = DoubleVector.fromArray(DOUBLE_SPECIES, b, bOff + i);
+            va.add(vb).intoArray(c, cOff + i);
+        }
+        for (; i < len; i++) {
+            c[cOff + i] = a[aOff + i] + b[bOff + i];
+        }
+    }
+
+    /**
+     * c[cOff..cOff+len) = a[aOff..) - b[bOff..) for double values.
+     */
+    static void subtract(double[] a, int aOff, double[] b, int bOff, double[] c, int cOff, int len) {
+        int i = 0;
+        int upper = DOUBLE_SPECIES.loopBound(len);
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(DOUBLE_SPECIES, a, aOff + i);
+            DoubleVector vb = DoubleVector.fromArray(DOUBLE_SPECIES, b, bOff + i);
+            va.sub(vb).intoArray(c, cOff + i);
+        }
+        for (; i < len; i++) {
+            c[cOff + i] = a[aOff + i] - b[bOff + i];
+        }
+    }
+
+    /**
+     * y[yOff..yOff+len) += alpha * x[xOff..) for double values, as one fused multiply-add per lane.
+     */
+    static void axpy(double alpha, double[] x, int xOff, double[] y, int yOff, int len) {
+        int i = 0;
+        int upper = DOUBLE_SPECIES.loopBound(len);
+        DoubleVector va = DoubleVector.broadcast(DOUBLE_SPECIES, alpha);
+        for (; i < upper; i += DOUBLE_SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DOUBLE_SPECIES, x, xOff + i);
+            DoubleVector vy = DoubleVector.fromArray(DOUBLE_SPECIES, y, yOff + i);
+            vx.fma(va, vy).intoArray(y, yOff + i);  // x * alpha + y with a single rounding
+        }
+        for (; i < len; i++) {
+            y[yOff + i] = Math.fma(alpha, x[xOff + i], y[yOff + i]);  // Same rounding as the vector lanes
+        }
+    }
+
+    /**
+     * Returns the number of int lanes per vector.
+     */
+    static int laneCount() {
+        return SPECIES.length();
+    }
+}
@@ -0,0 +1,33 @@
+package edu.jhu.algos.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for one input file parsed by MatrixFileHandler.
+ * Committed whether or not the file was valid, with the pairs read up to that point.
+ */
+@Name("edu.jhu.algos.MatrixParse")
+@Label("Matrix File Parse")
+@Category({"Matrix Multiplication"})
+@Description("Reading the matrix pairs of one input file")
+public class MatrixParseEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Pairs")
+    @Description("Matrix pairs read")
+    public int pairs;
+
+    @Label("Elements")
+    @Description("Matrix elements parsed (both operands of every pair)")
+    public long elements;
+
+    @Label("Succeeded")
+    @Description("False if the file was invalid or could not be read")
+    public boolean succeeded;
+}
@@ -0,0 +1,52 @@
+package edu.jhu.algos.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for one multiply() call of a multiplier.
+ * <p>
+ * It spans the timed part of the call (PerformanceMetrics.startTimer() to stopTimer()), so its
+ * duration matches the reported elapsed time. Emitted by {@code PerformanceMetrics} for every
+ * algorithm that names its operation.
+ * </p>
+ */
+@Name("edu.jhu.algos.Multiply")
+@Label("Matrix Multiply")
+@Category({"Matrix Multiplication"})
+@Description("One multiply() call of a matrix multiplier")
+@StackTrace(false)
+public class MultiplyEvent extends Event {
+
+    @Label("Algorithm")
+    public String algorithm;
+
+    @Label("Rows")
+    @Description("Rows of A and C (m)")
+    public int rows;
+
+    @Label("Inner Dimension")
+    @Description("Columns of A and rows of B (k)")
+    public int inner;
+
+    @Label("Columns")
+    @Description("Columns of B and C (n)")
+    public int columns;
+
+    @Label("Elements")
+    @Description("Elements of the result (m * n)")
+    public long elements;
+
+    @Label("Multiplications")
+    @Description("Scalar multiplications counted (0 when counting is off)")
+    public long multiplications;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+}
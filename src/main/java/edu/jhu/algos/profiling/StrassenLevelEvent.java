@@ -0,0 +1,50 @@
+package edu.jhu.algos.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for one level of Strassen's recursion: a block above the cutoff,
+ * from the quadrant split to the last product combined into C.
+ * <p>
+ * Blocks at or below the cutoff (the base-case leaves) are not reported; their time is part of
+ * the parent level. An odd block's even core is reported as a nested event with the same depth
+ * and sub-product index.
+ * </p>
+ */
+@Name("edu.jhu.algos.StrassenLevel")
+@Label("Strassen Level")
+@Category({"Matrix Multiplication"})
+@Description("One recursion level of Strassen's algorithm")
+@StackTrace(false)
+public class StrassenLevelEvent extends Event {
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Inner Dimension")
+    public int inner;
+
+    @Label("Columns")
+    public int columns;
+
+    @Label("Depth")
+    @Description("Recursion depth (0 for the whole product)")
+    public int depth;
+
+    @Label("Sub-Product")
+    @Description("Which of M1..M7 of the parent level this block computes (0 for the whole product)")
+    public int subProduct;
+
+    @Label("Elements")
+    @Description("Elements of the block's product (rows * columns)")
+    public long elements;
+
+    @Label("Multiplications")
+    @Description("Scalar multiplications performed in this block and below")
+    public long multiplications;
+}
@@ -0,0 +1,140 @@
+package edu.jhu.algos.tuning;
+
+import edu.jhu.algos.algorithms.MatrixMultiplier;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.Tracer;
+import edu.jhu.algos.utils.MatrixUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the Strassen recursion cutoff that is fastest on the current machine.
+ * <p>
+ * For each power-of-two size s (2, 4, ..., maxSize) the tuner times two ways of
+ * multiplying an s x s block:
+ * - directly with the naive O(n^3) iterative kernel (Strassen with cutoff = s), and
+ * - with one Strassen level on top of that kernel (Strassen with cutoff = s / 2).
+ * The crossover is the smallest size from which one Strassen level keeps winning
+ * at every larger size; blocks below it should not be split, so the tuned cutoff is
+ * half the crossover size. If splitting never wins, the cutoff is maxSize.
+ * </p>
+ */
+public class CrossoverTuner {
+
+    /** Largest size benchmarked when none is given. */
+    public static final int DEFAULT_MAX_SIZE = 512;
+
+    /** Timed repetitions per size when none is given (the fastest one is kept). */
+    public static final int DEFAULT_TRIALS = 3;
+
+    private final int maxSize; // Largest power-of-two size benchmarked
+    private final int trials;  // Timed repetitions per measurement
+
+    // Best time (ns) per size for the direct kernel and for one Strassen level, filled by tune()
+    private final Map<Integer, Long> directTimesNs = new LinkedHashMap<>();
+    private final Map<Integer, Long> splitTimesNs = new LinkedHashMap<>();
+
+    /**
+     * Constructs a tuner with {@link #DEFAULT_MAX_SIZE} and {@link #DEFAULT_TRIALS}.
+     */
+    public CrossoverTuner() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TRIALS);
+    }
+
+    /**
+     * Constructs a tuner.
+     *
+     * @param maxSize Largest size to benchmark (must be a power of 2, at least 2).
+     * @param trials  Timed repetitions per measurement (at least 1).
+     * @throws IllegalArgumentException if the arguments are out of range.
+     */
+    public CrossoverTuner(int maxSize, int trials) {
+        if (maxSize < 2 || (maxSize & (maxSize - 1)) != 0) {
+            throw new IllegalArgumentException("Tuning max size must be a power of 2 and at least 2.");
+        }
+        if (trials < 1) {
+            throw new IllegalArgumentException("Tuning needs at least one trial per size.");
+        }
+        this.maxSize = maxSize;
+        this.trials = trials;
+    }
+
+    /**
+     * Runs the benchmarks and returns a profile for the current host.
+     *
+     * @return The tuned profile.
+     */
+    public TuningProfile tune() {
+        directTimesNs.clear();
+        splitTimesNs.clear();
+
+        for (int size = 2; size <= maxSize; size *= 2) {
+            Matrix A = new Matrix(size);
+            Matrix B = new Matrix(size);
+            MatrixUtils.fillRandom(A, -100, 100);
+            MatrixUtils.fillRandom(B, -100, 100);
+
+            long direct = bestTimeNs(new StrassenMultiplication(size), A, B);
+            long split = bestTimeNs(new StrassenMultiplication(size / 2), A, B);
+            directTimesNs.put(size, direct);
+            splitTimesNs.put(size, split);
+
+            int measured = size;
+            Tracer.debug(() -> "Tuning size " + measured + " | direct: " + direct + " ns | one Strassen level: " + split + " ns");
+        }
+
+        return TuningProfile.forCurrentHost(findCutoff(), maxSize);
+    }
+
+    /**
+     * Returns the best direct-kernel time per size measured by the last tune() call.
+     *
+     * @return Map from size to nanoseconds (in increasing size order).
+     */
+    public Map<Integer, Long> getDirectTimesNs() {
+        return directTimesNs;
+    }
+
+    /**
+     * Returns the best one-Strassen-level time per size measured by the last tune() call.
+     *
+     * @return Map from size to nanoseconds (in increasing size order).
+     */
+    public Map<Integer, Long> getSplitTimesNs() {
+        return splitTimesNs;
+    }
+
+    /**
+     * Picks the cutoff from the recorded timings: half of the smallest size from which
+     * splitting wins at every larger size, or maxSize if it never does.
+     */
+    private int findCutoff() {
+        int crossover = -1;
+        for (Map.Entry<Integer, Long> entry : directTimesNs.entrySet()) {
+            int size = entry.getKey();
+            boolean splitWins = splitTimesNs.get(size) < entry.getValue();
+            if (splitWins && crossover < 0) {
+                crossover = size;  // Candidate crossover, must hold for all larger sizes
+            } else if (!splitWins) {
+                crossover = -1;    // Direct kernel still wins here, start over
+            }
+        }
+        return crossover < 0 ? maxSize : crossover / 2;
+    }
+
+    /**
+     * Times a multiplier on (A, B): one warm-up run, then the fastest of 'trials' runs.
+     */
+    private long bestTimeNs(MatrixMultiplier multiplier, Matrix A, Matrix B) {
+        multiplier.multiply(A, B); // Warm-up so the JIT has compiled the kernel
+        long best = Long.MAX_VALUE;
+        for (int t = 0; t < trials; t++) {
+            long start = System.nanoTime();
+            multiplier.multiply(A, B);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,163 @@
+package edu.jhu.algos.tuning;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Stores the result of a tuning run for the current host.
+ * <p>
+ * A profile records the Strassen recursion cutoff that was found to be fastest,
+ * together with a description of the machine it was measured on (core count and
+ * architecture), so a profile copied to a different host can be recognized and ignored.
+ * Profiles are persisted as a plain {@link Properties} file.
+ * </p>
+ */
+public class TuningProfile {
+
+    private static final String KEY_CUTOFF = "strassen.cutoff";
+    private static final String KEY_PROCESSORS = "host.processors";
+    private static final String KEY_ARCH = "host.arch";
+    private static final String KEY_MAX_SIZE = "tuning.maxSize";
+
+    private final int strassenCutoff;      // Largest block size multiplied by the iterative kernel
+    private final int availableProcessors; // Core count of the host that was tuned
+    private final String osArch;           // CPU architecture of the host that was tuned
+    private final int maxSize;             // Largest matrix size benchmarked during tuning
+
+    /**
+     * Constructs a profile for an explicit host description.
+     *
+     * @param strassenCutoff      The tuned Strassen cutoff (must be >= 1).
+     * @param availableProcessors The host's core count.
+     * @param osArch              The host's CPU architecture.
+     * @param maxSize             The largest matrix size benchmarked.
+     * @throws IllegalArgumentException if strassenCutoff is less than 1.
+     */
+    public TuningProfile(int strassenCutoff, int availableProcessors, String osArch, int maxSize) {
+        if (strassenCutoff < 1) {
+            throw new IllegalArgumentException("Tuned cutoff must be at least 1.");
+        }
+        this.strassenCutoff = strassenCutoff;
+        this.availableProcessors = availableProcessors;
+        this.osArch = osArch;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Constructs a profile describing the current host.
+     *
+     * @param strassenCutoff The tuned Strassen cutoff (must be >= 1).
+     * @param maxSize        The largest matrix size benchmarked.
+     * @return A profile tagged with this machine's core count and architecture.
+     */
+    public static TuningProfile forCurrentHost(int strassenCutoff, int maxSize) {
+        return new TuningProfile(strassenCutoff, Runtime.getRuntime().availableProcessors(),
+                System.getProperty("os.arch"), maxSize);
+    }
+
+    /**
+     * Returns the default location of the tuning profile: ~/.matrixmultiplication/tuning.properties.
+     *
+     * @return The default profile path.
+     */
+    public static Path defaultPath() {
+        return Paths.get(System.getProperty("user.home"), ".matrixmultiplication", "tuning.properties");
+    }
+
+    /**
+     * Retrieves the Strassen cutoff found fastest on the tuned host.
+     * @return The tuned cutoff.
+     */
+    public int getStrassenCutoff() {
+        return strassenCutoff;
+    }
+
+    /**
+     * Retrieves the core count of the host that was tuned.
+     * @return The host's core count.
+     */
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    /**
+     * Retrieves the CPU architecture of the host that was tuned.
+     * @return The host's CPU architecture.
+     */
+    public String getOsArch() {
+        return osArch;
+    }
+
+    /**
+     * Retrieves the largest matrix size benchmarked during tuning.
+     * @return The largest benchmarked size.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Checks whether this profile was measured on a machine like the current one.
+     *
+     * @return True if core count and architecture match the running host.
+     */
+    public boolean matchesCurrentHost() {
+        return availableProcessors == Runtime.getRuntime().availableProcessors()
+                && String.valueOf(osArch).equals(System.getProperty("os.arch"));
+    }
+
+    /**
+     * Writes this profile to the given file, creating parent directories if needed.
+     *
+     * @param path Destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        Properties props = new Properties();
+        props.setProperty(KEY_CUTOFF, Integer.toString(strassenCutoff));
+        props.setProperty(KEY_PROCESSORS, Integer.toString(availableProcessors));
+        props.setProperty(KEY_ARCH, String.valueOf(osArch));
+        props.setProperty(KEY_MAX_SIZE, Integer.toString(maxSize));
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            props.store(out, "Strassen tuning profile");
+        }
+    }
+
+    /**
+     * Reads a profile previously written by {@link #save(Path)}.
+     *
+     * @param path The profile file.
+     * @return The loaded profile.
+     * @throws IOException If the file cannot be read or does not contain a valid profile.
+     */
+    public static TuningProfile load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            props.load(in);
+        }
+        try {
+            int cutoff = Integer.parseInt(props.getProperty(KEY_CUTOFF, "").trim());
+            int processors = Integer.parseInt(props.getProperty(KEY_PROCESSORS, "0").trim());
+            int maxSize = Integer.parseInt(props.getProperty(KEY_MAX_SIZE, "0").trim());
+            return new TuningProfile(cutoff, processors, props.getProperty(KEY_ARCH), maxSize);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid tuning profile '" + path + "': " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Strassen cutoff: %d | Processors: %d | Arch: %s | Max size tuned: %d",
+                strassenCutoff, availableProcessors, osArch, maxSize);
+    }
+}
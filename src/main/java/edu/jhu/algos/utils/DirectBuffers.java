@@ -0,0 +1,61 @@
+package edu.jhu.algos.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases direct and memory-mapped buffers without waiting for the garbage collector.
+ * <p>
+ * JDK 17 has no public API to free a direct buffer. {@code sun.misc.Unsafe.invokeCleaner}
+ * (in the jdk.unsupported module) frees it immediately; when it is not available, the
+ * buffer is simply left to the garbage collector.
+ * </p>
+ */
+public class DirectBuffers {
+
+    private static final Object UNSAFE;           // sun.misc.Unsafe instance, or null
+    private static final Method INVOKE_CLEANER;   // Unsafe.invokeCleaner(ByteBuffer), or null
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Fall back to releasing buffers when they are garbage collected
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Checks whether buffers can be released explicitly on this JVM.
+     * @return True if {@link #release(ByteBuffer)} frees memory immediately.
+     */
+    public static boolean isExplicitReleaseSupported() {
+        return INVOKE_CLEANER != null;
+    }
+
+    /**
+     * Frees a direct (or mapped) buffer. The buffer must not be used afterwards.
+     * Heap buffers, slices and duplicates are ignored.
+     * @param buffer The buffer returned by allocateDirect() or FileChannel.map().
+     */
+    public static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Slices and duplicates have no cleaner; the garbage collector frees their memory
+        }
+    }
+}
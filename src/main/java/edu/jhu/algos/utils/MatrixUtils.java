@@ -1,7 +1,9 @@
 package edu.jhu.algos.utils;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.OffHeapMatrix;
 import edu.jhu.algos.utils.MatrixValidator;
+import java.util.Arrays;
 import java.util.Random;
 
 /**
@@ -16,11 +18,12 @@ public class MatrixUtils {
      * @return A new 2D array with copied values.
      */
     public static int[][] deepCopy(int[][] original) {
-        // Create a new 2D array of the same dimensions
-        int[][] copy = new int[original.length][original.length];
+        // Create a new 2D array with the same number of rows
+        int[][] copy = new int[original.length][];
         // Loop over each row
         for (int i = 0; i < original.length; i++) {
-            // Copy row contents using System.arraycopy for efficiency
+            // Copy row contents using System.arraycopy for efficiency (rows may be of any length)
+            copy[i] = new int[original[i].length];
             System.arraycopy(original[i], 0, copy[i], 0, original[i].length);
         }
         return copy; // Return the fully copied 2D array
@@ -41,15 +44,11 @@ public class MatrixUtils {
             }
             // Prepare a random number generator
             Random rand = new Random();
-            // Get matrix dimension
-            int n = matrix.getSize();
-            // Populate every cell with a random value
-            for (int i = 0; i < n; i++) {           // row index
-                for (int j = 0; j < n; j++) {       // column index
-                    // Generate random value between min and max
-                    int randomValue = rand.nextInt((max - min) + 1) + min;
-                    matrix.set(i, j, randomValue);  // Place into the matrix
-                }
+            // Populate every cell of the flat row-major array with a random value
+            int[] data = matrix.getRawData();
+            for (int i = 0; i < data.length; i++) {
+                // Generate random value between min and max
+                data[i] = rand.nextInt((max - min) + 1) + min;
             }
         } catch (IllegalArgumentException e) {
             // Throw an error if min > max
@@ -57,37 +56,52 @@ public class MatrixUtils {
         }
     }
 
+    /**
+     * Fills an off-heap matrix with random integer values in the range [min, max], one row at a time.
+     * @param matrix The OffHeapMatrix to fill with random values.
+     * @param min The minimum random value (inclusive).
+     * @param max The maximum random value (inclusive).
+     * @throws IllegalArgumentException If min > max.
+     */
+    public static void fillRandom(OffHeapMatrix matrix, int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Error in fillRandom(): Minimum value cannot be greater than maximum value.");
+        }
+        Random rand = new Random();
+        int cols = matrix.getCols();
+        int[] row = new int[cols];  // Heap scratch row, copied off-heap in one bulk put
+        for (int i = 0; i < matrix.getRows(); i++) {
+            for (int j = 0; j < cols; j++) {
+                row[j] = rand.nextInt((max - min) + 1) + min;
+            }
+            matrix.setRow(i, 0, row, 0, cols);
+        }
+    }
+
     /**
      * Creates a new Matrix of given size, filled entirely with zeros.
-     * @param size The dimension of the square matrix (must be power of 2).
+     * @param size The dimension of the square matrix (must be positive).
      * @return A newly constructed zero-initialized Matrix.
-     * @throws IllegalArgumentException If the size is not a power of 2.
+     * @throws IllegalArgumentException If the size is not positive.
      */
     public static Matrix createZeroMatrix(int size) {
-        // Validate that 'size' is a power of 2
-        if (!MatrixValidator.isPowerOfTwo(size)) {
-            throw new IllegalArgumentException("Size must be a power of 2 for a valid Matrix.");
-        }
-        // Simply create a new Matrix of given size
+        // Simply create a new Matrix of given size (the constructor validates it)
         // By default, it's initialized to 0
         return new Matrix(size);
     }
 
     /**
      * Creates an identity matrix of the given size, i.e., 1s on main diagonal and 0s elsewhere.
-     * @param size The dimension of the square matrix (must be power of 2).
+     * @param size The dimension of the square matrix (must be positive).
      * @return A new Matrix representing the identity matrix.
-     * @throws IllegalArgumentException If the size is not a power of 2.
+     * @throws IllegalArgumentException If the size is not positive.
      */
     public static Matrix createIdentityMatrix(int size) {
-        if (!MatrixValidator.isPowerOfTwo(size)) {
-            throw new IllegalArgumentException("Size must be a power of 2 for a valid Matrix.");
-        }
         // Build a new Matrix of given size
         Matrix identity = new Matrix(size);
         // Place 1s along the diagonal
         for (int i = 0; i < size; i++) {
-            identity.set(i, i, 1);
+            identity.setUnchecked(i, i, 1);
         }
         return identity;
     }
@@ -97,14 +111,15 @@ public class MatrixUtils {
      * @param matrix The Matrix to print.
      */
     public static void printMatrix(Matrix matrix) {
-        // Get the size of the matrix
-        int n = matrix.getSize();
+        // Get the dimensions of the matrix
+        int rows = matrix.getRows();
+        int cols = matrix.getCols();
         // For each row 'i'
-        for (int i = 0; i < n; i++) {
+        for (int i = 0; i < rows; i++) {
             // For each column 'j'
-            for (int j = 0; j < n; j++) {
+            for (int j = 0; j < cols; j++) {
                 // Print using formatting for alignment
-                System.out.printf("%4d ", matrix.get(i, j));
+                System.out.printf("%4d ", matrix.getUnchecked(i, j));
             }
             System.out.println(); // After finishing one row, move to next line
         }
@@ -119,12 +134,13 @@ public class MatrixUtils {
     public static String toString(Matrix matrix) {
         // Use StringBuilder for efficient concatenation
         StringBuilder sb = new StringBuilder();
-        int n = matrix.getSize(); // Dimension of the matrix
+        int rows = matrix.getRows(); // Dimensions of the matrix
+        int cols = matrix.getCols();
         // For each row
-        for (int i = 0; i < n; i++) {
+        for (int i = 0; i < rows; i++) {
             // For each column
-            for (int j = 0; j < n; j++) {
-                sb.append(String.format("%4d ", matrix.get(i, j))); // Format each cell
+            for (int j = 0; j < cols; j++) {
+                sb.append(String.format("%4d ", matrix.getUnchecked(i, j))); // Format each cell
             }
             sb.append("\n"); // New line after finishing one row
         }
@@ -140,16 +156,17 @@ public class MatrixUtils {
      */
     public static boolean compareMatrices(Matrix A, Matrix B) {
         // First check if they share the same size
-        if (A.getSize() != B.getSize()) {
+        if (!MatrixValidator.isSameSize(A, B)) {
             return false; // Different dimensions => cannot be equal
         }
-        // Same size => compare each element
-        int n = A.getSize();
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (A.get(i, j) != B.get(i, j)) {
-                    return false; // Mismatch found => not equal
-                }
+        // Same size => compare row by row
+        int rows = A.getRows();
+        int cols = A.getCols();
+        int[] a = A.getRawData(), b = B.getRawData();
+        for (int i = 0; i < rows; i++) {
+            int ai = i * A.getStride(), bi = i * B.getStride();
+            if (!Arrays.equals(a, ai, ai + cols, b, bi, bi + cols)) {
+                return false; // Mismatch found => not equal
             }
         }
         // All matched => they are equal
@@ -35,25 +35,74 @@ public class MatrixValidator {
         return isNonEmptyMatrix(matrix) && matrix.length == matrix[0].length; // Ensures row count matches column count
     }
 
+    /**
+     * Checks if every row of a matrix has the same, non-zero length.
+     * @param matrix The matrix to check.
+     * @return True if matrix is non-empty and not ragged, false otherwise.
+     */
+    public static boolean isRectangularMatrix(int[][] matrix) {
+        if (!isNonEmptyMatrix(matrix) || matrix[0] == null || matrix[0].length == 0) {
+            return false;
+        }
+        for (int[] row : matrix) {
+            if (row == null || row.length != matrix[0].length) {
+                return false; // A ragged row has no place in a rows x cols matrix
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if two matrices have the same size.
      * Used for operations like addition, subtraction.
      * @param A First matrix.
      * @param B Second matrix.
-     * @return True if both matrices have the same size, false otherwise.
+     * @return True if both matrices have the same number of rows and columns, false otherwise.
      */
     public static boolean isSameSize(Matrix A, Matrix B) {
-        return A.getSize() == B.getSize(); // Ensures both matrices have identical dimensions
+        return A.getRows() == B.getRows() && A.getCols() == B.getCols(); // Ensures identical dimensions
+    }
+
+    /**
+     * Checks if A x B is defined (A has as many columns as B has rows).
+     * @param A First matrix (m x k).
+     * @param B Second matrix (k x n).
+     * @return True if the inner dimensions agree, false otherwise.
+     */
+    public static boolean isMultipliable(Matrix A, Matrix B) {
+        return A.getCols() == B.getRows();
+    }
+
+    /**
+     * Checks if C can hold A x B (A is m x k, B is k x n and C is m x n).
+     * @param A First factor.
+     * @param B Second factor.
+     * @param C Output matrix.
+     * @return True if the product is defined and C has its shape, false otherwise.
+     */
+    public static boolean isValidProduct(Matrix A, Matrix B, Matrix C) {
+        return isMultipliable(A, B) && C.getRows() == A.getRows() && C.getCols() == B.getCols();
     }
 
     /**
-     * Checks if a matrix is valid (square and its size is a power of 2).
+     * Checks if two matrices are backed by the same storage array.
+     * Used to reject output matrices that alias an operand.
+     * @param A First matrix.
+     * @param B Second matrix.
+     * @return True if writes to one matrix would change the other.
+     */
+    public static boolean sharesStorage(Matrix A, Matrix B) {
+        return A.getRawData() == B.getRawData();
+    }
+
+    /**
+     * Checks if a matrix is valid (non-empty and rectangular; any size is allowed).
      * @param matrix The 2D array representing the matrix.
      * @return True if the matrix is valid, false otherwise.
      */
     public static boolean isValidMatrix(int[][] matrix) {
-        return isNonEmptyMatrix(matrix) && isSquareMatrix(matrix) && isPowerOfTwo(matrix.length);
-        // Ensures matrix is non-empty, square, and size is power of 2
+        return isRectangularMatrix(matrix);
+        // Ensures matrix is non-empty and every row has the same length
     }
 
     /**
@@ -64,7 +113,19 @@ public class MatrixValidator {
      * @return True if the index is valid, false otherwise.
      */
     public static boolean isValidIndex(int row, int col, int size) {
-        return row >= 0 && row < size && col >= 0 && col < size;
+        return isValidIndex(row, col, size, size);
+    }
+
+    /**
+     * Checks if a given index is within the bounds of a rows x cols matrix.
+     * @param row The row index.
+     * @param col The column index.
+     * @param rows The number of rows.
+     * @param cols The number of columns.
+     * @return True if the index is valid, false otherwise.
+     */
+    public static boolean isValidIndex(int row, int col, int rows, int cols) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
         // Ensures row and column indices are within matrix bounds
     }
 
@@ -78,8 +139,23 @@ public class MatrixValidator {
      * @return True if the submatrix extraction is valid, false otherwise.
      */
     public static boolean isValidSubMatrix(int rowOffset, int colOffset, int newSize, int matrixSize) {
-        return rowOffset >= 0 && colOffset >= 0 &&
-                rowOffset + newSize <= matrixSize && colOffset + newSize <= matrixSize;
+        return isValidSubMatrix(rowOffset, colOffset, newSize, newSize, matrixSize, matrixSize);
+    }
+
+    /**
+     * Checks if a rows x cols block at (rowOffset, colOffset) lies inside a matrixRows x matrixCols matrix.
+     * @param rowOffset The starting row index.
+     * @param colOffset The starting column index.
+     * @param rows The number of rows of the block.
+     * @param cols The number of columns of the block.
+     * @param matrixRows The number of rows of the original matrix.
+     * @param matrixCols The number of columns of the original matrix.
+     * @return True if the block is non-negative in size and fits within the matrix, false otherwise.
+     */
+    public static boolean isValidSubMatrix(int rowOffset, int colOffset, int rows, int cols,
+                                           int matrixRows, int matrixCols) {
+        return rowOffset >= 0 && colOffset >= 0 && rows >= 0 && cols >= 0 &&
+                rowOffset + rows <= matrixRows && colOffset + cols <= matrixCols;
         // Ensures submatrix does not go out of bounds
     }
 
@@ -89,12 +165,10 @@ public class MatrixValidator {
      * @return True if all elements are zero, false otherwise.
      */
     public static boolean isZeroMatrix(Matrix matrix) {
-        int[][] data = matrix.getData(); // Get matrix data
-        for (int[] row : data) { // Iterate over rows
-            for (int val : row) { // Iterate over columns
-                if (val != 0) {
-                    return false; // If any value is not zero, return false
-                }
+        int[] data = matrix.getRawData(); // Get flat matrix data
+        for (int val : data) { // Iterate over every element
+            if (val != 0) {
+                return false; // If any value is not zero, return false
             }
         }
         return true; // If all values are zero, return true
@@ -106,14 +180,19 @@ public class MatrixValidator {
      * @return True if the matrix is an identity matrix, false otherwise.
      */
     public static boolean isIdentityMatrix(Matrix matrix) {
+        if (!matrix.isSquare()) {
+            return false; // Only square matrices can be identities
+        }
         int size = matrix.getSize(); // Get matrix size
-        int[][] data = matrix.getData(); // Get matrix data
+        int stride = matrix.getStride(); // Row stride of the flat storage
+        int[] data = matrix.getRawData(); // Get flat matrix data
 
         for (int i = 0; i < size; i++) { // Iterate through rows
             for (int j = 0; j < size; j++) { // Iterate through columns
-                if (i == j && data[i][j] != 1) { // Diagonal elements should be 1
+                int val = data[i * stride + j];
+                if (i == j && val != 1) { // Diagonal elements should be 1
                     return false;
-                } else if (i != j && data[i][j] != 0) { // Non-diagonal elements should be 0
+                } else if (i != j && val != 0) { // Non-diagonal elements should be 0
                     return false;
                 }
             }
@@ -127,12 +206,10 @@ public class MatrixValidator {
      * @return True if all elements are positive, false otherwise.
      */
     public static boolean isPositiveMatrix(Matrix matrix) {
-        int[][] data = matrix.getData(); // Get matrix data
-        for (int[] row : data) { // Iterate over rows
-            for (int val : row) { // Iterate over columns
-                if (val <= 0) {
-                    return false; // If any value is non-positive, return false
-                }
+        int[] data = matrix.getRawData(); // Get flat matrix data
+        for (int val : data) { // Iterate over every element
+            if (val <= 0) {
+                return false; // If any value is non-positive, return false
             }
         }
         return true; // If all values are positive, return true
@@ -144,12 +221,16 @@ public class MatrixValidator {
      * @return True if symmetric, false otherwise.
      */
     public static boolean isSymmetric(Matrix matrix) {
+        if (!matrix.isSquare()) {
+            return false; // A rectangular matrix cannot equal its transpose
+        }
         int size = matrix.getSize(); // Get matrix size
-        int[][] data = matrix.getData(); // Get matrix data
+        int stride = matrix.getStride(); // Row stride of the flat storage
+        int[] data = matrix.getRawData(); // Get flat matrix data
 
         for (int i = 0; i < size; i++) { // Iterate through rows
             for (int j = i + 1; j < size; j++) { // Only check upper triangle
-                if (data[i][j] != data[j][i]) { // Symmetric property
+                if (data[i * stride + j] != data[j * stride + i]) { // Symmetric property
                     return false;
                 }
             }
@@ -1,16 +1,63 @@
 package edu.jhu.algos.utils;
 
+import edu.jhu.algos.profiling.MultiplyEvent;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
 /**
  * A utility class to measure performance data for matrix operations,
  * including timing and counting multiplications.
  * <p>
  * The class is designed to be used by any matrix multiplication algorithm
  * (e.g., Naive, Strassen), so that you can consistently track the number
- * of multiplications and the elapsed time in milliseconds.
+ * of multiplications and the elapsed time (recorded in nanoseconds).
+ * </p>
+ * <p>
+ * Algorithms that instrument their phases (e.g., Strassen) can also attribute time to each
+ * {@link Phase}; phase times are exclusive, so they add up to (at most) the elapsed time.
+ * </p>
+ * <p>
+ * How multiplications are counted is a global {@link CountingMode}. In SAMPLED mode (the default)
+ * kernels tally their products once per block (a row, a tile, a leaf product). In ANALYTIC mode the
+ * kernels count nothing and each algorithm records its closed-form count once per call, so the
+ * inner loops carry no bookkeeping at all. OFF records nothing.
+ * </p>
+ * <p>
+ * startTimer() and stopTimer() also bracket a {@link ResourceUsage}, so every timed operation
+ * reports its heap allocation and garbage collections. The snapshots are taken outside the timed span.
+ * </p>
+ * <p>
+ * Metrics created with an operation name emit a {@link MultiplyEvent} to Java Flight Recorder for
+ * every timed span, carrying the dimensions given to {@link #startTimer(int, int, int)}, the count
+ * and the allocation. When no recording has the event enabled this costs one check per call.
  * </p>
  */
 public class PerformanceMetrics {
 
+    /**
+     * The phases a divide-and-conquer multiplication spends its time in.
+     */
+    public enum Phase {
+        SPLIT,         // Addressing the quadrants (and peeling odd dimensions)
+        ADD_SUBTRACT,  // Forming the operand sums and differences
+        RECURSION,     // Multiplying the leaf blocks of the recursion (base-case kernel)
+        COMBINE,       // Adding the sub-products into the result quadrants
+        MERGE          // Assembling the final result (odd-edge fix-ups, alpha/beta scaling)
+    }
+
+    /**
+     * How algorithms count their scalar multiplications.
+     */
+    public enum CountingMode {
+        ANALYTIC,  // One closed-form count per call (from the shape and cutoff); kernels count nothing
+        SAMPLED,   // Kernels add their products once per block as they run
+        OFF        // Nothing is counted; counts stay 0
+    }
+
+    // Counting mode shared by every algorithm.
+    private static volatile CountingMode countingMode = CountingMode.SAMPLED;
+
     // Stores the system time (in nanoseconds) when the operation starts.
     private long startTime;
 
@@ -20,17 +67,42 @@ public class PerformanceMetrics {
     // Tracks the total count of multiplications performed in the operation.
     private long multiplicationCount;
 
+    // Exclusive time spent in each phase (in nanoseconds), indexed by Phase.ordinal().
+    private final long[] phaseTimeNs = new long[Phase.values().length];
+
+    // Heap allocation and garbage collection between startTimer() and stopTimer().
+    private final ResourceUsage resourceUsage = new ResourceUsage();
+
+    // Algorithm name reported in MultiplyEvents (null: no events).
+    private final String operation;
+
+    // Dimensions of the timed product (m x k times k x n), for the MultiplyEvent.
+    private int rows, inner, columns;
+
+    // Flight Recorder event of the current span, or null when not recording.
+    private MultiplyEvent event;
+
     /**
      * Default constructor initializes all fields to zero.
      * The user should call startTimer() before an operation,
-     * incrementMultiplicationCount() during the operation,
+     * addSampledMultiplications() with the tallies counted during it and
+     * addAnalyticMultiplications() with its closed-form count,
      * and stopTimer() after the operation is complete.
      */
     public PerformanceMetrics() {
+        this(null);
+    }
+
+    /**
+     * Constructs metrics that also report every timed span as a Flight Recorder {@link MultiplyEvent}.
+     * @param operation The algorithm name shown in the events (null for no events).
+     */
+    public PerformanceMetrics(String operation) {
         // Set everything to 0 by default
         this.startTime = 0;            // No start time yet
         this.endTime = 0;              // No end time yet
         this.multiplicationCount = 0;  // No multiplications counted yet
+        this.operation = operation;
     }
 
     /**
@@ -41,10 +113,32 @@ public class PerformanceMetrics {
      * </p>
      */
     public void startTimer() {
+        resourceUsage.start();  // Snapshot first, so it is not part of the timed span
+        event = null;
+        if (operation != null) {
+            MultiplyEvent candidate = new MultiplyEvent();
+            if (candidate.isEnabled()) {
+                event = candidate;
+                event.begin();
+            }
+        }
         // Capture the current time in nanoseconds
         this.startTime = System.nanoTime();
     }
 
+    /**
+     * Same as {@link #startTimer()}, and records the shape of the product for the Flight Recorder event.
+     * @param m Rows of A (and C).
+     * @param k Columns of A (rows of B).
+     * @param n Columns of B (and C).
+     */
+    public void startTimer(int m, int k, int n) {
+        this.rows = m;
+        this.inner = k;
+        this.columns = n;
+        startTimer();
+    }
+
     /**
      * Records the current system time as the end time for measuring an operation.
      * <p>
@@ -60,6 +154,21 @@ public class PerformanceMetrics {
         }
         // Capture the current time in nanoseconds
         this.endTime = System.nanoTime();
+        if (event != null) {
+            event.end();
+        }
+        resourceUsage.stop();
+        if (event != null && event.shouldCommit()) {
+            event.algorithm = operation;
+            event.rows = rows;
+            event.inner = inner;
+            event.columns = columns;
+            event.elements = (long) rows * columns;
+            event.multiplications = multiplicationCount;
+            event.allocatedBytes = resourceUsage.getAllocatedBytes();
+            event.commit();
+        }
+        event = null;
     }
 
     /**
@@ -89,6 +198,53 @@ public class PerformanceMetrics {
         this.multiplicationCount += amount;
     }
 
+    /**
+     * Sets how every algorithm counts multiplications from its next call on.
+     * @param mode The counting mode.
+     */
+    public static void setCountingMode(CountingMode mode) {
+        countingMode = mode;
+    }
+
+    /**
+     * Retrieves the current counting mode.
+     * @return The counting mode.
+     */
+    public static CountingMode getCountingMode() {
+        return countingMode;
+    }
+
+    /**
+     * Checks whether kernels should tally their products (SAMPLED mode).
+     * Kernels call this once before their loops and skip all counting when it is false.
+     * @return True in SAMPLED mode.
+     */
+    public static boolean isSampling() {
+        return countingMode == CountingMode.SAMPLED;
+    }
+
+    /**
+     * Adds a tally the kernels counted while running; it is kept in SAMPLED mode only.
+     * @param amount The number of multiplications counted.
+     * @throws IllegalArgumentException If amount is negative.
+     */
+    public void addSampledMultiplications(long amount) {
+        if (countingMode == CountingMode.SAMPLED) {
+            addMultiplications(amount);
+        }
+    }
+
+    /**
+     * Adds the closed-form count of a whole operation; it is computed and kept in ANALYTIC mode only.
+     * @param closedForm Computes the count; only called in ANALYTIC mode.
+     * @throws IllegalArgumentException If the count is negative.
+     */
+    public void addAnalyticMultiplications(LongSupplier closedForm) {
+        if (countingMode == CountingMode.ANALYTIC) {
+            addMultiplications(closedForm.getAsLong());
+        }
+    }
+
     /**
      * Retrieves the total multiplication count.
      * @return The total number of scalar multiplications recorded.
@@ -110,15 +266,49 @@ public class PerformanceMetrics {
 
     /**
      * Retrieves the elapsed time in milliseconds between the last startTimer() and stopTimer() calls.
-     * @return The time in milliseconds, or 0 if stopTimer() hasn't been called.
+     * @return The time in whole milliseconds (truncated), or 0 if stopTimer() hasn't been called.
      */
     public long getElapsedTimeMs() {
+        // Convert nanoseconds to milliseconds
+        return getElapsedTimeNs() / 1_000_000;
+    }
+
+    /**
+     * Retrieves the elapsed time in nanoseconds between the last startTimer() and stopTimer() calls.
+     * @return The time in nanoseconds, or 0 if stopTimer() hasn't been called.
+     */
+    public long getElapsedTimeNs() {
         // If stopTimer() was never called, or startTimer() is 0, return 0
         if (this.startTime == 0 || this.endTime == 0) {
             return 0;
         }
-        // Convert nanoseconds to milliseconds
-        return (endTime - startTime) / 1_000_000;
+        return endTime - startTime;
+    }
+
+    /**
+     * Attributes a span of time to one phase.
+     * @param phase The phase the time was spent in.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void addPhaseTime(Phase phase, long nanos) {
+        phaseTimeNs[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Retrieves the total time attributed to one phase since the last reset.
+     * @param phase The phase to query.
+     * @return The time in nanoseconds (0 if the phase was not instrumented).
+     */
+    public long getPhaseTimeNs(Phase phase) {
+        return phaseTimeNs[phase.ordinal()];
+    }
+
+    /**
+     * Retrieves the heap allocation and garbage collections of the last timed operation.
+     * @return The resource usage between the last startTimer() and stopTimer() calls.
+     */
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage;
     }
 
     /**
@@ -129,9 +319,11 @@ public class PerformanceMetrics {
      * </p>
      */
     public void resetAll() {
-        // Reset both timers and the multiplication count
+        // Reset both timers, the multiplication count and the phase times
         this.startTime = 0;
         this.endTime = 0;
         this.multiplicationCount = 0;
+        Arrays.fill(phaseTimeNs, 0);
+        resourceUsage.reset();
     }
 }
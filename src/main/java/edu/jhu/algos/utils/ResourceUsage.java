@@ -0,0 +1,157 @@
+package edu.jhu.algos.utils;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the heap allocation and garbage collection of one operation, between start() and stop().
+ * <p>
+ * Allocation comes from {@code com.sun.management.ThreadMXBean.getThreadAllocatedBytes}, summed over
+ * every live thread, so bytes allocated by fork/join workers are included. The calling thread is read
+ * last at start() and first at stop(), so the snapshot arrays themselves are not counted. Threads
+ * that end before stop() lose their share, and unrelated threads running at the same time are
+ * attributed to the operation. When the JVM does not support allocation tracking, 0 bytes are reported.
+ * </p>
+ * <p>
+ * GC counts and times are the deltas of all {@link GarbageCollectorMXBean}s. Collection time is the
+ * accumulated elapsed time the JVM reports, so it approximates the pause time for stop-the-world
+ * collectors and overstates it for concurrent ones.
+ * </p>
+ */
+public class ResourceUsage {
+
+    private static final com.sun.management.ThreadMXBean THREADS;    // Null if allocation tracking is unsupported
+    private static final List<GarbageCollectorMXBean> COLLECTORS =
+            ManagementFactory.getGarbageCollectorMXBeans();
+
+    static {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean tracking = null;
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            tracking = (com.sun.management.ThreadMXBean) threads;
+            if (tracking.isThreadAllocatedMemorySupported() && !tracking.isThreadAllocatedMemoryEnabled()) {
+                tracking.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (!tracking.isThreadAllocatedMemorySupported()) {
+                tracking = null;
+            }
+        }
+        THREADS = tracking;
+    }
+
+    private Map<Long, Long> startBytes = new HashMap<>(); // Allocated bytes of the other threads at start()
+    private long startThreadId;                           // Thread that called start()
+    private long startThreadBytes;                        // Its allocated bytes at start()
+    private long startGcCount;
+    private long startGcTimeMs;
+
+    private long allocatedBytes;  // Bytes allocated between start() and stop(), all threads
+    private long gcCount;         // Collections between start() and stop()
+    private long gcTimeMs;        // Collection time between start() and stop()
+
+    /**
+     * Checks whether this JVM reports per-thread allocation.
+     * @return True if allocated bytes are measured.
+     */
+    public static boolean isAllocationTracked() {
+        return THREADS != null;
+    }
+
+    /**
+     * Takes the starting snapshot. Call it right before the operation.
+     */
+    public void start() {
+        long[] gc = readGc();
+        startGcCount = gc[0];
+        startGcTimeMs = gc[1];
+        if (THREADS == null) {
+            return;
+        }
+        startThreadId = Thread.currentThread().getId();
+        startBytes = readOtherThreads(startThreadId);
+        startThreadBytes = THREADS.getCurrentThreadAllocatedBytes();  // Last, so the snapshot is not counted
+    }
+
+    /**
+     * Takes the ending snapshot and computes the deltas. Call it right after the operation.
+     */
+    public void stop() {
+        if (THREADS != null) {
+            long threadBytes = THREADS.getCurrentThreadAllocatedBytes();  // First, before anything is allocated
+            long total = threadBytes - startThreadBytes;
+            for (Map.Entry<Long, Long> entry : readOtherThreads(startThreadId).entrySet()) {
+                // Threads started during the operation count from 0
+                total += entry.getValue() - startBytes.getOrDefault(entry.getKey(), 0L);
+            }
+            allocatedBytes = Math.max(total, 0);
+        }
+        long[] gc = readGc();
+        gcCount = gc[0] - startGcCount;
+        gcTimeMs = gc[1] - startGcTimeMs;
+    }
+
+    /**
+     * Clears the measured values.
+     */
+    public void reset() {
+        allocatedBytes = 0;
+        gcCount = 0;
+        gcTimeMs = 0;
+    }
+
+    /**
+     * Retrieves the bytes allocated on the heap between start() and stop(), summed over all threads.
+     * @return The allocated bytes (0 if allocation is not tracked).
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Retrieves the number of garbage collections between start() and stop().
+     * @return The collection count.
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Retrieves the garbage collection time between start() and stop().
+     * @return The collection time in milliseconds.
+     */
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    /**
+     * Reads the allocated bytes of every live thread except 'excludedId' (unknown threads are skipped).
+     */
+    private static Map<Long, Long> readOtherThreads(long excludedId) {
+        long[] ids = THREADS.getAllThreadIds();
+        long[] bytes = THREADS.getThreadAllocatedBytes(ids);
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != excludedId && bytes[i] >= 0) {
+                result.put(ids[i], bytes[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sums the collection count and time of all collectors: {count, timeMs}.
+     */
+    private static long[] readGc() {
+        long count = 0;
+        long timeMs = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            count += Math.max(collector.getCollectionCount(), 0);    // -1 when undefined
+            timeMs += Math.max(collector.getCollectionTime(), 0);
+        }
+        return new long[]{count, timeMs};
+    }
+}
@@ -0,0 +1,222 @@
+package edu.jhu.algos.utils;
+
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Global leveled tracing for the whole program (replaces the old on/off debug switch).
+ * <p>
+ * Messages are passed as {@link Supplier}s, so a disabled message costs one level check and
+ * no string is ever built. Kernels hoist {@link #isEnabled} out of their loops, so with tracing
+ * off they pay nothing per iteration.
+ * </p>
+ * <p>
+ * Enabled messages are formatted on the calling thread (so they capture the current values)
+ * and offered to a bounded ring buffer; a daemon writer thread drains the buffer to the output
+ * stream. A full buffer drops the message instead of stalling the caller, and the number of
+ * dropped messages is reported. {@link #flush()} waits until every accepted message is written.
+ * </p>
+ * <p>
+ * TRACE messages are per-iteration events, so they are sampled: only every Nth TRACE event is
+ * recorded (N = 1 by default).
+ * </p>
+ */
+public class Tracer {
+
+    /**
+     * Verbosity levels, from quietest to most verbose.
+     */
+    public enum Level {
+        OFF,    // Nothing is recorded
+        INFO,   // Progress messages
+        DEBUG,  // Per-operation details (what --debug used to print)
+        TRACE   // Per-iteration events inside kernels, sampled
+    }
+
+    /** Number of messages the ring buffer holds before new messages are dropped. */
+    public static final int BUFFER_CAPACITY = 8192;
+
+    private static volatile Level level = Level.OFF;           // Current verbosity
+    private static volatile int sampleInterval = 1;             // Record every Nth TRACE event
+    private static volatile PrintStream output = System.out;    // Where the writer thread prints
+
+    private static final BlockingQueue<String> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private static final AtomicLong traceEvents = new AtomicLong();  // TRACE events seen (for sampling)
+    private static final AtomicLong accepted = new AtomicLong();     // Messages put in the buffer
+    private static final AtomicLong dropped = new AtomicLong();      // Messages lost to a full buffer
+    private static final Object writtenLock = new Object();
+    private static long written = 0;                                 // Messages printed (guarded by writtenLock)
+    private static volatile Thread writer;                           // Started with the first message
+
+    private Tracer() {
+    }
+
+    /**
+     * Sets the verbosity; messages above this level are discarded.
+     * @param newLevel The new level (OFF disables tracing).
+     */
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    /**
+     * Retrieves the current verbosity.
+     * @return The current level.
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether messages of the given level are recorded.
+     * Kernels call this once before a loop and skip their trace calls when it is false.
+     * @param messageLevel The level of the message.
+     * @return True if the message would be recorded.
+     */
+    public static boolean isEnabled(Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.ordinal() <= level.ordinal();
+    }
+
+    /**
+     * Records only every Nth TRACE event.
+     * @param interval The sampling interval (must be >= 1; 1 records every event).
+     * @throws IllegalArgumentException if interval is less than 1.
+     */
+    public static void setSampleInterval(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Sample interval must be at least 1.");
+        }
+        sampleInterval = interval;
+    }
+
+    /**
+     * Redirects the output of the writer thread (System.out by default).
+     * Pending messages are flushed to the old stream first.
+     * @param stream The stream to print to.
+     */
+    public static void setOutput(PrintStream stream) {
+        flush();
+        output = stream;
+    }
+
+    /**
+     * Records an INFO message.
+     * @param message Builds the message; only called when INFO is enabled.
+     */
+    public static void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Records a DEBUG message.
+     * @param message Builds the message; only called when DEBUG is enabled.
+     */
+    public static void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Records a sampled TRACE message: only every Nth TRACE event (see {@link #setSampleInterval}) is kept.
+     * @param message Builds the message; only called for sampled events.
+     */
+    public static void trace(Supplier<String> message) {
+        if (!isEnabled(Level.TRACE)) {
+            return;
+        }
+        if (traceEvents.getAndIncrement() % sampleInterval == 0) {
+            enqueue(Level.TRACE, message.get());
+        }
+    }
+
+    /**
+     * Records a message at the given level.
+     * @param messageLevel The level of the message.
+     * @param message Builds the message; only called when the level is enabled.
+     */
+    public static void log(Level messageLevel, Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            enqueue(messageLevel, message.get());
+        }
+    }
+
+    /**
+     * Retrieves how many messages were dropped because the ring buffer was full.
+     * @return The number of dropped messages since start-up.
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Blocks until every accepted message has been written (or 5 seconds pass).
+     */
+    public static void flush() {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        synchronized (writtenLock) {
+            while (written < target) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    return;
+                }
+                try {
+                    writtenLock.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Formats a message and hands it to the writer thread without blocking.
+     */
+    private static void enqueue(Level messageLevel, String message) {
+        if (writer == null) {
+            startWriter();
+        }
+        if (buffer.offer("[" + messageLevel + "] " + message)) {
+            accepted.incrementAndGet();
+        } else if (dropped.getAndIncrement() == 0) {
+            System.err.println("Warning: trace buffer full, dropping messages.");  // Warn once
+        }
+    }
+
+    /**
+     * Starts the daemon writer thread (and a shutdown hook that drains it) on first use.
+     */
+    private static synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(Tracer::drain, "tracer-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Tracer::flush, "tracer-flush"));
+    }
+
+    /**
+     * Writer loop: prints buffered messages in order and wakes up flush() callers.
+     */
+    private static void drain() {
+        while (true) {
+            String message;
+            try {
+                message = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            output.println(message);
+            synchronized (writtenLock) {
+                written++;
+                writtenLock.notifyAll();
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package edu.jhu.algos.visualization;
 
 import edu.jhu.algos.compare.PerformanceRecord;
-import edu.jhu.algos.utils.DebugConfig;
+import edu.jhu.algos.utils.Tracer;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.plot.PlotOrientation;
@@ -62,7 +62,7 @@ public class GraphGenerator {
             strassenExpectedSeries.add(n, strassenExpected);
             strassenActualSeries.add(n, record.getStrassenMultiplications());
 
-            DebugConfig.log("Graph Data - Size: " + n +
+            Tracer.debug(() -> "Graph Data - Size: " + n +
                     " | Naive Expected: " + naiveExpected +
                     " | Naive Actual: " + record.getNaiveMultiplications() +
                     " | Strassen Expected: " + strassenExpected +
@@ -153,7 +153,7 @@ public class GraphGenerator {
 
         try {
             ChartUtils.saveChartAsPNG(outputFile, chart, 800, 600);
-            DebugConfig.log("Graph saved to: " + filePath);
+            Tracer.debug(() -> "Graph saved to: " + filePath);
             System.out.println("Graph successfully saved to: " + filePath);
         } catch (IOException e) {
             System.err.println("Error saving graph to file: " + e.getMessage());
@@ -0,0 +1,120 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.BlockedMultiplication;
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BlockedMultiplication.
+ * Ensures results and multiplication counts match NaiveMultiplication for various tile sizes.
+ */
+public class BlockedMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        Matrix A = new Matrix(new int[][]{ {1, 2}, {3, 4} });
+        Matrix B = new Matrix(new int[][]{ {5, 6}, {7, 8} });
+        BlockedMultiplication blocked = new BlockedMultiplication();
+
+        Matrix result = blocked.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.getData(), "Matrix multiplication result is incorrect.");
+        assertEquals(8, blocked.getMultiplicationCount(), "Multiplication count should be n^3.");
+    }
+
+    @Test
+    void testMatchesNaiveForVariousTiles() {
+        Matrix A = new Matrix(32);
+        Matrix B = new Matrix(32);
+        MatrixUtils.fillRandom(A, -20, 20);
+        MatrixUtils.fillRandom(B, -20, 20);
+
+        NaiveMultiplication naive = new NaiveMultiplication();
+        Matrix expected = naive.multiply(A, B);
+
+        // Include tile sizes that do not divide n and tiles larger than n
+        int[][] tiles = { {1, 1}, {3, 7}, {4, 16}, {5, 5}, {32, 32}, {64, 128} };
+        for (int[] tile : tiles) {
+            BlockedMultiplication blocked = new BlockedMultiplication(tile[0], tile[1]);
+            Matrix result = blocked.multiply(A, B);
+            assertArrayEquals(expected.getData(), result.getData(),
+                    "Tiles " + tile[0] + "/" + tile[1] + " should match Naive multiplication.");
+            assertEquals(naive.getMultiplicationCount(), blocked.getMultiplicationCount(),
+                    "Tiles " + tile[0] + "/" + tile[1] + " should count the same multiplications as Naive.");
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedMultiplication(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedMultiplication(16, 8));
+
+        BlockedMultiplication blocked = new BlockedMultiplication();
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> blocked.multiply(new Matrix(2), new Matrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C against the plain product.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        BlockedMultiplication blocked = new BlockedMultiplication(4, 8);
+        blocked.multiply(A, B);
+        long plainCount = blocked.getMultiplicationCount();
+
+        int[][] scalars = { {1, 0}, {2, 3}, {-1, 1}, {0, 5} };
+        for (int[] s : scalars) {
+            Matrix C = new Matrix(16);
+            MatrixUtils.fillRandom(C, -9, 9);
+            int[] expected = C.getRawData().clone();
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = s[0] * product[i] + s[1] * expected[i];
+            }
+
+            blocked.multiply(A, B, C, s[0], s[1]);
+            assertArrayEquals(expected, C.getRawData(), "alpha=" + s[0] + ", beta=" + s[1] + " gives a wrong C.");
+            if (s[0] != 0) {
+                assertEquals(plainCount, blocked.getMultiplicationCount(), "Only the product itself should be counted.");
+            }
+        }
+
+        // The output must match in size and must not alias an operand
+        assertThrows(IllegalArgumentException.class, () -> blocked.multiply(A, B, new Matrix(8), 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> blocked.multiply(A, B, A, 1, 0));
+    }
+
+    /**
+     * Tests rectangular and non-power-of-2 shapes against NaiveMultiplication.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {17, 9, 33}, {31, 64, 2}, {40, 40, 40} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+        BlockedMultiplication blocked = new BlockedMultiplication(4, 16);
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+
+            Matrix expected = naive.multiply(A, B);
+            Matrix result = blocked.multiply(A, B);
+            assertArrayEquals(expected.getData(), result.getData(), label + " should match Naive multiplication.");
+            assertEquals(naive.getMultiplicationCount(), blocked.getMultiplicationCount(),
+                    label + " should count m * k * n multiplications.");
+        }
+    }
+}
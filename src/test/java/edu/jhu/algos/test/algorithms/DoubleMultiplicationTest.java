@@ -0,0 +1,99 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.DoubleMultiplication;
+import edu.jhu.algos.algorithms.MultiplicationKernel;
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.models.DoubleMatrix;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DoubleMultiplication.
+ * Integer-valued inputs make every kernel exact (with or without fused multiply-add), so results
+ * can be compared element for element; fractional inputs are compared with a tolerance.
+ */
+public class DoubleMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        DoubleMatrix A = new DoubleMatrix(new double[][]{ {1.5, 2}, {3, 4} });
+        DoubleMatrix B = new DoubleMatrix(new double[][]{ {5, 6}, {7, 8} });
+
+        for (MultiplicationKernel kernel : MultiplicationKernel.values()) {
+            DoubleMatrix result = new DoubleMultiplication(kernel).multiply(A, B);
+            assertArrayEquals(new double[][]{ {21.5, 25}, {43, 50} }, result.getData(), kernel + " result is incorrect.");
+        }
+    }
+
+    /**
+     * Tests square, odd and rectangular shapes against the int NaiveMultiplication.
+     */
+    @Test
+    void testKernelsMatchIntMultipliers() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {16, 16, 16}, {17, 9, 33}, {31, 64, 2}, {70, 70, 70} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            A.set(0, 0, 7);  // Never all-zero: the int Strassen skips zero operands without counting
+            B.set(0, 0, 7);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+            DoubleMatrix expected = new DoubleMatrix(naive.multiply(A, B));
+
+            for (MultiplicationKernel kernel : MultiplicationKernel.values()) {
+                DoubleMatrix result = new DoubleMultiplication(kernel, 4).multiply(new DoubleMatrix(A), new DoubleMatrix(B));
+                assertArrayEquals(expected.getData(), result.getData(), label + " with " + kernel + " should match Naive.");
+            }
+
+            DoubleMultiplication strassen = new DoubleMultiplication(MultiplicationKernel.STRASSEN, 4);
+            strassen.multiply(new DoubleMatrix(A), new DoubleMatrix(B));
+            StrassenMultiplication intStrassen = new StrassenMultiplication(4);
+            intStrassen.multiply(A, B);
+            assertEquals(intStrassen.getMultiplicationCount(), strassen.getMultiplicationCount(),
+                    label + " should count the same multiplications as the int Strassen.");
+        }
+    }
+
+    /**
+     * Tests fractional values, where Strassen's extra additions change the rounding slightly.
+     */
+    @Test
+    void testFractionalValuesWithinTolerance() {
+        Random rand = new Random(5);
+        DoubleMatrix A = new DoubleMatrix(45, 37);
+        DoubleMatrix B = new DoubleMatrix(37, 29);
+        for (int i = 0; i < A.getRawData().length; i++) {
+            A.getRawData()[i] = rand.nextDouble() * 2 - 1;
+        }
+        for (int i = 0; i < B.getRawData().length; i++) {
+            B.getRawData()[i] = rand.nextDouble() * 2 - 1;
+        }
+
+        double[] expected = new DoubleMultiplication(MultiplicationKernel.NAIVE).multiply(A, B).getRawData();
+        for (MultiplicationKernel kernel : MultiplicationKernel.values()) {
+            double[] result = new DoubleMultiplication(kernel, 2).multiply(A, B).getRawData();
+            assertArrayEquals(expected, result, 1e-9, kernel + " should agree with Naive to within rounding.");
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DoubleMultiplication(null));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleMultiplication(MultiplicationKernel.BLOCKED, 0));
+
+        DoubleMultiplication multiplier = new DoubleMultiplication(MultiplicationKernel.STRASSEN);
+        assertEquals(StrassenMultiplication.DEFAULT_CUTOFF, multiplier.getCutoff(), "The default cutoff should be used.");
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> multiplier.multiply(new DoubleMatrix(3, 2), new DoubleMatrix(3, 2)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+    }
+}
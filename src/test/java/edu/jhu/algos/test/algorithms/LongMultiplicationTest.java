@@ -0,0 +1,121 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.LongMultiplication;
+import edu.jhu.algos.algorithms.MultiplicationKernel;
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.models.LongMatrix;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LongMultiplication.
+ * Every kernel must give exact 64-bit results and the same multiplication counts as the int multipliers.
+ */
+public class LongMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        LongMatrix A = new LongMatrix(new long[][]{ {1, 2}, {3, 4} });
+        LongMatrix B = new LongMatrix(new long[][]{ {5, 6}, {7, 8} });
+
+        for (MultiplicationKernel kernel : MultiplicationKernel.values()) {
+            LongMultiplication multiplier = new LongMultiplication(kernel);
+            LongMatrix result = multiplier.multiply(A, B);
+            assertArrayEquals(new long[][]{ {19, 22}, {43, 50} }, result.getData(), kernel + " result is incorrect.");
+        }
+    }
+
+    /**
+     * Tests products that overflow an int but fit in a long.
+     */
+    @Test
+    void testNoOverflowBeyondIntRange() {
+        int big = 100_000;
+        Matrix intA = new Matrix(new int[][]{ {big, big}, {big, big} });
+        LongMatrix A = new LongMatrix(intA);
+
+        // 2 * 10^10 does not fit in 32 bits, so the int multiplier wraps around
+        Matrix wrapped = new NaiveMultiplication().multiply(intA, intA);
+        assertNotEquals(20_000_000_000L, wrapped.get(0, 0), "The int product should wrap around.");
+
+        for (MultiplicationKernel kernel : MultiplicationKernel.values()) {
+            LongMatrix result = new LongMultiplication(kernel).multiply(A, A);
+            assertEquals(20_000_000_000L, result.get(1, 1), kernel + " should compute the exact 64-bit product.");
+        }
+    }
+
+    /**
+     * Tests square, odd and rectangular shapes against the int NaiveMultiplication,
+     * including the multiplication counts of the int Strassen multiplier.
+     */
+    @Test
+    void testKernelsMatchIntMultipliers() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {16, 16, 16}, {17, 9, 33}, {31, 64, 2}, {70, 70, 70} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            A.set(0, 0, 7);  // Never all-zero: the int Strassen skips zero operands without counting
+            B.set(0, 0, 7);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+            LongMatrix expected = new LongMatrix(naive.multiply(A, B));
+
+            for (MultiplicationKernel kernel : MultiplicationKernel.values()) {
+                LongMultiplication multiplier = new LongMultiplication(kernel, 4);
+                LongMatrix result = multiplier.multiply(new LongMatrix(A), new LongMatrix(B));
+                assertArrayEquals(expected.getData(), result.getData(), label + " with " + kernel + " should match Naive.");
+            }
+
+            LongMultiplication strassen = new LongMultiplication(MultiplicationKernel.STRASSEN, 4);
+            strassen.multiply(new LongMatrix(A), new LongMatrix(B));
+            StrassenMultiplication intStrassen = new StrassenMultiplication(4);
+            intStrassen.multiply(A, B);
+            assertEquals(intStrassen.getMultiplicationCount(), strassen.getMultiplicationCount(),
+                    label + " should count the same multiplications as the int Strassen.");
+
+            LongMultiplication blocked = new LongMultiplication(MultiplicationKernel.BLOCKED);
+            blocked.multiply(new LongMatrix(A), new LongMatrix(B));
+            assertEquals(naive.getMultiplicationCount(), blocked.getMultiplicationCount(),
+                    label + " should count m * k * n multiplications.");
+        }
+    }
+
+    /**
+     * Tests that the Strassen kernel stays exact for values far outside the int range.
+     */
+    @Test
+    void testStrassenWithLargeValues() {
+        Random rand = new Random(11);
+        LongMatrix A = new LongMatrix(40, 40);
+        LongMatrix B = new LongMatrix(40, 40);
+        for (int i = 0; i < A.getRawData().length; i++) {
+            A.getRawData()[i] = rand.nextInt(2_000_001) - 1_000_000;
+            B.getRawData()[i] = rand.nextInt(2_000_001) - 1_000_000;
+        }
+
+        LongMatrix expected = new LongMultiplication(MultiplicationKernel.NAIVE).multiply(A, B);
+        LongMatrix result = new LongMultiplication(MultiplicationKernel.STRASSEN, 1).multiply(A, B);
+        assertArrayEquals(expected.getData(), result.getData(), "Strassen should be exact on 64-bit values.");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LongMultiplication(null));
+        assertThrows(IllegalArgumentException.class, () -> new LongMultiplication(MultiplicationKernel.STRASSEN, 0));
+
+        LongMultiplication multiplier = new LongMultiplication();
+        assertEquals(MultiplicationKernel.NAIVE, multiplier.getKernel(), "The default kernel should be naive.");
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> multiplier.multiply(new LongMatrix(2), new LongMatrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+    }
+}
@@ -0,0 +1,185 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.MortonStrassenMultiplication;
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MortonMatrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import edu.jhu.algos.utils.PerformanceMetrics;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MortonStrassenMultiplication.
+ * Results must match NaiveMultiplication, and counts must match StrassenMultiplication when no padding is needed.
+ */
+public class MortonStrassenMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        Matrix A = new Matrix(new int[][]{ {1, 2}, {3, 4} });
+        Matrix B = new Matrix(new int[][]{ {5, 6}, {7, 8} });
+        MortonStrassenMultiplication morton = new MortonStrassenMultiplication(1);
+
+        Matrix result = morton.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.getData(), "Matrix multiplication result is incorrect.");
+        assertEquals(7, morton.getMultiplicationCount(), "One Strassen level over 1x1 leaves uses 7 multiplications.");
+    }
+
+    /**
+     * Tests that the count equals StrassenMultiplication's when the size is leaf * 2^d.
+     */
+    @Test
+    void testCountMatchesStrassen() {
+        Matrix A = new Matrix(64);
+        Matrix B = new Matrix(64);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+
+        StrassenMultiplication strassen = new StrassenMultiplication(8);
+        Matrix expected = strassen.multiply(A, B);
+        MortonStrassenMultiplication morton = new MortonStrassenMultiplication(8);
+        Matrix result = morton.multiply(A, B);
+
+        assertArrayEquals(expected.getData(), result.getData(), "Morton Strassen should match Strassen.");
+        assertEquals(strassen.getMultiplicationCount(), morton.getMultiplicationCount(),
+                "Both should perform 7^3 leaf products of 8^3.");
+    }
+
+    /**
+     * Tests rectangular and non-power-of-2 shapes, which are tiled into cubes with ragged edges.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {17, 9, 33}, {31, 64, 2}, {70, 70, 70} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+
+            Matrix expected = naive.multiply(A, B);
+            for (int leaf : new int[]{ 1, 4, 32 }) {
+                Matrix result = new MortonStrassenMultiplication(leaf).multiply(A, B);
+                assertArrayEquals(expected.getData(), result.getData(), label + " with leaf " + leaf + " should match Naive.");
+            }
+        }
+    }
+
+    /**
+     * Tests that rectangular products are not padded to a cube of their largest dimension.
+     */
+    @Test
+    void testTallSkinnyCount() {
+        Matrix A = new Matrix(2000, 3);
+        Matrix B = new Matrix(3, 2000);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        MortonStrassenMultiplication morton = new MortonStrassenMultiplication(8);
+
+        Matrix result = morton.multiply(A, B);
+        assertArrayEquals(new NaiveMultiplication().multiply(A, B).getRawData(), result.getRawData(),
+                "The outer product should match Naive.");
+        assertEquals(2000L * 3 * 2000, morton.getMultiplicationCount(),
+                "A 3-thin product should take the classical m*k*n multiplications.");
+
+        // 300x40 by 40x260: 7x6 cubes of 40 (leaf 5, 7^3 * 125 each), then the 280x40x20 column edge
+        // and the 20x40x260 row edge, tiled into 14*2 and 2*13 cubes of 20 (leaf 5, 7^2 * 125 each)
+        Matrix C = new Matrix(300, 40);
+        Matrix D = new Matrix(40, 260);
+        MatrixUtils.fillRandom(C, -9, 9);
+        MatrixUtils.fillRandom(D, -9, 9);
+        result = morton.multiply(C, D);
+        assertArrayEquals(new NaiveMultiplication().multiply(C, D).getRawData(), result.getRawData(),
+                "The tiled product should match Naive.");
+        long expected = 7L * 6 * 343 * 125 + (28L + 26) * 49 * 125;
+        assertEquals(expected, morton.getMultiplicationCount());
+        assertEquals(MortonStrassenMultiplication.countMultiplications(300, 40, 260, 8), morton.getMultiplicationCount());
+        assertTrue(morton.getMultiplicationCount() < 300L * 40 * 260,
+                "Strassen on the cubes should beat the classical count.");
+    }
+
+    /**
+     * Tests the product of matrices already in Morton layout.
+     */
+    @Test
+    void testMultiplyMortonMatrices() {
+        Matrix A = new Matrix(12, 20);
+        Matrix B = new Matrix(20, 9);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+
+        MortonMatrix mortonA = MortonMatrix.fromMatrix(A, 20, 4);
+        MortonMatrix mortonB = MortonMatrix.fromMatrix(B, 20, 4);
+        MortonStrassenMultiplication morton = new MortonStrassenMultiplication(4);
+        MortonMatrix result = morton.multiply(mortonA, mortonB);
+
+        assertTrue(result.hasSameLayout(mortonA), "The product should keep the operands' layout.");
+        assertArrayEquals(new NaiveMultiplication().multiply(A, B).getData(), result.toMatrix().getData(),
+                "The Morton product should match Naive.");
+
+        MortonMatrix otherLayout = MortonMatrix.fromMatrix(B, 40, 4);
+        assertThrows(IllegalArgumentException.class, () -> morton.multiply(mortonA, otherLayout));
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(10);
+        Matrix B = new Matrix(10);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        Matrix C = new Matrix(10);
+        MatrixUtils.fillRandom(C, -9, 9);
+        int[] expected = C.getRawData().clone();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 3 * product[i] + 2 * expected[i];
+        }
+
+        new MortonStrassenMultiplication(4).multiply(A, B, C, 3, 2);
+        assertArrayEquals(expected, C.getRawData(), "alpha=3, beta=2 gives a wrong C.");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MortonStrassenMultiplication(0));
+
+        MortonStrassenMultiplication morton = new MortonStrassenMultiplication();
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> morton.multiply(new Matrix(2), new Matrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+        Matrix A = new Matrix(2);
+        assertThrows(IllegalArgumentException.class, () -> morton.multiply(A, A, A, 1, 0));
+    }
+
+    /**
+     * Tests that the analytic count equals the tally of the padded recursion.
+     */
+    @Test
+    void testAnalyticCountMatchesSampled() {
+        Matrix A = new Matrix(37, 20);
+        Matrix B = new Matrix(20, 45);
+        MatrixUtils.fillRandom(A, 1, 9);
+        MatrixUtils.fillRandom(B, 1, 9);
+        MortonStrassenMultiplication morton = new MortonStrassenMultiplication(8);
+        try {
+            morton.multiply(A, B);
+            long sampled = morton.getMultiplicationCount();
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.ANALYTIC);
+            morton.multiply(A, B);
+            assertEquals(sampled, morton.getMultiplicationCount());
+        } finally {
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.SAMPLED);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package edu.jhu.algos.test.algorithms;
 
 import edu.jhu.algos.algorithms.NaiveMultiplication;
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
 import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -104,7 +106,7 @@ public class NaiveMultiplicationTest {
 
         // Expect an exception due to mismatched matrix sizes
         Exception exception = assertThrows(IllegalArgumentException.class, () -> naive.multiply(A, B));
-        assertTrue(exception.getMessage().contains("Matrices must be the same size"));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
     }
 
     @Test
@@ -123,4 +125,86 @@ public class NaiveMultiplicationTest {
         // Ensure execution time is greater than 0 (indicating measurement works)
         assertTrue(naive.getElapsedTimeMs() >= 0, "Elapsed time tracking is incorrect.");
     }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C against the plain product.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        NaiveMultiplication naive = new NaiveMultiplication();
+        naive.multiply(A, B);
+        long plainCount = naive.getMultiplicationCount();
+
+        int[][] scalars = { {1, 0}, {2, 3}, {-1, 1}, {0, 5} };
+        for (int[] s : scalars) {
+            Matrix C = new Matrix(16);
+            MatrixUtils.fillRandom(C, -9, 9);
+            int[] expected = C.getRawData().clone();
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = s[0] * product[i] + s[1] * expected[i];
+            }
+
+            naive.multiply(A, B, C, s[0], s[1]);
+            assertArrayEquals(expected, C.getRawData(), "alpha=" + s[0] + ", beta=" + s[1] + " gives a wrong C.");
+            if (s[0] != 0) {
+                assertEquals(plainCount, naive.getMultiplicationCount(), "Only the product itself should be counted.");
+            }
+        }
+
+        // The output must match in size and must not alias an operand
+        assertThrows(IllegalArgumentException.class, () -> naive.multiply(A, B, new Matrix(8), 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> naive.multiply(A, B, A, 1, 0));
+    }
+
+    /**
+     * Tests an m x k by k x n product of non-power-of-2 shape.
+     */
+    @Test
+    void testRectangularMultiplication() {
+        Matrix A = new Matrix(new int[][]{ {1, 2, 3}, {4, 5, 6} });        // 2x3
+        Matrix B = new Matrix(new int[][]{ {7, 8}, {9, 10}, {11, 12} });   // 3x2
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        Matrix result = naive.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {58, 64}, {139, 154} }, result.getData(), "2x3 times 3x2 is incorrect.");
+        assertEquals(12, naive.getMultiplicationCount(), "Multiplication count should be m * k * n.");
+
+        // 3x2 times 2x3 gives a 3x3 result
+        Matrix outer = naive.multiply(B, A);
+        assertEquals(3, outer.getSize(), "3x2 times 2x3 should be 3x3.");
+        assertEquals(7 * 1 + 8 * 4, outer.get(0, 0), "Entry (0,0) of B x A is incorrect.");
+
+        // Inner dimensions must agree and the output must be m x n
+        assertThrows(IllegalArgumentException.class, () -> naive.multiply(A, A));
+        assertThrows(IllegalArgumentException.class, () -> naive.multiply(A, B, new Matrix(2, 3), 1, 0));
+    }
+
+    /**
+     * Tests that naive multiplication reports m * k * n in both counting modes and nothing when off.
+     */
+    @Test
+    void testCountingModes() {
+        Matrix A = new Matrix(7, 5);
+        Matrix B = new Matrix(5, 3);
+        MatrixUtils.fillRandom(A, 1, 9);
+        MatrixUtils.fillRandom(B, 1, 9);
+        NaiveMultiplication naive = new NaiveMultiplication();
+        try {
+            for (PerformanceMetrics.CountingMode mode : PerformanceMetrics.CountingMode.values()) {
+                PerformanceMetrics.setCountingMode(mode);
+                naive.multiply(A, B);
+                long expected = mode == PerformanceMetrics.CountingMode.OFF ? 0 : 7L * 5 * 3;
+                assertEquals(expected, naive.getMultiplicationCount(), "Unexpected count in " + mode + " mode.");
+            }
+        } finally {
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.SAMPLED);
+        }
+    }
 }
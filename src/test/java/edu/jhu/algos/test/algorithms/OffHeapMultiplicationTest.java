@@ -0,0 +1,150 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.MatrixMultiplier;
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.OffHeapMultiplication;
+import edu.jhu.algos.algorithms.PackedMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.OffHeapMatrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapMultiplication.
+ * Tiled products of off-heap operands must match the heap product for every delegate and tile size.
+ */
+public class OffHeapMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        try (OffHeapMatrix A = OffHeapMatrix.copyOf(new Matrix(new int[][]{ {1, 2}, {3, 4} }));
+             OffHeapMatrix B = OffHeapMatrix.copyOf(new Matrix(new int[][]{ {5, 6}, {7, 8} }));
+             OffHeapMatrix result = new OffHeapMultiplication().multiply(A, B)) {
+            assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.toMatrix().getData(),
+                    "Matrix multiplication result is incorrect.");
+        }
+    }
+
+    /**
+     * Tests odd and rectangular shapes with tiles that do not divide the dimensions.
+     */
+    @Test
+    void testTiledProductsMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {5, 7, 3}, {17, 9, 33}, {40, 40, 40} };
+        int[] tiles = { 1, 7, 16, 100 };
+        MatrixMultiplier[] delegates = { new NaiveMultiplication(), new PackedMultiplication(), new StrassenMultiplication(4) };
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            Matrix expected = naive.multiply(A, B);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+
+            try (OffHeapMatrix offA = OffHeapMatrix.copyOf(A); OffHeapMatrix offB = OffHeapMatrix.copyOf(B)) {
+                for (MatrixMultiplier delegate : delegates) {
+                    for (int tile : tiles) {
+                        OffHeapMultiplication multiplier = new OffHeapMultiplication(delegate, tile);
+                        try (OffHeapMatrix result = multiplier.multiply(offA, offB)) {
+                            assertArrayEquals(expected.getData(), result.toMatrix().getData(),
+                                    label + " with tile " + tile + " should match Naive.");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the count is the sum of the classical tile products.
+     */
+    @Test
+    void testMultiplicationCount() {
+        try (OffHeapMatrix A = new OffHeapMatrix(10, 6); OffHeapMatrix B = new OffHeapMatrix(6, 4)) {
+            MatrixUtils.fillRandom(A, 1, 5);
+            MatrixUtils.fillRandom(B, 1, 5);
+            OffHeapMultiplication multiplier = new OffHeapMultiplication(new NaiveMultiplication(), 4);
+            multiplier.multiply(A, B).close();
+            assertEquals(10 * 6 * 4, multiplier.getMultiplicationCount(), "Tiles should add up to m * k * n.");
+        }
+    }
+
+    /**
+     * Tests that a ragged inner dimension reuses one heap tile per shape instead of reallocating
+     * the full-size tiles on every C tile.
+     */
+    @Test
+    void testRaggedInnerReusesTiles() {
+        try (OffHeapMatrix A = new OffHeapMatrix(64, 48); OffHeapMatrix B = new OffHeapMatrix(48, 64)) {
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            TileRecorder recorder = new TileRecorder();
+
+            try (OffHeapMatrix C = new OffHeapMultiplication(recorder, 32).multiply(A, B)) {
+                assertArrayEquals(new NaiveMultiplication().multiply(A.toMatrix(), B.toMatrix()).getRawData(),
+                        C.toMatrix().getRawData(), "The tiled product should match Naive.");
+            }
+            assertEquals(8, recorder.calls, "2 x 2 C tiles with 2 k-steps each.");
+            assertEquals(2, recorder.aTiles.size(), "A has a 32x32 and a 32x16 tile shape.");
+            assertEquals(2, recorder.bTiles.size(), "B has a 32x32 and a 16x32 tile shape.");
+            assertEquals(1, recorder.cTiles.size(), "All C tiles are 32x32.");
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMultiplication(null, 8));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMultiplication(new NaiveMultiplication(), 0));
+
+        OffHeapMultiplication multiplier = new OffHeapMultiplication();
+        try (OffHeapMatrix A = new OffHeapMatrix(2, 3); OffHeapMatrix B = new OffHeapMatrix(2, 3)) {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(A, B));
+            assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+            assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(A, B, A));
+        }
+    }
+
+    /**
+     * Delegate that multiplies naively and records which heap tile objects it was given.
+     */
+    static final class TileRecorder implements MatrixMultiplier {
+        final Set<Matrix> aTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Matrix> bTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Matrix> cTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+        int calls;
+        private final NaiveMultiplication naive = new NaiveMultiplication();
+
+        @Override
+        public Matrix multiply(Matrix A, Matrix B) {
+            return naive.multiply(A, B);
+        }
+
+        @Override
+        public void multiply(Matrix A, Matrix B, Matrix C, int alpha, int beta) {
+            calls++;
+            aTiles.add(A);
+            bTiles.add(B);
+            cTiles.add(C);
+            naive.multiply(A, B, C, alpha, beta);
+        }
+
+        @Override
+        public long getMultiplicationCount() {
+            return naive.getMultiplicationCount();
+        }
+
+        @Override
+        public long getElapsedTimeMs() {
+            return naive.getElapsedTimeMs();
+        }
+    }
+}
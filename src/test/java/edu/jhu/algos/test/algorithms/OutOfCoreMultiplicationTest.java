@@ -0,0 +1,151 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.OutOfCoreMultiplication;
+import edu.jhu.algos.algorithms.PackedMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.io.TiledMatrixFile;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutOfCoreMultiplication.
+ * Products streamed through tile files must match NaiveMultiplication and leave no files behind.
+ */
+public class OutOfCoreMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication(@TempDir Path tempDir) {
+        Matrix A = new Matrix(new int[][]{ {1, 2}, {3, 4} });
+        Matrix B = new Matrix(new int[][]{ {5, 6}, {7, 8} });
+        OutOfCoreMultiplication outOfCore = new OutOfCoreMultiplication(new NaiveMultiplication(), 1, tempDir);
+
+        Matrix result = outOfCore.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.getData(), "Matrix multiplication result is incorrect.");
+        assertEquals(8, outOfCore.getMultiplicationCount(), "1x1 tiles should count n^3 multiplications.");
+    }
+
+    /**
+     * Tests odd and rectangular shapes with tiles that do not divide the dimensions.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive(@TempDir Path tempDir) throws IOException {
+        int[][] shapes = { {1, 1, 1}, {5, 7, 3}, {17, 9, 33}, {40, 40, 40} };
+        int[] tiles = { 3, 16, 64 };
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            Matrix expected = naive.multiply(A, B);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+
+            for (int tile : tiles) {
+                OutOfCoreMultiplication outOfCore = new OutOfCoreMultiplication(new StrassenMultiplication(4), tile, tempDir);
+                assertArrayEquals(expected.getData(), outOfCore.multiply(A, B).getData(),
+                        label + " with tile " + tile + " should match Naive.");
+            }
+        }
+
+        try (Stream<Path> leftovers = Files.list(tempDir)) {
+            assertEquals(0, leftovers.count(), "Temporary tile files should be deleted.");
+        }
+    }
+
+    /**
+     * Tests the file-level product, which never loads a whole operand.
+     */
+    @Test
+    void testMultiplyTiledFiles(@TempDir Path tempDir) throws IOException {
+        Matrix A = new Matrix(12, 10);
+        Matrix B = new Matrix(10, 6);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+
+        OutOfCoreMultiplication outOfCore = new OutOfCoreMultiplication(new PackedMultiplication(), 4);
+        try (TiledMatrixFile a = TiledMatrixFile.write(tempDir.resolve("A.tiles"), A, 4);
+             TiledMatrixFile b = TiledMatrixFile.write(tempDir.resolve("B.tiles"), B, 4);
+             TiledMatrixFile c = TiledMatrixFile.create(tempDir.resolve("C.tiles"), 12, 6, 4)) {
+            outOfCore.multiply(a, b, c);
+            assertArrayEquals(new NaiveMultiplication().multiply(A, B).getData(), c.toMatrix().getData(),
+                    "The tiled product should match Naive.");
+            assertEquals(12 * 10 * 6, outOfCore.getMultiplicationCount(), "Packed tiles should add up to m * k * n.");
+
+            try (TiledMatrixFile otherTiles = TiledMatrixFile.write(tempDir.resolve("B5.tiles"), B, 5)) {
+                assertThrows(IllegalArgumentException.class, () -> outOfCore.multiply(a, otherTiles, c));
+            }
+        }
+    }
+
+    /**
+     * Tests that a ragged inner dimension, which alternates full and edge tiles of A and B along k,
+     * reuses one heap tile per shape instead of reallocating on every switch.
+     */
+    @Test
+    void testRaggedInnerReusesTiles(@TempDir Path tempDir) throws IOException {
+        Matrix A = new Matrix(64, 48);
+        Matrix B = new Matrix(48, 64);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        OffHeapMultiplicationTest.TileRecorder recorder = new OffHeapMultiplicationTest.TileRecorder();
+
+        try (TiledMatrixFile a = TiledMatrixFile.write(tempDir.resolve("A.tiles"), A, 32);
+             TiledMatrixFile b = TiledMatrixFile.write(tempDir.resolve("B.tiles"), B, 32);
+             TiledMatrixFile c = TiledMatrixFile.create(tempDir.resolve("C.tiles"), 64, 64, 32)) {
+            new OutOfCoreMultiplication(recorder, 32).multiply(a, b, c);
+            assertArrayEquals(new NaiveMultiplication().multiply(A, B).getRawData(), c.toMatrix().getRawData(),
+                    "The tiled product should match Naive.");
+        }
+        assertEquals(8, recorder.calls, "2 x 2 C tiles with 2 k-steps each.");
+        assertEquals(2, recorder.aTiles.size(), "A has a 32x32 and a 32x16 tile shape.");
+        assertEquals(2, recorder.bTiles.size(), "B has a 32x32 and a 16x32 tile shape.");
+        assertEquals(1, recorder.cTiles.size(), "All C tiles are 32x32.");
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta(@TempDir Path tempDir) {
+        Matrix A = new Matrix(9);
+        Matrix B = new Matrix(9);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        Matrix C = new Matrix(9);
+        MatrixUtils.fillRandom(C, -9, 9);
+        int[] expected = C.getRawData().clone();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 2 * product[i] - expected[i];
+        }
+
+        new OutOfCoreMultiplication(new NaiveMultiplication(), 4, tempDir).multiply(A, B, C, 2, -1);
+        assertArrayEquals(expected, C.getRawData(), "alpha=2, beta=-1 gives a wrong C.");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OutOfCoreMultiplication(null, 8));
+        assertThrows(IllegalArgumentException.class, () -> new OutOfCoreMultiplication(new NaiveMultiplication(), 0));
+
+        OutOfCoreMultiplication outOfCore = new OutOfCoreMultiplication();
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> outOfCore.multiply(new Matrix(2), new Matrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+        Matrix A = new Matrix(2);
+        assertThrows(IllegalArgumentException.class, () -> outOfCore.multiply(A, A, A, 1, 0));
+    }
+}
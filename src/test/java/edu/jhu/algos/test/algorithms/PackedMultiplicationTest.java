@@ -0,0 +1,136 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.PackedMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PackedMultiplication.
+ * Ensures the packed micro-kernel matches NaiveMultiplication, including edge tiles.
+ */
+public class PackedMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        // 2x2 is smaller than one 4x4 register block, so it is entirely an edge tile
+        Matrix A = new Matrix(new int[][]{ {1, 2}, {3, 4} });
+        Matrix B = new Matrix(new int[][]{ {5, 6}, {7, 8} });
+        PackedMultiplication packed = new PackedMultiplication();
+
+        Matrix result = packed.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.getData(), "Matrix multiplication result is incorrect.");
+        assertEquals(8, packed.getMultiplicationCount(), "Multiplication count should be n^3.");
+    }
+
+    @Test
+    void testMatchesNaiveAcrossSizes() {
+        NaiveMultiplication naive = new NaiveMultiplication();
+        PackedMultiplication packed = new PackedMultiplication();
+
+        // 512 spans more than one KC panel and more than one MC block
+        for (int n : new int[]{1, 4, 8, 64, 512}) {
+            Matrix A = new Matrix(n);
+            Matrix B = new Matrix(n);
+            MatrixUtils.fillRandom(A, -50, 50);
+            MatrixUtils.fillRandom(B, -50, 50);
+
+            Matrix expected = naive.multiply(A, B);
+            Matrix result = packed.multiply(A, B);
+
+            assertArrayEquals(expected.getData(), result.getData(), "Packed result should match Naive for n = " + n);
+            assertEquals((long) n * n * n, packed.getMultiplicationCount(), "Count should be n^3 for n = " + n);
+        }
+    }
+
+    @Test
+    void testMultiplyIntoQuadrant() {
+        Matrix A = new Matrix(8);
+        Matrix B = new Matrix(8);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+
+        // Multiply the top-left quadrants and write into the bottom-right quadrant of C
+        Matrix C = new Matrix(8);
+        MatrixUtils.fillRandom(C, 1, 1); // Stale values must be overwritten
+        MatrixView dest = C.view().quadrant(3);
+        PackedMultiplication.multiplyInto(A.view().quadrant(0), B.view().quadrant(0), dest);
+
+        Matrix expected = new NaiveMultiplication().multiply(A.view().quadrant(0).toMatrix(),
+                B.view().quadrant(0).toMatrix());
+        assertArrayEquals(expected.getData(), dest.toMatrix().getData(), "Quadrant product is incorrect.");
+        assertEquals(1, C.get(0, 0), "Other quadrants should be untouched.");
+    }
+
+    @Test
+    void testInvalidMatrixMultiplication() {
+        PackedMultiplication packed = new PackedMultiplication();
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> packed.multiply(new Matrix(2), new Matrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C against the plain product.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        PackedMultiplication packed = new PackedMultiplication();
+        packed.multiply(A, B);
+        long plainCount = packed.getMultiplicationCount();
+
+        int[][] scalars = { {1, 0}, {2, 3}, {-1, 1}, {0, 5} };
+        for (int[] s : scalars) {
+            Matrix C = new Matrix(16);
+            MatrixUtils.fillRandom(C, -9, 9);
+            int[] expected = C.getRawData().clone();
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = s[0] * product[i] + s[1] * expected[i];
+            }
+
+            packed.multiply(A, B, C, s[0], s[1]);
+            assertArrayEquals(expected, C.getRawData(), "alpha=" + s[0] + ", beta=" + s[1] + " gives a wrong C.");
+            if (s[0] != 0) {
+                assertEquals(plainCount, packed.getMultiplicationCount(), "Only the product itself should be counted.");
+            }
+        }
+
+        // The output must match in size and must not alias an operand
+        assertThrows(IllegalArgumentException.class, () -> packed.multiply(A, B, new Matrix(8), 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> packed.multiply(A, B, A, 1, 0));
+    }
+
+    /**
+     * Tests rectangular and non-power-of-2 shapes against NaiveMultiplication.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {17, 9, 33}, {31, 64, 2}, {40, 40, 40} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+        PackedMultiplication packed = new PackedMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+
+            Matrix expected = naive.multiply(A, B);
+            Matrix result = packed.multiply(A, B);
+            assertArrayEquals(expected.getData(), result.getData(), label + " should match Naive multiplication.");
+            assertEquals(naive.getMultiplicationCount(), packed.getMultiplicationCount(),
+                    label + " should count m * k * n multiplications.");
+        }
+    }
+}
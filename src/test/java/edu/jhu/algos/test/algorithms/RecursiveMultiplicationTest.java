@@ -0,0 +1,97 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.RecursiveMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecursiveMultiplication.
+ * Ensures results and multiplication counts match NaiveMultiplication for every base-case size and shape.
+ */
+public class RecursiveMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        Matrix A = new Matrix(new int[][]{ {1, 2}, {3, 4} });
+        Matrix B = new Matrix(new int[][]{ {5, 6}, {7, 8} });
+        RecursiveMultiplication recursive = new RecursiveMultiplication(1);
+
+        Matrix result = recursive.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.getData(), "Matrix multiplication result is incorrect.");
+        assertEquals(8, recursive.getMultiplicationCount(), "Multiplication count should be n^3.");
+    }
+
+    /**
+     * Tests square, odd and rectangular shapes with base cases that do and do not divide them.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {17, 9, 33}, {31, 64, 2}, {64, 64, 64}, {70, 70, 70} };
+        int[] baseSizes = { 1, 5, 16, RecursiveMultiplication.DEFAULT_BASE_SIZE, 100 };
+        NaiveMultiplication naive = new NaiveMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+            Matrix expected = naive.multiply(A, B);
+
+            for (int baseSize : baseSizes) {
+                RecursiveMultiplication recursive = new RecursiveMultiplication(baseSize);
+                Matrix result = recursive.multiply(A, B);
+                assertArrayEquals(expected.getData(), result.getData(),
+                        label + " with base size " + baseSize + " should match Naive multiplication.");
+                assertEquals(naive.getMultiplicationCount(), recursive.getMultiplicationCount(),
+                        label + " should count m * k * n multiplications.");
+            }
+        }
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C against the plain product.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(40, 24);
+        Matrix B = new Matrix(24, 36);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        RecursiveMultiplication recursive = new RecursiveMultiplication(8);
+        int[][] scalars = { {1, 0}, {2, 3}, {-1, 1}, {0, 5} };
+        for (int[] s : scalars) {
+            Matrix C = new Matrix(40, 36);
+            MatrixUtils.fillRandom(C, -9, 9);
+            int[] expected = C.getRawData().clone();
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = s[0] * product[i] + s[1] * expected[i];
+            }
+
+            recursive.multiply(A, B, C, s[0], s[1]);
+            assertArrayEquals(expected, C.getRawData(), "alpha=" + s[0] + ", beta=" + s[1] + " gives a wrong C.");
+        }
+
+        // The output must match in size and must not alias an operand
+        assertThrows(IllegalArgumentException.class, () -> recursive.multiply(A, B, new Matrix(8), 1, 0));
+        Matrix square = new Matrix(4);
+        assertThrows(IllegalArgumentException.class, () -> recursive.multiply(square, square, square, 1, 0));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RecursiveMultiplication(0));
+
+        RecursiveMultiplication recursive = new RecursiveMultiplication();
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> recursive.multiply(new Matrix(2), new Matrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+    }
+}
@@ -3,8 +3,14 @@ package edu.jhu.algos.test.algorithms;
 import edu.jhu.algos.algorithms.StrassenMultiplication;
 import edu.jhu.algos.algorithms.NaiveMultiplication;
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
 import edu.jhu.algos.utils.MatrixValidator;
+import edu.jhu.algos.utils.PerformanceMetrics;
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -105,7 +111,7 @@ public class StrassenMultiplicationTest {
 
         // Expect an exception due to mismatched matrix sizes
         Exception exception = assertThrows(IllegalArgumentException.class, () -> strassen.multiply(A, B));
-        assertTrue(exception.getMessage().contains("Matrices must be the same size"));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
     }
 
     @Test
@@ -157,4 +163,304 @@ public class StrassenMultiplicationTest {
         // Strassen should perform fewer multiplications than naive
         assertTrue(strassen.getMultiplicationCount() < naive.getMultiplicationCount(), "Strassen should use fewer multiplications than Naive.");
     }
+
+    @Test
+    void testCutoffMatchesNaive() {
+        // 16x16 random matrices, compared across several cutoffs
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+
+        Matrix expected = new NaiveMultiplication().multiply(A, B);
+
+        for (int cutoff : new int[]{1, 2, 4, 8, 16, 32}) {
+            StrassenMultiplication strassen = new StrassenMultiplication(cutoff);
+            Matrix result = strassen.multiply(A, B);
+            assertArrayEquals(expected.getData(), result.getData(),
+                    "Strassen with cutoff " + cutoff + " should match Naive multiplication.");
+        }
+    }
+
+    @Test
+    void testWorkspaceScheduleIsReusable() {
+        // Repeated products on one instance must not leak state through the reused buffers
+        Matrix A = new Matrix(32);
+        Matrix B = new Matrix(32);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        Matrix expected = new NaiveMultiplication().multiply(A, B);
+
+        StrassenMultiplication strassen = new StrassenMultiplication(4);
+        for (int run = 0; run < 3; run++) {
+            assertArrayEquals(expected.getRawData(), strassen.multiply(A, B).getRawData(),
+                    "Run " + run + " should match Naive multiplication.");
+        }
+        assertArrayEquals(new NaiveMultiplication().multiply(B, A).getRawData(), strassen.multiply(B, A).getRawData(),
+                "Swapped operands should match Naive multiplication.");
+    }
+
+    @Test
+    void testCutoffMultiplicationCount() {
+        Matrix A = new Matrix(8);
+        Matrix B = new Matrix(8);
+        MatrixUtils.fillRandom(A, 1, 5);
+        MatrixUtils.fillRandom(B, 1, 5);
+
+        // Cutoff 8 => a single 8x8 base case: 8^3 products
+        StrassenMultiplication direct = new StrassenMultiplication(8);
+        direct.multiply(A, B);
+        assertEquals(512, direct.getMultiplicationCount(), "Cutoff at n should count n^3 multiplications.");
+
+        // Cutoff 2 => 7^2 base cases of size 2: 49 * 8 products
+        StrassenMultiplication twoLevels = new StrassenMultiplication(2);
+        twoLevels.multiply(A, B);
+        assertEquals(392, twoLevels.getMultiplicationCount(), "Two recursion levels should count 49 * 2^3.");
+
+        // Default cutoff keeps the classic 7^3 count
+        StrassenMultiplication classic = new StrassenMultiplication();
+        classic.multiply(A, B);
+        assertEquals(StrassenMultiplication.DEFAULT_CUTOFF, classic.getCutoff());
+        assertEquals(343, classic.getMultiplicationCount(), "Classic Strassen on 8x8 should count 7^3.");
+    }
+
+    @Test
+    void testInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new StrassenMultiplication(0));
+        StrassenMultiplication strassen = new StrassenMultiplication();
+        assertThrows(IllegalArgumentException.class, () -> strassen.setCutoff(-4));
+    }
+
+    /**
+     * Tests that forking the sub-products gives the same product and count as the sequential run.
+     */
+    @Test
+    void testParallelMatchesSequential() {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+
+        StrassenMultiplication sequential = new StrassenMultiplication(2);
+        Matrix expected = sequential.multiply(A, B);
+
+        for (int depth = 1; depth <= 3; depth++) {
+            StrassenMultiplication parallel = new StrassenMultiplication(2, depth);
+            Matrix actual = parallel.multiply(A, B);
+            assertArrayEquals(expected.getRawData(), actual.getRawData(), "Parallel depth " + depth + " should match.");
+            assertEquals(sequential.getMultiplicationCount(), parallel.getMultiplicationCount(),
+                    "Parallel depth " + depth + " should count the same multiplications.");
+        }
+    }
+
+    /**
+     * Tests that a parallel depth deeper than the recursion and a custom pool are handled.
+     */
+    @Test
+    void testParallelDepthBeyondRecursion() {
+        Matrix A = new Matrix(new int[][]{{1, 2}, {3, 4}});
+        Matrix B = new Matrix(new int[][]{{5, 6}, {7, 8}});
+        StrassenMultiplication strassen = new StrassenMultiplication(1, 5);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            strassen.setPool(pool);
+            assertArrayEquals(new int[]{19, 22, 43, 50}, strassen.multiply(A, B).getRawData());
+            assertEquals(7, strassen.getMultiplicationCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that invalid parallel settings are rejected.
+     */
+    @Test
+    void testInvalidParallelSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new StrassenMultiplication(1, -1));
+        StrassenMultiplication strassen = new StrassenMultiplication();
+        assertThrows(IllegalArgumentException.class, () -> strassen.setParallelDepth(-2));
+        assertThrows(IllegalArgumentException.class, () -> strassen.setPool(null));
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C against the plain product.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        StrassenMultiplication strassen = new StrassenMultiplication(2);
+        strassen.multiply(A, B);
+        long plainCount = strassen.getMultiplicationCount();
+
+        int[][] scalars = { {1, 0}, {2, 3}, {-1, 1}, {0, 5} };
+        for (int[] s : scalars) {
+            Matrix C = new Matrix(16);
+            MatrixUtils.fillRandom(C, -9, 9);
+            int[] expected = C.getRawData().clone();
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = s[0] * product[i] + s[1] * expected[i];
+            }
+
+            strassen.multiply(A, B, C, s[0], s[1]);
+            assertArrayEquals(expected, C.getRawData(), "alpha=" + s[0] + ", beta=" + s[1] + " gives a wrong C.");
+            if (s[0] != 0) {
+                assertEquals(plainCount, strassen.getMultiplicationCount(), "Only the product itself should be counted.");
+            }
+        }
+
+        // The output must match in size and must not alias an operand
+        assertThrows(IllegalArgumentException.class, () -> strassen.multiply(A, B, new Matrix(8), 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> strassen.multiply(A, B, A, 1, 0));
+    }
+
+    @Test
+    void testParallelMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(8);
+        Matrix B = new Matrix(8);
+        Matrix C = new Matrix(8);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        MatrixUtils.fillRandom(C, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+        int[] expected = C.getRawData().clone();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 3 * product[i] - expected[i];
+        }
+
+        new StrassenMultiplication(1, 2).multiply(A, B, C, 3, -1);
+
+        assertArrayEquals(expected, C.getRawData(), "Parallel GEMM should match the sequential definition.");
+    }
+
+    /**
+     * Tests odd and rectangular shapes, which are handled by peeling the odd edges at each level.
+     * Every cutoff and parallel depth must match NaiveMultiplication.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {17, 9, 33}, {31, 64, 2}, {63, 65, 64} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+        StrassenMultiplication strassen = new StrassenMultiplication();
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            Matrix expected = naive.multiply(A, B);
+
+            for (int cutoff : new int[]{ 1, 4 }) {
+                for (int depth : new int[]{ 0, 2 }) {
+                    strassen.setCutoff(cutoff);
+                    strassen.setParallelDepth(depth);
+                    Matrix result = strassen.multiply(A, B);
+                    assertArrayEquals(expected.getData(), result.getData(), shape[0] + "x" + shape[1] + " times "
+                            + shape[1] + "x" + shape[2] + " (cutoff " + cutoff + ", depth " + depth
+                            + ") should match Naive multiplication.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that odd sizes still save multiplications, and that thin products fall back to the base case.
+     */
+    @Test
+    void testOddSizeMultiplicationCount() {
+        Matrix A = new Matrix(63);
+        Matrix B = new Matrix(63);
+        MatrixUtils.fillRandom(A, 1, 9);
+        MatrixUtils.fillRandom(B, 1, 9);
+
+        StrassenMultiplication strassen = new StrassenMultiplication();
+        strassen.multiply(A, B);
+        assertTrue(strassen.getMultiplicationCount() < 63L * 63 * 63,
+                "Peeling should keep Strassen below n^3 for odd n.");
+
+        // The smallest dimension (2) is at the cutoff, so the whole product is one base case
+        Matrix thin = new Matrix(40, 2);
+        Matrix wide = new Matrix(2, 40);
+        MatrixUtils.fillRandom(thin, 1, 9);
+        MatrixUtils.fillRandom(wide, 1, 9);
+        strassen.setCutoff(2);
+        strassen.multiply(thin, wide);
+        assertEquals(40L * 2 * 40, strassen.getMultiplicationCount(), "Thin products should use the base case.");
+    }
+
+    /**
+     * Tests that phase timing is off by default, and that when enabled every phase is measured
+     * and the phases add up to no more than the total time.
+     */
+    @Test
+    void testPhaseTiming() {
+        Matrix A = new Matrix(65);
+        Matrix B = new Matrix(65);
+        MatrixUtils.fillRandom(A, 1, 9);
+        MatrixUtils.fillRandom(B, 1, 9);
+
+        StrassenMultiplication strassen = new StrassenMultiplication(8);
+        assertFalse(strassen.isPhaseTiming(), "Phase timing should be off by default.");
+        strassen.multiply(A, B);
+        for (PerformanceMetrics.Phase phase : PerformanceMetrics.Phase.values()) {
+            assertEquals(0, strassen.getPhaseTimeNs(phase), "No phase should be timed by default.");
+        }
+
+        strassen.setPhaseTiming(true);
+        Matrix product = strassen.multiply(A, B);
+        assertTrue(MatrixUtils.compareMatrices(new NaiveMultiplication().multiply(A, B), product));
+
+        long phaseTotal = 0;
+        for (PerformanceMetrics.Phase phase : PerformanceMetrics.Phase.values()) {
+            long ns = strassen.getPhaseTimeNs(phase);
+            assertTrue(ns > 0, phase + " should be measured for an odd size above the cutoff.");
+            phaseTotal += ns;
+        }
+        assertTrue(phaseTotal <= strassen.getElapsedTimeNs(), "Phases should not exceed the total time.");
+    }
+
+    /**
+     * Tests that the closed-form count matches what the recursion tallies, for odd, rectangular
+     * and parallel runs, and that OFF mode counts nothing.
+     */
+    @Test
+    void testCountingModes() {
+        int[][] shapes = { {1, 1, 1}, {5, 7, 3}, {17, 9, 33}, {63, 65, 64}, {64, 64, 64} };
+        int[] cutoffs = {1, 2, 8};
+        try {
+            for (int[] shape : shapes) {
+                Matrix A = new Matrix(shape[0], shape[1]);
+                Matrix B = new Matrix(shape[1], shape[2]);
+                MatrixUtils.fillRandom(A, 1, 9);
+                MatrixUtils.fillRandom(B, 1, 9);
+                for (int cutoff : cutoffs) {
+                    for (int depth = 0; depth <= 1; depth++) {
+                        StrassenMultiplication strassen = new StrassenMultiplication(cutoff, depth);
+
+                        PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.SAMPLED);
+                        strassen.multiply(A, B);
+                        long sampled = strassen.getMultiplicationCount();
+                        assertEquals(sampled,
+                                StrassenMultiplication.countMultiplications(shape[0], shape[1], shape[2], cutoff),
+                                "Closed form should match the tally for shape " + Arrays.toString(shape)
+                                        + ", cutoff " + cutoff);
+
+                        PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.ANALYTIC);
+                        strassen.multiply(A, B);
+                        assertEquals(sampled, strassen.getMultiplicationCount(), "Analytic count should be exact.");
+
+                        PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.OFF);
+                        strassen.multiply(A, B);
+                        assertEquals(0, strassen.getMultiplicationCount(), "Nothing should be counted when off.");
+                    }
+                }
+            }
+        } finally {
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.SAMPLED);
+        }
+    }
 }
@@ -0,0 +1,163 @@
+package edu.jhu.algos.test.algorithms;
+
+import edu.jhu.algos.algorithms.NaiveMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.algorithms.WinogradStrassenMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import edu.jhu.algos.utils.ResourceUsage;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for WinogradStrassenMultiplication.
+ * Ensures results match NaiveMultiplication and counts match StrassenMultiplication.
+ */
+public class WinogradStrassenMultiplicationTest {
+
+    @Test
+    void testSmallMatrixMultiplication() {
+        Matrix A = new Matrix(new int[][]{ {1, 2}, {3, 4} });
+        Matrix B = new Matrix(new int[][]{ {5, 6}, {7, 8} });
+        WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication();
+
+        Matrix result = winograd.multiply(A, B);
+
+        assertArrayEquals(new int[][]{ {19, 22}, {43, 50} }, result.getData(), "Matrix multiplication result is incorrect.");
+        assertEquals(7, winograd.getMultiplicationCount(), "One level should perform 7 multiplications.");
+    }
+
+    @Test
+    void testMatchesNaiveAndStrassenForVariousCutoffs() {
+        Matrix A = new Matrix(32);
+        Matrix B = new Matrix(32);
+        MatrixUtils.fillRandom(A, -20, 20);
+        MatrixUtils.fillRandom(B, -20, 20);
+
+        Matrix expected = new NaiveMultiplication().multiply(A, B);
+
+        for (int cutoff : new int[]{ 1, 2, 4, 16, 32 }) {
+            WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication(cutoff);
+            StrassenMultiplication strassen = new StrassenMultiplication(cutoff);
+            strassen.multiply(A, B);
+
+            Matrix result = winograd.multiply(A, B);
+            assertArrayEquals(expected.getData(), result.getData(),
+                    "Cutoff " + cutoff + " should match Naive multiplication.");
+            assertEquals(strassen.getMultiplicationCount(), winograd.getMultiplicationCount(),
+                    "Cutoff " + cutoff + " should count the same multiplications as Strassen.");
+        }
+    }
+
+    @Test
+    void testZeroMatrixShortcut() {
+        Matrix A = new Matrix(4);
+        Matrix B = new Matrix(4);
+        MatrixUtils.fillRandom(B, 1, 5);
+        WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication();
+
+        Matrix result = winograd.multiply(A, B);
+
+        assertArrayEquals(new int[16], result.getRawData(), "A zero operand should give a zero product.");
+        assertEquals(0, winograd.getMultiplicationCount(), "No multiplications should be counted.");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new WinogradStrassenMultiplication(0));
+
+        WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication();
+        assertThrows(IllegalArgumentException.class, () -> winograd.setCutoff(-1));
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> winograd.multiply(new Matrix(2), new Matrix(4)));
+        assertTrue(exception.getMessage().contains("Matrix dimensions are incompatible"));
+    }
+
+    /**
+     * Tests the GEMM-style overload C = alpha * (A x B) + beta * C against the plain product.
+     */
+    @Test
+    void testMultiplyIntoWithAlphaBeta() {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        int[] product = new NaiveMultiplication().multiply(A, B).getRawData();
+
+        WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication(2);
+        winograd.multiply(A, B);
+        long plainCount = winograd.getMultiplicationCount();
+
+        int[][] scalars = { {1, 0}, {2, 3}, {-1, 1}, {0, 5} };
+        for (int[] s : scalars) {
+            Matrix C = new Matrix(16);
+            MatrixUtils.fillRandom(C, -9, 9);
+            int[] expected = C.getRawData().clone();
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = s[0] * product[i] + s[1] * expected[i];
+            }
+
+            winograd.multiply(A, B, C, s[0], s[1]);
+            assertArrayEquals(expected, C.getRawData(), "alpha=" + s[0] + ", beta=" + s[1] + " gives a wrong C.");
+            if (s[0] != 0) {
+                assertEquals(plainCount, winograd.getMultiplicationCount(), "Only the product itself should be counted.");
+            }
+        }
+
+        // The output must match in size and must not alias an operand
+        assertThrows(IllegalArgumentException.class, () -> winograd.multiply(A, B, new Matrix(8), 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> winograd.multiply(A, B, A, 1, 0));
+    }
+
+    /**
+     * Tests odd and rectangular shapes, which share Strassen's edge peeling.
+     */
+    @Test
+    void testRectangularAndOddSizesMatchNaive() {
+        int[][] shapes = { {1, 1, 1}, {3, 3, 3}, {5, 7, 3}, {17, 9, 33}, {31, 64, 2}, {63, 65, 64} };
+        NaiveMultiplication naive = new NaiveMultiplication();
+        StrassenMultiplication strassen = new StrassenMultiplication(4);
+        WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication(4);
+
+        for (int[] shape : shapes) {
+            Matrix A = new Matrix(shape[0], shape[1]);
+            Matrix B = new Matrix(shape[1], shape[2]);
+            MatrixUtils.fillRandom(A, -9, 9);
+            MatrixUtils.fillRandom(B, -9, 9);
+            String label = shape[0] + "x" + shape[1] + " times " + shape[1] + "x" + shape[2];
+
+            Matrix result = winograd.multiply(A, B);
+            assertArrayEquals(naive.multiply(A, B).getData(), result.getData(), label + " should match Naive.");
+            strassen.multiply(A, B);
+            assertEquals(strassen.getMultiplicationCount(), winograd.getMultiplicationCount(),
+                    label + " should count the same multiplications as Strassen.");
+        }
+    }
+
+    /**
+     * Tests that repeated calls reuse the workspace and product buffer instead of allocating temporaries.
+     */
+    @Test
+    void testRepeatedCallsReuseWorkspace() {
+        assumeTrue(ResourceUsage.isAllocationTracked(), "Allocation tracking is not supported on this JVM.");
+        Matrix A = new Matrix(512);
+        Matrix B = new Matrix(512);
+        Matrix C = new Matrix(512);
+        MatrixUtils.fillRandom(A, -9, 9);
+        MatrixUtils.fillRandom(B, -9, 9);
+        WinogradStrassenMultiplication winograd = new WinogradStrassenMultiplication(32);
+
+        winograd.multiply(A, B, C, 2, 1);  // Grows the workspace and the product buffer
+        // All threads are measured, so keep the quietest of a few calls
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            winograd.multiply(A, B, C, 2, 1);
+            allocated = Math.min(allocated, winograd.getResourceUsage().getAllocatedBytes());
+        }
+
+        // Only views remain: far less than one 512x512 int matrix (1 MiB)
+        assertTrue(allocated < 512L * 512 * Integer.BYTES / 2,
+                "A repeated call should not allocate temporaries, but allocated " + allocated + " bytes.");
+    }
+}
@@ -1,12 +1,18 @@
 package edu.jhu.algos.test.compare;
 
+import edu.jhu.algos.algorithms.OutOfCoreMultiplication;
+import edu.jhu.algos.algorithms.RecursiveMultiplication;
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.algorithms.WinogradStrassenMultiplication;
 import edu.jhu.algos.compare.ComparisonDriver;
 import edu.jhu.algos.compare.PerformanceRecord;
 import edu.jhu.algos.models.Matrix;
 import edu.jhu.algos.utils.MatrixUtils;
-import edu.jhu.algos.utils.DebugConfig; // Import DebugConfig
+import edu.jhu.algos.utils.Tracer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,13 +58,14 @@ public class ComparisonDriverTest {
             assertTrue(n > 0, "Matrix size should be greater than 0.");
 
             // **Debugging: Log multiplication counts**
-            DebugConfig.log(String.format("\nChecking Matrix Size: %d", n));
-            DebugConfig.log(String.format("Naive Multiplications: %d", record.getNaiveMultiplications()));
-            DebugConfig.log(String.format("Strassen Multiplications: %d", record.getStrassenMultiplications()));
+            Tracer.debug(() -> String.format("\nChecking Matrix Size: %d", n));
+            Tracer.debug(() -> String.format("Naive Multiplications: %d", record.getNaiveMultiplications()));
+            Tracer.debug(() -> String.format("Strassen Multiplications: %d", record.getStrassenMultiplications()));
 
             // Ensure Naive & Strassen execution times are valid
             assertTrue(record.getNaiveTimeMs() >= 0, "Naive time should be non-negative.");
             assertTrue(record.getStrassenTimeMs() >= 0, "Strassen time should be non-negative.");
+            assertTrue(record.hasResourceUsage(), "Allocation and GC should be recorded for every pair.");
 
             // Ensure Multiplication Counts are Properly Measured
             assertTrue(record.getNaiveMultiplications() > 0,
@@ -71,10 +78,10 @@ public class ComparisonDriverTest {
             double strassenExpected = Math.pow(n, Math.log(7) / Math.log(2));
 
             // **Debugging: Log expected vs. actual counts**
-            DebugConfig.log(String.format("Expected O(n^3) Multiplications: %.2f", naiveExpected));
-            DebugConfig.log(String.format("Actual Naive Multiplications: %d", record.getNaiveMultiplications()));
-            DebugConfig.log(String.format("Expected Strassen Multiplications: %.2f", strassenExpected));
-            DebugConfig.log(String.format("Actual Strassen Multiplications: %d", record.getStrassenMultiplications()));
+            Tracer.debug(() -> String.format("Expected O(n^3) Multiplications: %.2f", naiveExpected));
+            Tracer.debug(() -> String.format("Actual Naive Multiplications: %d", record.getNaiveMultiplications()));
+            Tracer.debug(() -> String.format("Expected Strassen Multiplications: %.2f", strassenExpected));
+            Tracer.debug(() -> String.format("Actual Strassen Multiplications: %d", record.getStrassenMultiplications()));
 
             // Use Wider Tolerance for Theoretical Complexity (±20%)
             assertTrue(record.getNaiveMultiplications() >= naiveExpected * 0.8 &&
@@ -93,6 +100,58 @@ public class ComparisonDriverTest {
         }
 
         // **Final Debug Print**
-        DebugConfig.log("ComparisonDriverTest Completed Successfully.");
+        Tracer.debug(() -> "ComparisonDriverTest Completed Successfully.");
+    }
+
+    /**
+     * Tests that a different fast multiplier can be selected and is labelled in the output.
+     */
+    @Test
+    public void testRunComparisonWithWinograd(@TempDir Path tempDir) {
+        String outputFile = tempDir.resolve("winograd_output.txt").toString();
+        ComparisonDriver.ComparisonResult result = ComparisonDriver.runComparison(TEST_FILE, outputFile,
+                new WinogradStrassenMultiplication(), "Winograd");
+
+        assertTrue(result.detailedOutput.contains("Winograd Multiplication Result:"),
+                "Output should be labelled with the selected method.");
+        assertTrue(result.detailedOutput.contains("Naive vs. Winograd same? true"),
+                "Winograd results should match Naive.");
+        assertFalse(result.detailedOutput.contains("Naive vs. Winograd same? false"),
+                "Every Winograd result should match Naive.");
+        assertFalse(result.records.isEmpty(), "Performance records should not be empty.");
+    }
+
+    /**
+     * Tests that the out-of-core multiplier plugs into the comparison and its reporting.
+     */
+    @Test
+    public void testRunComparisonOutOfCore(@TempDir Path tempDir) {
+        String outputFile = tempDir.resolve("out_of_core_output.txt").toString();
+        ComparisonDriver.ComparisonResult result = ComparisonDriver.runComparison(TEST_FILE, outputFile,
+                new OutOfCoreMultiplication(new StrassenMultiplication(), 4, tempDir), "Out-of-Core");
+
+        assertTrue(result.detailedOutput.contains("Naive vs. Out-of-Core same? true"),
+                "Out-of-core results should match Naive.");
+        assertFalse(result.detailedOutput.contains("Naive vs. Out-of-Core same? false"),
+                "Every out-of-core result should match Naive.");
+        assertFalse(result.records.isEmpty(), "Performance records should not be empty.");
+    }
+
+    /**
+     * Tests that the classical baseline can be replaced by the recursive kernel.
+     */
+    @Test
+    public void testRunComparisonWithRecursiveBaseline(@TempDir Path tempDir) {
+        String outputFile = tempDir.resolve("recursive_output.txt").toString();
+        ComparisonDriver.ComparisonResult result = ComparisonDriver.runComparison(TEST_FILE, outputFile,
+                new RecursiveMultiplication(), "Recursive", new StrassenMultiplication(), "Strassen");
+
+        assertTrue(result.detailedOutput.contains("Recursive Multiplication Result:"),
+                "Output should be labelled with the baseline's name.");
+        assertTrue(result.detailedOutput.contains("Recursive vs. Strassen same? true"),
+                "Strassen results should match the recursive baseline.");
+        assertFalse(result.detailedOutput.contains("Recursive vs. Strassen same? false"),
+                "Every Strassen result should match the recursive baseline.");
+        assertFalse(result.records.isEmpty(), "Performance records should not be empty.");
     }
 }
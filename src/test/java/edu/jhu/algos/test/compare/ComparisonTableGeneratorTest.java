@@ -2,6 +2,7 @@ package edu.jhu.algos.test.compare;
 
 import edu.jhu.algos.compare.ComparisonTableGenerator;
 import edu.jhu.algos.compare.PerformanceRecord;
+import edu.jhu.algos.utils.ResourceUsage;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,6 +74,53 @@ class ComparisonTableGeneratorTest {
 //        }
 //    }
 
+    /**
+     * Tests that sub-millisecond times and the phase breakdown reach both the ASCII table and the CSV.
+     */
+    @Test
+    void testNanosecondTimesAndPhaseBreakdown() {
+        List<PerformanceRecord> records = new ArrayList<>();
+        records.add(PerformanceRecord.ofNanos(8, 123_456, 512, 654_321, 343, null));
+        records.add(PerformanceRecord.ofNanos(16, 2_000_000, 4096, 1_500_000, 2401,
+                new long[]{100_000, 200_000, 900_000, 200_000, 50_000}));
+
+        String table = ComparisonTableGenerator.toAsciiTable(records);
+        assertTrue(table.contains("0.123"), "Sub-millisecond Naive time should be shown.");
+        assertTrue(table.contains("0.654"), "Sub-millisecond Strassen time should be shown.");
+        assertTrue(table.contains("Strassen Phase Breakdown"), "Phase table should follow the main table.");
+        assertTrue(table.contains("96.7%"), "Phase coverage of the total time should be shown.");
+
+        String[] csv = ComparisonTableGenerator.toCsv(records).split("\n");
+        assertEquals("n,naiveTimeNs,naiveMultiplications,strassenTimeNs,strassenMultiplications,"
+                + "splitNs,addSubtractNs,recursionNs,combineNs,mergeNs,"
+                + "naiveAllocatedBytes,naiveGcCount,naiveGcTimeMs,strassenAllocatedBytes,strassenGcCount,strassenGcTimeMs",
+                csv[0]);
+        assertEquals("8,123456,512,654321,343,,,,,,,,,,,", csv[1]);
+        assertEquals("16,2000000,4096,1500000,2401,100000,200000,900000,200000,50000,,,,,,", csv[2]);
+
+        assertFalse(ComparisonTableGenerator.toAsciiTable(generateTestRecords()).contains("Phase Breakdown"),
+                "No phase table without phase data.");
+    }
+
+    /**
+     * Tests that allocation and GC data get their own ASCII table and fill the CSV resource columns.
+     */
+    @Test
+    void testResourceUsageTable() {
+        ResourceUsage usage = new ResourceUsage();  // Never started: all zero, but measured
+        List<PerformanceRecord> records = new ArrayList<>();
+        records.add(PerformanceRecord.ofNanos(8, 1000, 512, 2000, 343, null, usage, usage));
+
+        String table = ComparisonTableGenerator.toAsciiTable(records);
+        assertTrue(table.contains("Allocation and GC"), "Resource table should follow the main table.");
+        assertTrue(table.contains("Strassen KB"), "Resource table should list Strassen's allocation.");
+        assertTrue(ComparisonTableGenerator.toCsv(records).endsWith(",0,0,0,0,0,0\n"),
+                "CSV should hold the resource values.");
+
+        assertFalse(ComparisonTableGenerator.toAsciiTable(generateTestRecords()).contains("Allocation and GC"),
+                "No resource table without resource data.");
+    }
+
     /**
      * Helper method to generate test performance records with default constants.
      *
@@ -1,6 +1,7 @@
 package edu.jhu.algos.test.compare;
 
 import edu.jhu.algos.compare.PerformanceRecord;
+import edu.jhu.algos.utils.PerformanceMetrics;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,4 +88,24 @@ class PerformanceRecordTest {
 
         assertEquals(expected, record.toString(), "toString() output format should match.");
     }
+
+    @Test
+    void testNanosecondRecordWithPhases() {
+        long[] phases = {10, 20, 30, 40, 50};
+        PerformanceRecord record = PerformanceRecord.ofNanos(16, 250_000, 4096, 1_750_000, 3430, phases);
+        phases[0] = 999; // The record keeps its own copy
+
+        // Sub-millisecond times are kept exactly instead of being clamped to 1 ms
+        assertEquals(250_000, record.getNaiveTimeNs());
+        assertEquals(0, record.getNaiveTimeMs());
+        assertEquals(1_750_000, record.getStrassenTimeNs());
+        assertEquals(1, record.getStrassenTimeMs());
+
+        assertTrue(record.hasPhaseBreakdown());
+        assertEquals(10, record.getStrassenPhaseNs(PerformanceMetrics.Phase.SPLIT));
+        assertEquals(50, record.getStrassenPhaseNs(PerformanceMetrics.Phase.MERGE));
+        assertFalse(new PerformanceRecord(16, 1, 4096, 1, 3430).hasPhaseBreakdown());
+        assertThrows(IllegalArgumentException.class,
+                () -> PerformanceRecord.ofNanos(16, 1, 1, 1, 1, new long[]{1, 2}));
+    }
 }
@@ -95,6 +95,45 @@ public class MatrixFileHandlerTest {
         assertTrue(exception.getMessage().contains("Unexpected end of file"), "Did not catch missing matrix data.");
     }
 
+    /**
+     * Tests reading odd square pairs and rectangular pairs declared with an "m k n" header.
+     */
+    @Test
+    void testRectangularAndOddSizes() throws IOException {
+        String input = """
+            3
+            1 2 3
+            4 5 6
+            7 8 9
+            1 0 0
+            0 1 0
+            0 0 1
+
+            2 3 1
+            1 2 3
+            4 5 6
+            7
+            8
+            9
+            """;
+
+        Path tempFile = Files.createTempFile("matrix_test", ".txt");
+        Files.writeString(tempFile, input);
+
+        List<Matrix[]> pairs = new MatrixFileHandler().readMatrixPairs(tempFile.toString());
+
+        assertEquals(2, pairs.size(), "Incorrect number of matrix pairs read.");
+        assertEquals(3, pairs.get(0)[0].getSize(), "First pair should be 3x3.");
+        assertArrayEquals(new int[][]{{1, 2, 3}, {4, 5, 6}}, pairs.get(1)[0].getData(), "A should be 2x3.");
+        assertArrayEquals(new int[][]{{7}, {8}, {9}}, pairs.get(1)[1].getData(), "B should be 3x1.");
+
+        // A header with two numbers is neither "n" nor "m k n"
+        Files.writeString(tempFile, "2 3\n1 2 3\n4 5 6\n");
+        Exception exception = assertThrows(IOException.class,
+                () -> new MatrixFileHandler().readMatrixPairs(tempFile.toString()));
+        assertTrue(exception.getMessage().contains("Invalid matrix size"), "Did not reject a two-number header.");
+    }
+
     /**
      * Tests if the handler detects an invalid matrix size.
      */
@@ -0,0 +1,80 @@
+package edu.jhu.algos.test.io;
+
+import edu.jhu.algos.io.TiledMatrixFile;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TiledMatrixFile.
+ * Verifies the tile grid, round trips through memory-mapped tiles, and header validation.
+ */
+public class TiledMatrixFileTest {
+
+    /**
+     * Tests the tile grid of a matrix whose dimensions are not multiples of the tile size.
+     */
+    @Test
+    void testTileGrid(@TempDir Path tempDir) throws IOException {
+        try (TiledMatrixFile file = TiledMatrixFile.create(tempDir.resolve("grid.tiles"), 10, 7, 4)) {
+            assertEquals(3, file.getTileRows(), "10 rows need 3 tile rows of 4.");
+            assertEquals(2, file.getTileCols(), "7 columns need 2 tile columns of 4.");
+            assertEquals(2, file.tileHeight(2), "The last tile row holds the remaining 2 rows.");
+            assertEquals(3, file.tileWidth(1), "The last tile column holds the remaining 3 columns.");
+            assertEquals(TiledMatrixFile.HEADER_BYTES + 6 * 16 * 4, Files.size(file.getPath()),
+                    "Every tile should be stored padded to 4x4.");
+
+            Matrix tile = new Matrix(2, 3);
+            file.readTile(2, 1, tile);
+            assertArrayEquals(new int[2][3], tile.getData(), "A new file should read as zeros.");
+        }
+    }
+
+    /**
+     * Tests that a matrix survives being written, closed, reopened and read back.
+     */
+    @Test
+    void testRoundTrip(@TempDir Path tempDir) throws IOException {
+        Matrix source = new Matrix(9, 13);
+        MatrixUtils.fillRandom(source, -100, 100);
+        Path path = tempDir.resolve("round_trip.tiles");
+
+        TiledMatrixFile.write(path, source, 5).close();
+        try (TiledMatrixFile file = TiledMatrixFile.open(path, false)) {
+            assertEquals(9, file.getRows(), "Row count should be read from the header.");
+            assertEquals(13, file.getCols(), "Column count should be read from the header.");
+            assertEquals(5, file.getTileSize(), "Tile size should be read from the header.");
+            assertArrayEquals(source.getData(), file.toMatrix().getData(), "Values should round-trip.");
+
+            Matrix tile = new Matrix(4, 5);
+            file.readTile(1, 1, tile);
+            assertEquals(source.get(5, 5), tile.get(0, 0), "Tile (1, 1) should start at element (5, 5).");
+            assertThrows(IOException.class, () -> file.writeTile(1, 1, tile), "A read-only file cannot be written.");
+        }
+    }
+
+    /**
+     * Tests that invalid tiles and files are rejected.
+     */
+    @Test
+    void testInvalidArguments(@TempDir Path tempDir) throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> TiledMatrixFile.create(tempDir.resolve("bad.tiles"), 0, 4, 2));
+
+        try (TiledMatrixFile file = TiledMatrixFile.create(tempDir.resolve("small.tiles"), 4, 4, 2)) {
+            assertThrows(IllegalArgumentException.class, () -> file.readTile(2, 0, new Matrix(2)));
+            assertThrows(IllegalArgumentException.class, () -> file.writeTile(0, 0, new Matrix(3)));
+        }
+
+        Path notTiled = tempDir.resolve("not_tiled.txt");
+        Files.writeString(notTiled, "2\n1 2\n3 4\n");
+        Exception exception = assertThrows(IOException.class, () -> TiledMatrixFile.open(notTiled, false));
+        assertTrue(exception.getMessage().contains("Not a tiled matrix file"));
+    }
+}
@@ -0,0 +1,76 @@
+package edu.jhu.algos.test.models;
+
+import edu.jhu.algos.models.DoubleMatrix;
+import edu.jhu.algos.models.Matrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DoubleMatrix.
+ * Verifies construction, conversion from Matrix, and set/get on double values.
+ */
+class DoubleMatrixTest {
+
+    /**
+     * Tests the constructors and dimension accessors.
+     */
+    @Test
+    void testConstructors() {
+        DoubleMatrix square = new DoubleMatrix(3);
+        assertEquals(3, square.getSize(), "Matrix size should be 3.");
+        assertTrue(square.isSquare(), "A 3x3 matrix is square.");
+
+        DoubleMatrix rect = new DoubleMatrix(2, 5);
+        assertEquals(2, rect.getRows(), "Row count should be 2.");
+        assertEquals(5, rect.getCols(), "Column count should be 5.");
+        assertEquals(5, rect.getStride(), "Rows should be packed back-to-back.");
+        assertThrows(IllegalStateException.class, rect::getSize, "A rectangular matrix has no single size.");
+
+        double[][] values = { {1.0, 2.5, 3.0}, {4.0, 5.0, Double.MAX_VALUE} };
+        assertArrayEquals(values, new DoubleMatrix(values).getData(), "2D data should round-trip.");
+
+        DoubleMatrix wrapped = new DoubleMatrix(1, 2, new double[]{7.0, 8.0});
+        assertEquals(8.0, wrapped.get(0, 1), "Flat data should be wrapped row-major.");
+    }
+
+    /**
+     * Tests that invalid dimensions and arrays are rejected.
+     */
+    @Test
+    void testInvalidConstruction() {
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> new DoubleMatrix(0));
+        assertTrue(ex.getMessage().contains("positive"), "Expected an error mentioning 'positive'.");
+        assertThrows(IllegalArgumentException.class, () -> new DoubleMatrix(3, -1));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleMatrix(new double[0][]));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleMatrix(new double[][]{ {1.0, 2.0}, {3.0} }));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleMatrix(2, 2, new double[3]));
+    }
+
+    /**
+     * Tests the converting copy from an int Matrix.
+     */
+    @Test
+    void testFromIntMatrix() {
+        Matrix source = new Matrix(new int[][]{ {1, -2}, {Integer.MAX_VALUE, Integer.MIN_VALUE} });
+        DoubleMatrix copy = new DoubleMatrix(source);
+        assertArrayEquals(new double[][]{ {1.0, -2.0}, {Integer.MAX_VALUE, Integer.MIN_VALUE} }, copy.getData(),
+                "Values should be converted exactly.");
+
+        copy.set(0, 0, 5.0);
+        assertEquals(1, source.get(0, 0), "The copy must not share storage with the source.");
+    }
+
+    /**
+     * Tests set/get, including fractional values and out-of-bounds indices.
+     */
+    @Test
+    void testSetAndGet() {
+        DoubleMatrix mat = new DoubleMatrix(2, 3);
+        mat.set(1, 2, 0.1);
+        assertEquals(0.1, mat.get(1, 2), "Values should be stored exactly.");
+        assertEquals(0.1, mat.getRawData()[5], "Element (1,2) should live at 1 * 3 + 2.");
+        assertThrows(IndexOutOfBoundsException.class, () -> mat.get(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> mat.set(0, 3, 1.0));
+    }
+}
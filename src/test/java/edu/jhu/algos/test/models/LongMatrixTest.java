@@ -0,0 +1,76 @@
+package edu.jhu.algos.test.models;
+
+import edu.jhu.algos.models.LongMatrix;
+import edu.jhu.algos.models.Matrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LongMatrix.
+ * Verifies construction, conversion from Matrix, and set/get on 64-bit values.
+ */
+class LongMatrixTest {
+
+    /**
+     * Tests the constructors and dimension accessors.
+     */
+    @Test
+    void testConstructors() {
+        LongMatrix square = new LongMatrix(3);
+        assertEquals(3, square.getSize(), "Matrix size should be 3.");
+        assertTrue(square.isSquare(), "A 3x3 matrix is square.");
+
+        LongMatrix rect = new LongMatrix(2, 5);
+        assertEquals(2, rect.getRows(), "Row count should be 2.");
+        assertEquals(5, rect.getCols(), "Column count should be 5.");
+        assertEquals(5, rect.getStride(), "Rows should be packed back-to-back.");
+        assertThrows(IllegalStateException.class, rect::getSize, "A rectangular matrix has no single size.");
+
+        long[][] values = { {1L, 2L, 3L}, {4L, 5L, Long.MAX_VALUE} };
+        assertArrayEquals(values, new LongMatrix(values).getData(), "2D data should round-trip.");
+
+        LongMatrix wrapped = new LongMatrix(1, 2, new long[]{7L, 8L});
+        assertEquals(8L, wrapped.get(0, 1), "Flat data should be wrapped row-major.");
+    }
+
+    /**
+     * Tests that invalid dimensions and arrays are rejected.
+     */
+    @Test
+    void testInvalidConstruction() {
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> new LongMatrix(0));
+        assertTrue(ex.getMessage().contains("positive"), "Expected an error mentioning 'positive'.");
+        assertThrows(IllegalArgumentException.class, () -> new LongMatrix(3, -1));
+        assertThrows(IllegalArgumentException.class, () -> new LongMatrix(new long[0][]));
+        assertThrows(IllegalArgumentException.class, () -> new LongMatrix(new long[][]{ {1L, 2L}, {3L} }));
+        assertThrows(IllegalArgumentException.class, () -> new LongMatrix(2, 2, new long[3]));
+    }
+
+    /**
+     * Tests the widening copy from an int Matrix.
+     */
+    @Test
+    void testFromIntMatrix() {
+        Matrix source = new Matrix(new int[][]{ {1, -2}, {Integer.MAX_VALUE, Integer.MIN_VALUE} });
+        LongMatrix copy = new LongMatrix(source);
+        assertArrayEquals(new long[][]{ {1L, -2L}, {Integer.MAX_VALUE, Integer.MIN_VALUE} }, copy.getData(),
+                "Values should be widened unchanged.");
+
+        copy.set(0, 0, 5L);
+        assertEquals(1, source.get(0, 0), "The copy must not share storage with the source.");
+    }
+
+    /**
+     * Tests set/get, including values outside the int range and out-of-bounds indices.
+     */
+    @Test
+    void testSetAndGet() {
+        LongMatrix mat = new LongMatrix(2, 3);
+        mat.set(1, 2, 1L << 40);
+        assertEquals(1L << 40, mat.get(1, 2), "64-bit values should be stored exactly.");
+        assertEquals(1L << 40, mat.getRawData()[5], "Element (1,2) should live at 1 * 3 + 2.");
+        assertThrows(IndexOutOfBoundsException.class, () -> mat.get(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> mat.set(0, 3, 1L));
+    }
+}
@@ -12,25 +12,59 @@ import static org.junit.jupiter.api.Assertions.*;
 class MatrixTest {
 
     /**
-     * Tests constructing a Matrix with a valid power-of-2 size.
+     * Tests constructing a Matrix with a valid size.
      */
     @Test
     void testConstructorValidSize() {
-        // Create a matrix of size 4 (4 is 2^2, a valid power of 2)
+        // Create a matrix of size 4
         Matrix mat = new Matrix(4);
         // Check if getSize() returns 4
         assertEquals(4, mat.getSize(), "Matrix size should be 4.");
     }
 
     /**
-     * Tests constructing a Matrix with an invalid size (not a power of 2).
+     * Tests constructing a Matrix with an invalid (non-positive) size.
      * Should throw IllegalArgumentException.
      */
     @Test
     void testConstructorInvalidSize() {
-        // Size 3 is not a power of 2, expect an exception
-        Exception ex = assertThrows(IllegalArgumentException.class, () -> new Matrix(3));
-        assertTrue(ex.getMessage().contains("power of 2"), "Expected an error mentioning 'power of 2'.");
+        // Sizes must be positive, expect an exception
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> new Matrix(0));
+        assertTrue(ex.getMessage().contains("positive"), "Expected an error mentioning 'positive'.");
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(-4));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(3, 0));
+
+        // rows * cols must not overflow an int: 65536 * 65537 would wrap around to 65536
+        ex = assertThrows(IllegalArgumentException.class, () -> new Matrix(65536, 65537));
+        assertTrue(ex.getMessage().contains("65536x65537"), "Expected the dimensions in the message.");
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(65536, 65537, new int[65536]));
+    }
+
+    /**
+     * Tests constructing square matrices of non-power-of-2 size and rectangular matrices.
+     */
+    @Test
+    void testArbitraryAndRectangularSizes() {
+        Matrix odd = new Matrix(3);
+        assertEquals(3, odd.getSize(), "Size 3 should be accepted.");
+        assertTrue(odd.isSquare(), "A 3x3 matrix is square.");
+
+        Matrix rect = new Matrix(2, 5);
+        assertEquals(2, rect.getRows(), "Row count should be 2.");
+        assertEquals(5, rect.getCols(), "Column count should be 5.");
+        assertEquals(5, rect.getStride(), "Rows should be packed back-to-back.");
+        assertFalse(rect.isSquare(), "A 2x5 matrix is not square.");
+        assertThrows(IllegalStateException.class, rect::getSize, "A rectangular matrix has no single size.");
+
+        rect.set(1, 4, 7);
+        assertEquals(7, rect.getRawData()[9], "Element (1,4) should live at 1 * 5 + 4.");
+        assertThrows(IndexOutOfBoundsException.class, () -> rect.get(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> rect.get(0, 5));
+
+        Matrix fromArray = new Matrix(new int[][]{ {1, 2, 3}, {4, 5, 6} });
+        assertArrayEquals(new int[][]{ {1, 2, 3}, {4, 5, 6} }, fromArray.getData(), "2x3 data should round-trip.");
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, new Matrix(2, 3, new int[]{1, 2, 3, 4, 5, 6}).getRawData());
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(2, 3, new int[5]));
     }
 
     /**
@@ -38,7 +72,7 @@ class MatrixTest {
      */
     @Test
     void testConstructorValid2DArray() {
-        // 2D array must be square and size must be power of 2 (e.g., 2x2)
+        // 2D array must be non-empty and rectangular (e.g., 2x2)
         int[][] validData = {
                 {1, 2},
                 {3, 4}
@@ -54,33 +88,29 @@ class MatrixTest {
     }
 
     /**
-     * Tests constructing a Matrix from an invalid 2D array (non-square or dimension not power of 2).
+     * Tests constructing a Matrix from an invalid 2D array (ragged or empty).
      */
     @Test
     void testConstructorInvalid2DArray() {
-        // Non-square array
-        int[][] nonSquare = {
-                {1, 2, 3},
-                {4, 5, 6}
-        };
-        // 3x3 not power of 2
-        int[][] threeByThree = {
+        // Ragged array
+        int[][] ragged = {
                 {1, 2, 3},
-                {4, 5, 6},
-                {7, 8, 9}
+                {4, 5}
         };
+        // Rows without columns
+        int[][] noColumns = { {}, {} };
         // Empty array
         int[][] empty = {};
 
         // Should all throw IllegalArgumentException
-        assertThrows(IllegalArgumentException.class, () -> new Matrix(nonSquare));
-        assertThrows(IllegalArgumentException.class, () -> new Matrix(threeByThree));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(ragged));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(noColumns));
         assertThrows(IllegalArgumentException.class, () -> new Matrix(empty));
     }
 
     /**
-     * Tests getData() to ensure it returns the underlying 2D array.
-     * (Currently returns the direct reference. If you do a deep copy, adapt the test.)
+     * Tests getData() to ensure it returns a copy of the values as a 2D array.
+     * (Storage is flat, so changes to the returned array do not reach the matrix.)
      */
     @Test
     void testGetData() {
@@ -95,9 +125,48 @@ class MatrixTest {
         // Check a sample value
         assertEquals(4, fetchedData[1][1], "Expected value 4 at (1,1).");
 
-        // If direct reference: changes to fetchedData affect the matrix
+        // Copy semantics: changes to fetchedData (or the source array) do not affect the matrix
         fetchedData[0][0] = 99;
-        assertEquals(99, mat.get(0, 0), "Because getData() returns the direct reference, changes reflect in mat.");
+        arr[0][1] = 77;
+        assertEquals(1, mat.get(0, 0), "getData() returns a copy, so the matrix is unchanged.");
+        assertEquals(2, mat.get(0, 1), "The constructor copies the input array.");
+    }
+
+    /**
+     * Tests the flat row-major storage: getRawData(), getStride(), and the flat-array constructor.
+     */
+    @Test
+    void testRawDataRowMajor() {
+        int[] flat = {1, 2, 3, 4};
+        Matrix mat = new Matrix(2, flat);
+
+        // Element (row, col) lives at row * stride + col
+        assertEquals(2, mat.getStride(), "Stride of a 2x2 matrix should be 2.");
+        assertSame(flat, mat.getRawData(), "Flat constructor should wrap the given array.");
+        assertEquals(3, mat.get(1, 0), "Expected value 3 at (1,0).");
+
+        // Writes through the raw array are visible through get()
+        mat.getRawData()[3] = 40;
+        assertEquals(40, mat.get(1, 1), "Raw array writes should be visible in the matrix.");
+
+        // Wrong length is rejected
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(2, new int[3]));
+    }
+
+    /**
+     * Tests the bulk row accessors getRow(...) and setRow(...).
+     */
+    @Test
+    void testRowAccessors() {
+        Matrix mat = new Matrix(2);
+        mat.setRow(1, new int[]{0, 7, 8}, 1); // Copy {7, 8} into row 1
+
+        int[] row = new int[2];
+        mat.getRow(1, row, 0);
+        assertArrayEquals(new int[]{7, 8}, row, "Row 1 should hold the copied values.");
+        assertEquals(0, mat.get(0, 0), "Row 0 should be untouched.");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> mat.getRow(2, row, 0));
     }
 
     /**
@@ -129,4 +198,18 @@ class MatrixTest {
         // Attempt to get using negative index => out of bounds
         assertThrows(IndexOutOfBoundsException.class, () -> mat.get(-1, 0));
     }
+
+    /**
+     * Tests getUnchecked(...) and setUnchecked(...) against the checked accessors.
+     */
+    @Test
+    void testUncheckedAccessors() {
+        Matrix mat = new Matrix(2, 3);
+        mat.setUnchecked(1, 2, 42);
+        assertEquals(42, mat.get(1, 2), "setUnchecked should write the same element as set.");
+
+        mat.set(0, 1, 7);
+        assertEquals(7, mat.getUnchecked(0, 1), "getUnchecked should read the same element as get.");
+        assertEquals(42, mat.getRawData()[1 * mat.getStride() + 2], "Elements live at row * stride + col.");
+    }
 }
@@ -0,0 +1,123 @@
+package edu.jhu.algos.test.models;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MatrixView.
+ * Verifies that views and their quadrants address the owning matrix in place.
+ */
+class MatrixViewTest {
+
+    /**
+     * Builds a 4x4 matrix holding the values 1..16 in row-major order.
+     */
+    private Matrix sequentialMatrix() {
+        Matrix mat = new Matrix(4);
+        int value = 1;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                mat.set(i, j, value++);
+            }
+        }
+        return mat;
+    }
+
+    /**
+     * Tests that a full view reads the same values as the matrix.
+     */
+    @Test
+    void testFullView() {
+        Matrix mat = sequentialMatrix();
+        MatrixView view = mat.view();
+
+        assertEquals(4, view.getSize(), "View should cover the whole 4x4 matrix.");
+        assertSame(mat.getRawData(), view.getRawData(), "View should share the matrix storage.");
+        assertEquals(7, view.get(1, 2), "Expected value 7 at (1,2).");
+    }
+
+    /**
+     * Tests that quadrants address the correct region of the parent without copying.
+     */
+    @Test
+    void testQuadrantsAreInPlace() {
+        Matrix mat = sequentialMatrix();
+        MatrixView view = mat.view();
+
+        MatrixView q12 = view.quadrant(1); // Top-right
+        MatrixView q21 = view.quadrant(2); // Bottom-left
+        assertEquals(2, q12.getSize(), "Quadrant should be 2x2.");
+        assertEquals(3, q12.get(0, 0), "A12[0,0] should be 3.");
+        assertEquals(14, q21.get(1, 1), "A21[1,1] should be 14.");
+
+        // Writing through a quadrant updates the parent matrix
+        q21.set(0, 1, 100);
+        assertEquals(100, mat.get(2, 1), "Quadrant writes should land in the parent matrix.");
+
+        // Nested quadrants keep the parent's stride
+        assertEquals(16, view.quadrant(3).quadrant(3).get(0, 0), "Bottom-right 1x1 should be 16.");
+    }
+
+    /**
+     * Tests that toMatrix() produces an independent copy.
+     */
+    @Test
+    void testToMatrixCopies() {
+        Matrix mat = sequentialMatrix();
+        Matrix copy = mat.view().quadrant(3).toMatrix();
+
+        assertArrayEquals(new int[][]{{11, 12}, {15, 16}}, copy.getData(), "Copy should hold A22.");
+        copy.set(0, 0, 0);
+        assertEquals(11, mat.get(2, 2), "Changing the copy must not affect the original.");
+    }
+
+    /**
+     * Tests rectangular blocks and quadrants of a rectangular view.
+     */
+    @Test
+    void testRectangularSubViews() {
+        Matrix mat = sequentialMatrix();
+        MatrixView block = mat.view().sub(1, 0, 3, 2); // Rows 1..3, columns 0..1
+
+        assertEquals(3, block.getRows(), "Block should have 3 rows.");
+        assertEquals(2, block.getCols(), "Block should have 2 columns.");
+        assertEquals(14, block.get(2, 1), "Block (2,1) should be A[3,1] = 14.");
+        assertThrows(IllegalStateException.class, block::getSize, "A 3x2 block has no single size.");
+        assertArrayEquals(new int[][]{{5, 6}, {9, 10}, {13, 14}}, block.toMatrix().getData());
+
+        // A 2x4 view splits into 1x2 quadrants; an odd dimension cannot be split
+        MatrixView wide = mat.view().sub(0, 0, 2, 4);
+        assertEquals(2, wide.quadrant(1).getCols(), "Quadrant of a 2x4 view should be 1x2.");
+        assertEquals(7, wide.quadrant(3).get(0, 0), "Bottom-right quadrant of the 2x4 view starts at A[1,2].");
+        assertThrows(IllegalArgumentException.class, () -> block.quadrant(0));
+        assertThrows(IllegalArgumentException.class, () -> mat.view().sub(2, 2, 3, 1));
+    }
+
+    /**
+     * Tests that the unchecked accessors address the same elements as get/set, offset and stride included.
+     */
+    @Test
+    void testUncheckedAccessors() {
+        Matrix mat = new Matrix(new int[][]{{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}, {13, 14, 15, 16}});
+        MatrixView bottomRight = mat.view().quadrant(3);
+
+        assertEquals(bottomRight.get(1, 0), bottomRight.getUnchecked(1, 0), "Both accessors should read A[3,2].");
+        bottomRight.setUnchecked(0, 1, 99);
+        assertEquals(99, mat.get(2, 3), "setUnchecked should write through to the backing matrix.");
+    }
+
+    /**
+     * Tests invalid quadrant requests and out-of-bounds access.
+     */
+    @Test
+    void testInvalidAccess() {
+        MatrixView view = new Matrix(2).view();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> view.quadrant(4));
+        assertThrows(IllegalArgumentException.class, () -> view.quadrant(0).quadrant(0));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixView(new int[4], 1, 2, 2));
+    }
+}
@@ -0,0 +1,89 @@
+package edu.jhu.algos.test.models;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MortonMatrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MortonMatrix.
+ * Verifies the derived layout, Z-order placement of leaf blocks, and row-major round trips.
+ */
+class MortonMatrixTest {
+
+    /**
+     * Tests that the leaf size is the smallest share of the extent that fits the limit.
+     */
+    @Test
+    void testLayout() {
+        MortonMatrix exact = new MortonMatrix(64, 64, 64, 16);
+        assertEquals(16, exact.getLeafSize(), "64 halved twice gives leaves of 16.");
+        assertEquals(64, exact.getPaddedSize(), "A power-of-2 multiple of the leaf needs no padding.");
+
+        MortonMatrix odd = new MortonMatrix(100, 37, 100, 32);
+        assertEquals(25, odd.getLeafSize(), "100 halved twice gives leaves of 25.");
+        assertEquals(100, odd.getPaddedSize(), "4 leaves of 25 cover 100 exactly.");
+
+        MortonMatrix padded = new MortonMatrix(1000, 1000);
+        assertEquals(32, padded.getLeafSize(), "1000 / 32 rounds up to leaves of 32.");
+        assertEquals(1024, padded.getPaddedSize(), "32 leaves of 32 are needed to cover 1000.");
+        assertEquals(1024 * 1024, padded.getRawData().length, "The padded square is stored.");
+
+        MortonMatrix shared = new MortonMatrix(3, 5, odd);
+        assertTrue(shared.hasSameLayout(odd), "The layout constructor should copy the layout.");
+        assertFalse(exact.hasSameLayout(odd), "Different extents give different layouts.");
+    }
+
+    /**
+     * Tests that each quadrant of the padded square is a contiguous quarter of the array.
+     */
+    @Test
+    void testQuadrantsAreContiguous() {
+        MortonMatrix morton = new MortonMatrix(8, 8, 8, 2);
+        int quarter = 16;
+        assertEquals(0, morton.index(0, 0), "Element (0,0) starts the top-left quadrant.");
+        assertEquals(quarter, morton.index(0, 4), "The top-right quadrant starts one quarter in.");
+        assertEquals(2 * quarter, morton.index(4, 0), "The bottom-left quadrant starts two quarters in.");
+        assertEquals(3 * quarter, morton.index(4, 4), "The bottom-right quadrant starts three quarters in.");
+        assertEquals(4, morton.index(0, 2), "Within a quadrant the sub-quadrants follow Z-order too.");
+        assertEquals(3, morton.index(1, 1), "Leaf blocks are row-major.");
+    }
+
+    /**
+     * Tests conversion from and to row-major for square, odd and rectangular shapes.
+     */
+    @Test
+    void testRoundTrip() {
+        int[][] shapes = { {1, 1}, {3, 3}, {8, 8}, {5, 17}, {33, 20} };
+        for (int[] shape : shapes) {
+            Matrix source = new Matrix(shape[0], shape[1]);
+            MatrixUtils.fillRandom(source, -99, 99);
+            MortonMatrix morton = MortonMatrix.fromMatrix(source, Math.max(shape[0], shape[1]), 4);
+
+            assertArrayEquals(source.getData(), morton.toMatrix().getData(),
+                    shape[0] + "x" + shape[1] + " should round-trip.");
+            assertEquals(source.get(shape[0] - 1, shape[1] - 1), morton.get(shape[0] - 1, shape[1] - 1),
+                    "get() should find the last element.");
+        }
+    }
+
+    /**
+     * Tests set/get and the rejection of invalid dimensions and indices.
+     */
+    @Test
+    void testSetGetAndInvalidArguments() {
+        MortonMatrix morton = new MortonMatrix(3, 6);
+        morton.set(2, 5, 42);
+        assertEquals(42, morton.get(2, 5), "The value should be stored.");
+        assertEquals(42, morton.getRawData()[morton.index(2, 5)], "index() should locate the element.");
+        assertThrows(IndexOutOfBoundsException.class, () -> morton.get(3, 0), "Padding rows are not addressable.");
+        assertThrows(IndexOutOfBoundsException.class, () -> morton.set(0, 6, 1));
+
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> new MortonMatrix(0, 3));
+        assertTrue(ex.getMessage().contains("positive"), "Expected an error mentioning 'positive'.");
+        assertThrows(IllegalArgumentException.class, () -> new MortonMatrix(8, 8, 4, 2));
+        assertThrows(IllegalArgumentException.class, () -> new MortonMatrix(8, 8, 8, 0));
+    }
+}
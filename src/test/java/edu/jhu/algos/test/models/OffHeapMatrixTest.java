@@ -0,0 +1,92 @@
+package edu.jhu.algos.test.models;
+
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.OffHeapMatrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapMatrix.
+ * Verifies banded storage, block copies to and from the heap, and the close() lifecycle.
+ */
+class OffHeapMatrixTest {
+
+    /**
+     * Tests dimensions, zero initialization and set/get across several bands.
+     */
+    @Test
+    void testSetAndGetAcrossBands() {
+        try (OffHeapMatrix mat = new OffHeapMatrix(7, 5, 3)) {
+            assertEquals(7, mat.getRows(), "Row count should be 7.");
+            assertEquals(5, mat.getCols(), "Column count should be 5.");
+            assertEquals(3, mat.getBandCount(), "7 rows in bands of 3 need 3 buffers.");
+            assertEquals(140, mat.getByteSize(), "7 x 5 ints take 140 bytes.");
+            assertEquals(0, mat.get(6, 4), "Direct buffers should start zeroed.");
+
+            for (int i = 0; i < 7; i++) {
+                for (int j = 0; j < 5; j++) {
+                    mat.set(i, j, 10 * i + j);
+                }
+            }
+            assertEquals(32, mat.get(3, 2), "Row 3 lives in the second band.");
+            assertEquals(64, mat.get(6, 4), "Row 6 lives in the last, shorter band.");
+            assertThrows(IndexOutOfBoundsException.class, () -> mat.get(7, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> mat.set(0, 5, 1));
+        }
+    }
+
+    /**
+     * Tests that invalid dimensions and band sizes are rejected.
+     */
+    @Test
+    void testInvalidConstruction() {
+        Exception ex = assertThrows(IllegalArgumentException.class, () -> new OffHeapMatrix(0, 4));
+        assertTrue(ex.getMessage().contains("positive"), "Expected an error mentioning 'positive'.");
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMatrix(4, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMatrix(4, 1 << 30, 1));
+    }
+
+    /**
+     * Tests copying between heap and off-heap storage, including blocks that straddle bands.
+     */
+    @Test
+    void testBlockCopies() {
+        Matrix source = new Matrix(9, 6);
+        MatrixUtils.fillRandom(source, -50, 50);
+
+        try (OffHeapMatrix copy = OffHeapMatrix.copyOf(source);
+             OffHeapMatrix banded = new OffHeapMatrix(9, 6, 2)) {
+            assertArrayEquals(source.getData(), copy.toMatrix().getData(), "copyOf() should round-trip.");
+
+            banded.writeBlock(0, 0, source);
+            Matrix block = new Matrix(4, 3);
+            banded.readBlock(3, 2, block);
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 3; j++) {
+                    assertEquals(source.get(3 + i, 2 + j), block.get(i, j), "Block element (" + i + ", " + j + ") is wrong.");
+                }
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> banded.readBlock(7, 0, block));
+            assertThrows(IllegalArgumentException.class, () -> banded.writeBlock(0, 4, block));
+        }
+    }
+
+    /**
+     * Tests that the memory cannot be used after close() and that close() is idempotent.
+     */
+    @Test
+    void testClose() {
+        OffHeapMatrix mat = new OffHeapMatrix(4, 4);
+        mat.set(1, 1, 5);
+        assertFalse(mat.isClosed(), "A new matrix should be open.");
+
+        mat.close();
+        assertTrue(mat.isClosed(), "close() should release the matrix.");
+        assertThrows(IllegalStateException.class, () -> mat.get(1, 1));
+        assertThrows(IllegalStateException.class, () -> mat.readBlock(0, 0, new Matrix(2)));
+        assertDoesNotThrow(mat::close, "Closing twice should be allowed.");
+    }
+}
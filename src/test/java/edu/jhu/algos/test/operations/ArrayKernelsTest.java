@@ -0,0 +1,165 @@
+package edu.jhu.algos.test.operations;
+
+import edu.jhu.algos.operations.ArrayKernels;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArrayKernels.
+ * The dispatching kernels (SIMD when the Vector API is present) must match the scalar loops
+ * for every length, including tails shorter than one vector.
+ */
+class ArrayKernelsTest {
+
+    private static final int[] LENGTHS = {0, 1, 3, 7, 8, 15, 16, 17, 63, 100};
+
+    /**
+     * Creates an array of random values in [-1000, 1000].
+     */
+    private int[] randomArray(Random rand, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = rand.nextInt(2001) - 1000;
+        }
+        return values;
+    }
+
+    /**
+     * Tests add() and subtract() against the scalar versions, with non-zero offsets.
+     */
+    @Test
+    void testAddSubtractMatchScalar() {
+        Random rand = new Random(42);
+        for (int len : LENGTHS) {
+            int[] a = randomArray(rand, len + 3);
+            int[] b = randomArray(rand, len + 5);
+
+            int[] expected = new int[len + 2];
+            int[] actual = new int[len + 2];
+            ArrayKernels.addScalar(a, 3, b, 5, expected, 2, len);
+            ArrayKernels.add(a, 3, b, 5, actual, 2, len);
+            assertArrayEquals(expected, actual, "add() should match the scalar loop for length " + len);
+
+            ArrayKernels.subtractScalar(a, 3, b, 5, expected, 2, len);
+            ArrayKernels.subtract(a, 3, b, 5, actual, 2, len);
+            assertArrayEquals(expected, actual, "subtract() should match the scalar loop for length " + len);
+        }
+    }
+
+    /**
+     * Tests axpy() against the scalar version.
+     */
+    @Test
+    void testAxpyMatchesScalar() {
+        Random rand = new Random(7);
+        for (int len : LENGTHS) {
+            int[] x = randomArray(rand, len + 1);
+            int[] expected = randomArray(rand, len + 4);
+            int[] actual = expected.clone();
+
+            ArrayKernels.axpyScalar(-13, x, 1, expected, 4, len);
+            ArrayKernels.axpy(-13, x, 1, actual, 4, len);
+            assertArrayEquals(expected, actual, "axpy() should match the scalar loop for length " + len);
+        }
+    }
+
+    /**
+     * Tests the long overloads against their scalar versions, with values beyond the int range.
+     */
+    @Test
+    void testLongKernelsMatchScalar() {
+        Random rand = new Random(3);
+        for (int len : LENGTHS) {
+            long[] a = rand.longs(len + 3, -(1L << 40), 1L << 40).toArray();
+            long[] b = rand.longs(len + 5, -(1L << 40), 1L << 40).toArray();
+
+            long[] expected = new long[len + 2];
+            long[] actual = new long[len + 2];
+            ArrayKernels.addScalar(a, 3, b, 5, expected, 2, len);
+            ArrayKernels.add(a, 3, b, 5, actual, 2, len);
+            assertArrayEquals(expected, actual, "long add() should match the scalar loop for length " + len);
+
+            ArrayKernels.subtractScalar(a, 3, b, 5, expected, 2, len);
+            ArrayKernels.subtract(a, 3, b, 5, actual, 2, len);
+            assertArrayEquals(expected, actual, "long subtract() should match the scalar loop for length " + len);
+
+            ArrayKernels.axpyScalar(-1_000_003L, a, 1, expected, 2, len);
+            ArrayKernels.axpy(-1_000_003L, a, 1, actual, 2, len);
+            assertArrayEquals(expected, actual, "long axpy() should match the scalar loop for length " + len);
+        }
+    }
+
+    /**
+     * Tests the double overloads: add/subtract are exact, axpy may differ by the fused rounding.
+     */
+    @Test
+    void testDoubleKernelsMatchScalar() {
+        Random rand = new Random(4);
+        for (int len : LENGTHS) {
+            double[] a = rand.doubles(len + 3, -1, 1).toArray();
+            double[] b = rand.doubles(len + 5, -1, 1).toArray();
+
+            double[] expected = new double[len + 2];
+            double[] actual = new double[len + 2];
+            ArrayKernels.addScalar(a, 3, b, 5, expected, 2, len);
+            ArrayKernels.add(a, 3, b, 5, actual, 2, len);
+            assertArrayEquals(expected, actual, "double add() should match the scalar loop for length " + len);
+
+            ArrayKernels.subtractScalar(a, 3, b, 5, expected, 2, len);
+            ArrayKernels.subtract(a, 3, b, 5, actual, 2, len);
+            assertArrayEquals(expected, actual, "double subtract() should match the scalar loop for length " + len);
+
+            ArrayKernels.axpyScalar(0.75, a, 1, expected, 2, len);
+            ArrayKernels.axpy(0.75, a, 1, actual, 2, len);
+            assertArrayEquals(expected, actual, 1e-15, "double axpy() should match the scalar loop for length " + len);
+        }
+    }
+
+    /**
+     * Tests in-place use, where the destination is also an operand.
+     */
+    @Test
+    void testInPlaceAdd() {
+        int[] a = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17};
+        int[] b = a.clone();
+        ArrayKernels.add(a, 0, b, 0, a, 0, a.length);
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(2 * (i + 1), a[i], "In-place add should double element " + i);
+        }
+    }
+
+    /**
+     * Tests that the kernel description reflects the selected implementation.
+     */
+    @Test
+    void testDescribe() {
+        String description = ArrayKernels.describe();
+        if (ArrayKernels.isSimdEnabled()) {
+            assertTrue(description.startsWith("SIMD"), "SIMD kernels should be described as SIMD.");
+        } else {
+            assertEquals("scalar", description);
+        }
+    }
+
+    @Test
+    void testScale() {
+        int[] x = {1, -2, 3, 4, 5};
+        ArrayKernels.scale(3, x, 1, 3);
+        assertArrayEquals(new int[]{1, -6, 9, 12, 5}, x, "Only the range should be scaled.");
+
+        ArrayKernels.scale(1, x, 0, 5);
+        assertArrayEquals(new int[]{1, -6, 9, 12, 5}, x, "Scaling by 1 is a no-op.");
+
+        ArrayKernels.scale(0, x, 0, 2);
+        assertArrayEquals(new int[]{0, 0, 9, 12, 5}, x, "Scaling by 0 clears the range.");
+
+        int[] simd = new Random(7).ints(67, -100, 100).toArray();
+        int[] scalar = simd.clone();
+        ArrayKernels.scale(-5, simd, 2, 63);
+        ArrayKernels.scaleScalar(-5, scalar, 2, 63);
+        assertArrayEquals(scalar, simd, "Dispatching scale should match the scalar kernel.");
+    }
+}
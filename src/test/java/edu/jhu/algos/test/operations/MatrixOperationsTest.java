@@ -1,7 +1,10 @@
 package edu.jhu.algos.test.operations;
 
 import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.models.MatrixView;
+import edu.jhu.algos.models.OffHeapMatrix;
 import edu.jhu.algos.operations.MatrixOperations;
+import edu.jhu.algos.utils.MatrixUtils;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -221,4 +224,194 @@ class MatrixOperationsTest {
         Exception e = assertThrows(IllegalArgumentException.class, () -> MatrixOperations.merge(A11, A12, A21, A22));
         assertTrue(e.getMessage().contains("must be the same size"));
     }
+
+    /**
+     * Tests that quadrants(...) returns views sharing the original storage.
+     */
+    @Test
+    void testQuadrantsShareStorage() {
+        Matrix big = new Matrix(4);
+        int value = 1;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                big.set(i, j, value++);
+            }
+        }
+
+        MatrixView[] parts = MatrixOperations.quadrants(big.view());
+        assertEquals(6, parts[0].get(1, 1), "A11[1,1] should be 6.");
+        assertEquals(8, parts[1].get(1, 1), "A12[1,1] should be 8.");
+        assertEquals(9, parts[2].get(0, 0), "A21[0,0] should be 9.");
+        assertEquals(11, parts[3].get(0, 0), "A22[0,0] should be 11.");
+
+        // Writing through a quadrant must change the original
+        parts[3].set(1, 1, -1);
+        assertEquals(-1, big.get(3, 3), "Quadrant views should not copy data.");
+
+        // A 1x1 view cannot be split
+        Exception e = assertThrows(IllegalArgumentException.class, () -> MatrixOperations.quadrants(new Matrix(1).view()));
+        assertTrue(e.getMessage().contains("too small to split"));
+    }
+
+    /**
+     * Tests view-based add and subtract writing into a quadrant of a larger matrix.
+     */
+    @Test
+    void testViewAddSubtractIntoQuadrant() {
+        Matrix A = new Matrix(new int[][]{{1, 2}, {3, 4}});
+        Matrix B = new Matrix(new int[][]{{5, 6}, {7, 8}});
+        Matrix target = new Matrix(4);
+
+        // Sum goes into the bottom-right quadrant of target
+        MatrixView dest = target.view().quadrant(3);
+        MatrixOperations.add(A.view(), B.view(), dest);
+        assertEquals(6, target.get(2, 2), "target[2,2] should be 1 + 5.");
+        assertEquals(12, target.get(3, 3), "target[3,3] should be 4 + 8.");
+        assertEquals(0, target.get(0, 0), "Other quadrants should be untouched.");
+
+        // In-place subtraction (dest aliases the first operand)
+        MatrixOperations.subtract(dest, B.view(), dest);
+        assertEquals(1, target.get(2, 2), "Subtracting B again should restore A.");
+        assertEquals(4, target.get(3, 3), "Subtracting B again should restore A.");
+
+        // Size mismatch is rejected
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> MatrixOperations.add(A.view(), target.view(), dest));
+        assertTrue(e.getMessage().contains("same size"));
+    }
+
+    @Test
+    void testViewCopy() {
+        Matrix source = new Matrix(new int[][]{{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}, {13, 14, 15, 16}});
+        Matrix target = new Matrix(2);
+
+        // Copy the top-right quadrant out of a strided view
+        MatrixOperations.copy(source.view().quadrant(1), target.view());
+        assertArrayEquals(new int[]{3, 4, 7, 8}, target.getRawData(), "Quadrant 12 should be copied row by row.");
+
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> MatrixOperations.copy(source.view(), target.view()));
+        assertTrue(e.getMessage().contains("same size"));
+    }
+
+    @Test
+    void testCopyBlock() {
+        Matrix source = new Matrix(new int[][]{{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}});
+        Matrix target = new Matrix(3, 5);
+
+        // Copy the 2x3 block at (1, 1) of source to (0, 2) of target
+        MatrixOperations.copyBlock(source, 1, 1, target, 0, 2, 2, 3);
+        assertArrayEquals(new int[][]{{0, 0, 6, 7, 8}, {0, 0, 10, 11, 12}, {0, 0, 0, 0, 0}}, target.getData(),
+                "The block should be copied row by row without touching the rest of the target.");
+
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> MatrixOperations.copyBlock(source, 2, 0, target, 0, 0, 2, 2));
+        assertTrue(e.getMessage().contains("does not fit"));
+        assertThrows(IllegalArgumentException.class,
+                () -> MatrixOperations.copyBlock(source, 0, 0, target, 0, 4, 1, 2));
+    }
+
+    @Test
+    void testViewScaleAndAxpy() {
+        Matrix X = new Matrix(new int[][]{{1, 2}, {3, 4}});
+        Matrix target = new Matrix(new int[][]{{1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}});
+        MatrixView dest = target.view().quadrant(1);
+
+        MatrixOperations.scale(5, dest);
+        MatrixOperations.axpy(-2, X.view(), dest);
+        assertArrayEquals(new int[]{1, 1, 3, 1, 1, 1, -1, -3, 1, 1, 1, 1, 1, 1, 1, 1}, target.getRawData(),
+                "Only quadrant 12 should become 5 - 2 * X.");
+
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> MatrixOperations.axpy(1, target.view(), dest));
+        assertTrue(e.getMessage().contains("same size"));
+    }
+
+    /**
+     * Tests the fused linear combination against chained add/subtract calls, for every coefficient path.
+     */
+    @Test
+    void testLinearCombination() {
+        Matrix M1 = new Matrix(5, 7), M2 = new Matrix(5, 7), M3 = new Matrix(5, 7), M4 = new Matrix(5, 7);
+        MatrixUtils.fillRandom(M1, -9, 9);
+        MatrixUtils.fillRandom(M2, -9, 9);
+        MatrixUtils.fillRandom(M3, -9, 9);
+        MatrixUtils.fillRandom(M4, -9, 9);
+
+        // C11-style combination: M1 + M2 - M3 + M4
+        Matrix expected = MatrixOperations.add(MatrixOperations.subtract(MatrixOperations.add(M1, M2), M3), M4);
+        assertArrayEquals(expected.getData(),
+                MatrixOperations.linearCombination(new int[]{1, 1, -1, 1}, M1, M2, M3, M4).getData());
+
+        // General coefficients (first term scaled, axpy and zero paths)
+        Matrix combined = MatrixOperations.linearCombination(new int[]{-2, 3, 0}, M1, M2, M3);
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 7; j++) {
+                assertEquals(-2 * M1.get(i, j) + 3 * M2.get(i, j), combined.get(i, j));
+            }
+        }
+
+        // Strided destination that is also the first term
+        Matrix target = new Matrix(new int[][]{{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}, {13, 14, 15, 16}});
+        MatrixView topLeft = target.view().quadrant(0);
+        MatrixOperations.linearCombination(new int[]{1, -1, 1}, topLeft, topLeft,
+                target.view().quadrant(1), target.view().quadrant(3));
+        assertArrayEquals(new int[][]{{9, 10, 3, 4}, {13, 14, 7, 8}, {9, 10, 11, 12}, {13, 14, 15, 16}}, target.getData(),
+                "C11 = C11 - C12 + C22 should be computed in place.");
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.linearCombination(new int[]{1}, M1, M2));
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.linearCombination(new int[]{}));
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> MatrixOperations.linearCombination(new int[]{1, 1}, M1, new Matrix(7, 5)));
+        assertTrue(e.getMessage().contains("same size"));
+    }
+
+    /**
+     * Tests element-wise operations on rectangular matrices and views.
+     */
+    @Test
+    void testRectangularOperations() {
+        Matrix A = new Matrix(new int[][]{{1, 2, 3}, {4, 5, 6}});
+        Matrix B = new Matrix(new int[][]{{6, 5, 4}, {3, 2, 1}});
+
+        assertArrayEquals(new int[][]{{7, 7, 7}, {7, 7, 7}}, MatrixOperations.add(A, B).getData());
+        assertArrayEquals(new int[][]{{-5, -3, -1}, {1, 3, 5}}, MatrixOperations.subtract(A, B).getData());
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.add(A, new Matrix(3, 2)));
+
+        // 2x3 views inside a 3x4 matrix
+        Matrix target = new Matrix(3, 4);
+        MatrixView block = target.view().sub(1, 1, 2, 3);
+        MatrixOperations.add(A.view(), B.view(), block);
+        MatrixOperations.axpy(2, A.view(), block);
+        assertArrayEquals(new int[][]{{0, 0, 0, 0}, {0, 9, 11, 13}, {0, 15, 17, 19}}, target.getData());
+
+        // Quadrants need even dimensions; square split needs a square matrix
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.quadrants(A.view()));
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.split(new Matrix(2, 4)));
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.split(new Matrix(3)));
+    }
+
+    /**
+     * Tests the off-heap overloads, including in-place use and mismatched sizes.
+     */
+    @Test
+    void testOffHeapOperations() {
+        Matrix A = new Matrix(new int[][]{{1, 2, 3}, {4, 5, 6}});
+        Matrix B = new Matrix(new int[][]{{6, 5, 4}, {3, 2, 1}});
+
+        try (OffHeapMatrix offA = OffHeapMatrix.copyOf(A);
+             OffHeapMatrix offB = OffHeapMatrix.copyOf(B);
+             OffHeapMatrix dest = new OffHeapMatrix(2, 3)) {
+            MatrixOperations.add(offA, offB, dest);
+            assertArrayEquals(new int[][]{{7, 7, 7}, {7, 7, 7}}, dest.toMatrix().getData());
+
+            MatrixOperations.subtract(offA, offB, offA);
+            assertArrayEquals(new int[][]{{-5, -3, -1}, {1, 3, 5}}, offA.toMatrix().getData(),
+                    "The destination may be an operand.");
+
+            try (OffHeapMatrix wrongSize = new OffHeapMatrix(3, 2)) {
+                assertThrows(IllegalArgumentException.class, () -> MatrixOperations.add(offA, offB, wrongSize));
+            }
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package edu.jhu.algos.test.profiling;
+
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.io.MatrixFileHandler;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Java Flight Recorder events.
+ * Ensures multiply() calls, Strassen recursion levels and file parses are recorded
+ * with their dimensions, counts and outcome.
+ */
+class FlightRecorderEventsTest {
+
+    private static final String MULTIPLY = "edu.jhu.algos.Multiply";
+    private static final String STRASSEN_LEVEL = "edu.jhu.algos.StrassenLevel";
+    private static final String MATRIX_PARSE = "edu.jhu.algos.MatrixParse";
+
+    /**
+     * Tests that a Strassen multiply emits one Multiply event and one event per level above the base case.
+     */
+    @Test
+    void testStrassenEvents(@TempDir Path dir) throws IOException {
+        Matrix A = new Matrix(16);
+        Matrix B = new Matrix(16);
+        MatrixUtils.fillRandom(A, 1, 9);
+        MatrixUtils.fillRandom(B, 1, 9);
+        StrassenMultiplication strassen = new StrassenMultiplication(2);
+
+        List<RecordedEvent> events = record(dir, () -> strassen.multiply(A, B));
+
+        List<RecordedEvent> multiplies = ofType(events, MULTIPLY);
+        assertEquals(1, multiplies.size(), "One multiply() call should give one event.");
+        RecordedEvent multiply = multiplies.get(0);
+        assertEquals("Strassen", multiply.getString("algorithm"));
+        assertEquals(16, multiply.getInt("rows"));
+        assertEquals(16, multiply.getInt("inner"));
+        assertEquals(16, multiply.getInt("columns"));
+        assertEquals(256, multiply.getLong("elements"));
+        assertEquals(strassen.getMultiplicationCount(), multiply.getLong("multiplications"));
+
+        // Levels 16, 8 and 4 are recorded (1 + 7 + 49), the 2x2 leaves are not
+        List<RecordedEvent> levels = ofType(events, STRASSEN_LEVEL);
+        assertEquals(57, levels.size(), "Every level above the cutoff should give one event.");
+        for (RecordedEvent level : levels) {
+            int depth = level.getInt("depth");
+            int subProduct = level.getInt("subProduct");
+            assertEquals(16 >> depth, level.getInt("rows"), "Each level should halve the block.");
+            assertTrue(depth == 0 ? subProduct == 0 : subProduct >= 1 && subProduct <= 7,
+                    "Sub-products below the top should be numbered 1..7.");
+        }
+        RecordedEvent top = levels.stream().filter(e -> e.getInt("depth") == 0).findFirst().orElseThrow();
+        assertEquals(StrassenMultiplication.countMultiplications(16, 16, 16, 2), top.getLong("multiplications"));
+        assertEquals(7, levels.stream().filter(e -> e.getInt("depth") == 2 && e.getInt("subProduct") == 4).count(),
+                "Each depth-1 block should have its own M4.");
+    }
+
+    /**
+     * Tests that file parses are recorded with their pair and element counts, and failures are marked.
+     */
+    @Test
+    void testParseEvents(@TempDir Path dir) throws IOException {
+        Path valid = dir.resolve("valid.txt");
+        Files.writeString(valid, "2\n1 2\n3 4\n5 6\n7 8\n\n1 2 3\n1 2\n3 4 5\n6 7 8\n");
+        Path invalid = dir.resolve("invalid.txt");
+        Files.writeString(invalid, "2\n1 2\n3\n");
+        MatrixFileHandler handler = new MatrixFileHandler();
+
+        List<RecordedEvent> events = record(dir, () -> {
+            handler.readMatrixPairs(valid.toString());
+            assertThrows(IOException.class, () -> handler.readMatrixPairs(invalid.toString()));
+        });
+
+        List<RecordedEvent> parses = ofType(events, MATRIX_PARSE);
+        assertEquals(2, parses.size(), "Both parses should be recorded.");
+        RecordedEvent ok = parses.stream().filter(e -> e.getBoolean("succeeded")).findFirst().orElseThrow();
+        assertEquals(valid.toString(), ok.getString("path"));
+        assertEquals(2, ok.getInt("pairs"));
+        assertEquals(8 + 2 + 6, ok.getLong("elements"));
+        RecordedEvent failed = parses.stream().filter(e -> !e.getBoolean("succeeded")).findFirst().orElseThrow();
+        assertEquals(invalid.toString(), failed.getString("path"));
+        assertEquals(0, failed.getInt("pairs"));
+    }
+
+    /**
+     * Runs 'action' under a recording with the three events enabled and returns what was recorded.
+     */
+    private static List<RecordedEvent> record(Path dir, RecordedAction action) throws IOException {
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MULTIPLY).withThreshold(Duration.ZERO);
+            recording.enable(STRASSEN_LEVEL).withThreshold(Duration.ZERO);
+            recording.enable(MATRIX_PARSE).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface RecordedAction {
+        void run() throws IOException;
+    }
+}
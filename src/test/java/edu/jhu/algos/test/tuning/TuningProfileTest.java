@@ -0,0 +1,79 @@
+package edu.jhu.algos.test.tuning;
+
+import edu.jhu.algos.tuning.CrossoverTuner;
+import edu.jhu.algos.tuning.TuningProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TuningProfile persistence and the CrossoverTuner.
+ */
+class TuningProfileTest {
+
+    /**
+     * Tests that a saved profile loads back with the same values.
+     */
+    @Test
+    void testSaveAndLoadRoundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("nested").resolve("tuning.properties");
+        TuningProfile original = new TuningProfile(64, 8, "amd64", 512);
+
+        original.save(file);
+        TuningProfile loaded = TuningProfile.load(file);
+
+        assertEquals(64, loaded.getStrassenCutoff(), "Cutoff should survive a round trip.");
+        assertEquals(8, loaded.getAvailableProcessors(), "Processor count should survive a round trip.");
+        assertEquals("amd64", loaded.getOsArch(), "Architecture should survive a round trip.");
+        assertEquals(512, loaded.getMaxSize(), "Max size should survive a round trip.");
+    }
+
+    /**
+     * Tests that a profile built for the current host is recognized as matching it.
+     */
+    @Test
+    void testMatchesCurrentHost() {
+        assertTrue(TuningProfile.forCurrentHost(16, 64).matchesCurrentHost(), "Profile should match its own host.");
+        assertFalse(new TuningProfile(16, -1, "none", 64).matchesCurrentHost(), "Foreign profile should not match.");
+    }
+
+    /**
+     * Tests that a corrupt profile file is reported as an IOException.
+     */
+    @Test
+    void testLoadInvalidProfile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("tuning.properties");
+        Files.writeString(file, "strassen.cutoff=abc\n");
+
+        Exception e = assertThrows(IOException.class, () -> TuningProfile.load(file));
+        assertTrue(e.getMessage().contains("Invalid tuning profile"));
+    }
+
+    /**
+     * Tests that the tuner measures every size and returns a cutoff within range.
+     */
+    @Test
+    void testTunerProducesCutoffInRange() {
+        CrossoverTuner tuner = new CrossoverTuner(32, 1);
+        TuningProfile profile = tuner.tune();
+
+        int cutoff = profile.getStrassenCutoff();
+        assertTrue(cutoff >= 1 && cutoff <= 32, "Cutoff should lie between 1 and the max size, got " + cutoff);
+        assertEquals(5, tuner.getDirectTimesNs().size(), "Sizes 2..32 should all be measured.");
+        assertEquals(32, profile.getMaxSize());
+    }
+
+    /**
+     * Tests argument validation of the tuner.
+     */
+    @Test
+    void testInvalidTunerArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CrossoverTuner(48, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CrossoverTuner(64, 0));
+    }
+}
@@ -73,7 +73,7 @@ class MatrixValidatorTest {
     }
 
     /**
-     * Tests if a matrix is valid (square and a power of 2).
+     * Tests if a matrix is valid (non-empty and rectangular, any size).
      */
     @Test
     void testIsValidMatrix() {
@@ -83,18 +83,44 @@ class MatrixValidatorTest {
         };
         assertTrue(MatrixValidator.isValidMatrix(validMatrix), "Valid 2x2 matrix should pass.");
 
-        int[][] invalidMatrix = {
+        int[][] rectangularMatrix = {
                 {1, 2, 3},
                 {4, 5, 6}
         };
-        assertFalse(MatrixValidator.isValidMatrix(invalidMatrix), "Non-square matrix should fail.");
+        assertTrue(MatrixValidator.isValidMatrix(rectangularMatrix), "2x3 matrix should pass.");
 
         int[][] nonPowerOfTwoMatrix = {
                 {1, 2, 3},
                 {4, 5, 6},
                 {7, 8, 9}
         };
-        assertFalse(MatrixValidator.isValidMatrix(nonPowerOfTwoMatrix), "3x3 matrix (not power of 2) should fail.");
+        assertTrue(MatrixValidator.isValidMatrix(nonPowerOfTwoMatrix), "3x3 matrix should pass.");
+
+        int[][] raggedMatrix = {
+                {1, 2, 3},
+                {4, 5}
+        };
+        assertFalse(MatrixValidator.isValidMatrix(raggedMatrix), "Ragged matrix should fail.");
+        assertFalse(MatrixValidator.isValidMatrix(new int[][]{ {} }), "Matrix with empty rows should fail.");
+        assertFalse(MatrixValidator.isValidMatrix(new int[0][0]), "Empty matrix should fail.");
+    }
+
+    /**
+     * Tests rectangular size and compatibility checks.
+     */
+    @Test
+    void testRectangularSizeChecks() {
+        Matrix A = new Matrix(2, 3);
+        Matrix B = new Matrix(3, 5);
+
+        assertTrue(MatrixValidator.isMultipliable(A, B), "2x3 times 3x5 should be defined.");
+        assertFalse(MatrixValidator.isMultipliable(B, A), "3x5 times 2x3 should not be defined.");
+        assertTrue(MatrixValidator.isSameSize(A, new Matrix(2, 3)), "Two 2x3 matrices should be the same size.");
+        assertFalse(MatrixValidator.isSameSize(A, new Matrix(3, 2)), "2x3 and 3x2 should NOT be the same size.");
+        assertTrue(MatrixValidator.isValidIndex(1, 4, 2, 5), "Index (1,4) should be valid in a 2x5 matrix.");
+        assertFalse(MatrixValidator.isValidIndex(2, 0, 2, 5), "Index (2,0) should be out of bounds in a 2x5 matrix.");
+        assertFalse(MatrixValidator.isIdentityMatrix(A), "A rectangular matrix is never an identity.");
+        assertFalse(MatrixValidator.isSymmetric(A), "A rectangular matrix is never symmetric.");
     }
 
     /**
@@ -114,6 +140,9 @@ class MatrixValidatorTest {
     void testIsValidSubMatrix() {
         assertTrue(MatrixValidator.isValidSubMatrix(0, 0, 2, 4), "Valid 2x2 submatrix in 4x4 should pass.");
         assertFalse(MatrixValidator.isValidSubMatrix(3, 3, 2, 4), "Invalid submatrix exceeding 4x4 bounds should fail.");
+        assertTrue(MatrixValidator.isValidSubMatrix(1, 2, 2, 3, 3, 5), "A 2x3 block at (1, 2) fits a 3x5 matrix.");
+        assertFalse(MatrixValidator.isValidSubMatrix(2, 2, 2, 3, 3, 5), "A 2x3 block at (2, 2) exceeds a 3x5 matrix.");
+        assertFalse(MatrixValidator.isValidSubMatrix(0, 0, -1, 3, 3, 5), "Negative block sizes should fail.");
     }
 
     /**
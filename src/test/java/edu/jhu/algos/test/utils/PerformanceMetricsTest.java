@@ -159,4 +159,63 @@ class PerformanceMetricsTest {
         assertEquals(0, metrics.getElapsedTimeMs(),
                 "Elapsed time should be 0 if stopTimer() was never called.");
     }
+
+    /**
+     * Tests that nanosecond timing is kept without truncation, and that phase times accumulate and reset.
+     */
+    @Test
+    void testNanosecondTimingAndPhases() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        metrics.startTimer();
+        metrics.stopTimer();
+
+        long ns = metrics.getElapsedTimeNs();
+        assertTrue(ns > 0, "Even a sub-millisecond span should have a nanosecond time.");
+        assertEquals(ns / 1_000_000, metrics.getElapsedTimeMs(), "Milliseconds should be derived from nanoseconds.");
+
+        metrics.addPhaseTime(PerformanceMetrics.Phase.SPLIT, 100);
+        metrics.addPhaseTime(PerformanceMetrics.Phase.SPLIT, 50);
+        metrics.addPhaseTime(PerformanceMetrics.Phase.MERGE, 7);
+        assertEquals(150, metrics.getPhaseTimeNs(PerformanceMetrics.Phase.SPLIT));
+        assertEquals(7, metrics.getPhaseTimeNs(PerformanceMetrics.Phase.MERGE));
+        assertEquals(0, metrics.getPhaseTimeNs(PerformanceMetrics.Phase.RECURSION));
+
+        metrics.resetAll();
+        assertEquals(0, metrics.getElapsedTimeNs());
+        for (PerformanceMetrics.Phase phase : PerformanceMetrics.Phase.values()) {
+            assertEquals(0, metrics.getPhaseTimeNs(phase), "Phase times should be reset.");
+        }
+    }
+
+    /**
+     * Tests that sampled tallies and closed-form counts are only kept in their own counting mode.
+     */
+    @Test
+    void testCountingModes() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        try {
+            assertEquals(PerformanceMetrics.CountingMode.SAMPLED, PerformanceMetrics.getCountingMode(),
+                    "Sampled counting should be the default.");
+            metrics.addSampledMultiplications(10);
+            metrics.addAnalyticMultiplications(() -> 1000);
+            assertEquals(10, metrics.getMultiplicationCount());
+
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.ANALYTIC);
+            assertFalse(PerformanceMetrics.isSampling());
+            metrics.resetAll();
+            metrics.addSampledMultiplications(10);
+            metrics.addAnalyticMultiplications(() -> 1000);
+            assertEquals(1000, metrics.getMultiplicationCount());
+
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.OFF);
+            metrics.resetAll();
+            metrics.addSampledMultiplications(10);
+            metrics.addAnalyticMultiplications(() -> {
+                throw new AssertionError("The closed form should not be computed when counting is off.");
+            });
+            assertEquals(0, metrics.getMultiplicationCount());
+        } finally {
+            PerformanceMetrics.setCountingMode(PerformanceMetrics.CountingMode.SAMPLED);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package edu.jhu.algos.test.utils;
+
+import edu.jhu.algos.algorithms.StrassenMultiplication;
+import edu.jhu.algos.models.Matrix;
+import edu.jhu.algos.utils.MatrixUtils;
+import edu.jhu.algos.utils.ResourceUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the ResourceUsage class.
+ * Ensures allocations on the calling thread and on worker threads are attributed to the
+ * measured span, and that multipliers expose the usage of their last call.
+ */
+class ResourceUsageTest {
+
+    private static long[] sink;  // Keeps test allocations reachable so they are not optimized away
+
+    /**
+     * Tests that an allocation on the calling thread is measured, and that reset() clears it.
+     */
+    @Test
+    void testCallingThreadAllocation() {
+        assumeTrue(ResourceUsage.isAllocationTracked(), "Allocation tracking is not supported on this JVM.");
+        ResourceUsage usage = new ResourceUsage();
+
+        usage.start();
+        sink = new long[1 << 20];  // 8 MB
+        usage.stop();
+
+        assertTrue(usage.getAllocatedBytes() >= 8L << 20, "The 8 MB array should be counted.");
+        assertTrue(usage.getGcCount() >= 0 && usage.getGcTimeMs() >= 0, "GC deltas should not be negative.");
+
+        usage.reset();
+        assertEquals(0, usage.getAllocatedBytes());
+        assertEquals(0, usage.getGcCount());
+    }
+
+    /**
+     * Tests that allocations made by worker threads during the span are included.
+     */
+    @Test
+    void testWorkerThreadAllocation() throws Exception {
+        assumeTrue(ResourceUsage.isAllocationTracked(), "Allocation tracking is not supported on this JVM.");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            pool.submit(() -> { }).get();  // Start a worker before measuring
+            ResourceUsage usage = new ResourceUsage();
+
+            usage.start();
+            pool.submit(() -> sink = new long[1 << 20]).get();
+            usage.stop();
+
+            assertTrue(usage.getAllocatedBytes() >= 8L << 20, "The worker's 8 MB array should be counted.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a multiplier reports the allocation of its last multiply() call.
+     */
+    @Test
+    void testMultiplierReportsAllocation() {
+        assumeTrue(ResourceUsage.isAllocationTracked(), "Allocation tracking is not supported on this JVM.");
+        Matrix A = new Matrix(64);
+        Matrix B = new Matrix(64);
+        MatrixUtils.fillRandom(A, 1, 9);
+        MatrixUtils.fillRandom(B, 1, 9);
+
+        StrassenMultiplication strassen = new StrassenMultiplication(8);
+        strassen.multiply(A, B);
+        // S, T and P for the 32, 16 and 8 levels: 3 * (32^2 + 16^2 + 8^2) ints
+        long workspaceBytes = 3L * (32 * 32 + 16 * 16 + 8 * 8) * Integer.BYTES;
+        assertTrue(strassen.getResourceUsage().getAllocatedBytes() >= workspaceBytes,
+                "The first call should count its recursion workspace.");
+    }
+}
@@ -0,0 +1,92 @@
+package edu.jhu.algos.test.utils;
+
+import edu.jhu.algos.utils.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Tracer class.
+ * Ensures disabled messages are never built, levels and sampling filter correctly,
+ * and the asynchronous writer delivers every accepted message in order.
+ */
+class TracerTest {
+
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void redirectOutput() {
+        Tracer.setOutput(new PrintStream(captured, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void restoreDefaults() {
+        Tracer.setLevel(Tracer.Level.OFF);
+        Tracer.setSampleInterval(1);
+        Tracer.setOutput(System.out);
+    }
+
+    /**
+     * Tests that no supplier runs while tracing is off.
+     */
+    @Test
+    void testDisabledMessagesAreNotBuilt() {
+        AtomicInteger built = new AtomicInteger();
+        Tracer.setLevel(Tracer.Level.OFF);
+
+        Tracer.info(() -> "info " + built.incrementAndGet());
+        Tracer.debug(() -> "debug " + built.incrementAndGet());
+        Tracer.trace(() -> "trace " + built.incrementAndGet());
+        Tracer.flush();
+
+        assertEquals(0, built.get(), "Disabled messages should never be built.");
+        assertEquals("", captured.toString(StandardCharsets.UTF_8), "Nothing should be printed.");
+    }
+
+    /**
+     * Tests that messages above the current level are dropped and the others are written in order.
+     */
+    @Test
+    void testLevelsFilterMessages() {
+        Tracer.setLevel(Tracer.Level.DEBUG);
+        assertTrue(Tracer.isEnabled(Tracer.Level.INFO));
+        assertTrue(Tracer.isEnabled(Tracer.Level.DEBUG));
+        assertFalse(Tracer.isEnabled(Tracer.Level.TRACE));
+        assertFalse(Tracer.isEnabled(Tracer.Level.OFF), "OFF is not a message level.");
+
+        Tracer.info(() -> "first");
+        Tracer.trace(() -> "hidden");
+        Tracer.debug(() -> "second");
+        Tracer.flush();
+
+        String[] lines = captured.toString(StandardCharsets.UTF_8).split("\\R");
+        assertArrayEquals(new String[]{"[INFO] first", "[DEBUG] second"}, lines);
+    }
+
+    /**
+     * Tests that only every Nth TRACE event is recorded.
+     */
+    @Test
+    void testTraceSampling() {
+        Tracer.setLevel(Tracer.Level.TRACE);
+        Tracer.setSampleInterval(10);
+
+        AtomicInteger built = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            Tracer.trace(() -> "event " + built.incrementAndGet());
+        }
+        Tracer.flush();
+
+        assertEquals(10, built.get(), "Only sampled events should be built.");
+        assertEquals(10, captured.toString(StandardCharsets.UTF_8).split("\\R").length,
+                "Only sampled events should be printed.");
+        assertThrows(IllegalArgumentException.class, () -> Tracer.setSampleInterval(0));
+    }
+}